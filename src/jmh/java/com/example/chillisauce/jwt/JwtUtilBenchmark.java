@@ -0,0 +1,53 @@
+package com.example.chillisauce.jwt;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.Base64;
+
+/**
+ * 요청마다 수행되는 JWT 검증 비용
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private String invalidToken;
+
+    @Setup
+    public void setUp() {
+        // 잘못된 토큰마다 남기는 INFO 로그가 검증 비용보다 커서 측정에서 제외
+        ((Logger) LoggerFactory.getLogger(JwtUtil.class)).setLevel(Level.WARN);
+
+        String secretKey = Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+        // 검증만 측정하므로 UserDetailsService 는 사용하지 않음
+        jwtUtil = new JwtUtil(secretKey, null);
+
+        Companies company = Companies.builder().companyName("benchmarkCompany").certification("cert").build();
+        User user = User.builder()
+                .id(1L)
+                .email("benchmark@test.com")
+                .username("benchmark")
+                .role(UserRoleEnum.USER)
+                .companies(company)
+                .build();
+        token = jwtUtil.createToken(user).substring(JwtUtil.BEARER_PREFIX.length());
+        invalidToken = token.substring(0, token.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateInvalidToken() {
+        return jwtUtil.validateToken(invalidToken);
+    }
+}
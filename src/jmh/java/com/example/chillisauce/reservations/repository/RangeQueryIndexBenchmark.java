@@ -0,0 +1,167 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.schedules.entity.Schedule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.sql.*;
+import java.time.LocalDateTime;
+
+/**
+ * 예약/스케줄 기간 겹침 조회의 인덱스 유무에 따른 비용
+ * 엔티티의 @Table(indexes) 를 그대로 읽어 인덱스를 만들고, 실행 계획은 Setup 에서 출력한다
+ * 기본은 H2 인메모리, -Djmh.jdbc.url / user / password 로 MySQL 등 다른 DB 를 지정할 수 있다
+ */
+@State(Scope.Benchmark)
+public class RangeQueryIndexBenchmark {
+
+    private static final String RESERVATION_OVERLAP = "select id from reservation " +
+            "where meeting_room_id = ? and start_time < ? and end_time > ?";
+    private static final String SCHEDULE_OVERLAP = "select id from schedule " +
+            "where user_id = ? and start_time < ? and end_time > ? order by start_time";
+
+    private static final int MEETING_ROOMS = 50;
+    private static final int USERS = 500;
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    @Param({"false", "true"})
+    boolean indexed;
+
+    private final LocalDateTime base = LocalDateTime.of(2023, 1, 2, 7, 0);
+    private Connection connection;
+    private PreparedStatement reservationQuery;
+    private PreparedStatement scheduleQuery;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("jmh.jdbc.url", "jdbc:h2:mem:range_" + rows + "_" + indexed + ";DB_CLOSE_DELAY=-1"),
+                System.getProperty("jmh.jdbc.user", "sa"),
+                System.getProperty("jmh.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists reservation");
+            statement.execute("drop table if exists schedule");
+            statement.execute("create table reservation (id bigint auto_increment primary key, " +
+                    "meeting_room_id bigint, user_id bigint, start_time timestamp not null, end_time timestamp not null)");
+            statement.execute("create table schedule (id bigint auto_increment primary key, " +
+                    "user_id bigint, start_time timestamp not null, end_time timestamp not null)");
+        }
+        insertRows();
+        if (indexed) {
+            createIndexes("reservation", Reservation.class);
+            createIndexes("schedule", Schedule.class);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        } catch (SQLException ignored) {
+            // analyze 를 지원하지 않는 DB 는 통계 없이 진행
+        }
+
+        reservationQuery = connection.prepareStatement(RESERVATION_OVERLAP);
+        scheduleQuery = connection.prepareStatement(SCHEDULE_OVERLAP);
+        printPlan(RESERVATION_OVERLAP, 1L);
+        printPlan(SCHEDULE_OVERLAP, 1L);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void reservationOverlap(Blackhole blackhole) throws SQLException {
+        long meetingRoomId = (cursor++ % MEETING_ROOMS) + 1;
+        LocalDateTime start = base.plusDays(cursor % 365).plusHours(cursor % 16);
+        blackhole.consume(count(reservationQuery, meetingRoomId, start, start.plusMinutes(59)));
+    }
+
+    @Benchmark
+    public void scheduleDayView(Blackhole blackhole) throws SQLException {
+        long userId = (cursor++ % USERS) + 1;
+        LocalDateTime dayStart = base.toLocalDate().plusDays(cursor % 365).atStartOfDay();
+        blackhole.consume(count(scheduleQuery, userId, dayStart, dayStart.plusDays(1)));
+    }
+
+    // 1년치 날짜의 07시 ~ 22시 사이에 1시간짜리 예약/스케줄을 고르게 분산
+    private void insertRows() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement reservation = connection.prepareStatement(
+                "insert into reservation (meeting_room_id, user_id, start_time, end_time) values (?, ?, ?, ?)");
+             PreparedStatement schedule = connection.prepareStatement(
+                     "insert into schedule (user_id, start_time, end_time) values (?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                LocalDateTime start = base.plusDays(i % 365).plusHours(i % 16);
+                Timestamp startTime = Timestamp.valueOf(start);
+                Timestamp endTime = Timestamp.valueOf(start.plusMinutes(59));
+
+                reservation.setLong(1, (i % MEETING_ROOMS) + 1);
+                reservation.setLong(2, (i % USERS) + 1);
+                reservation.setTimestamp(3, startTime);
+                reservation.setTimestamp(4, endTime);
+                reservation.addBatch();
+
+                schedule.setLong(1, (i % USERS) + 1);
+                schedule.setTimestamp(2, startTime);
+                schedule.setTimestamp(3, endTime);
+                schedule.addBatch();
+
+                if (i % 1000 == 999) {
+                    reservation.executeBatch();
+                    schedule.executeBatch();
+                }
+            }
+            reservation.executeBatch();
+            schedule.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private void createIndexes(String table, Class<?> entity) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (Index index : entity.getAnnotation(Table.class).indexes()) {
+                statement.execute("create index " + index.name() + " on " + table + " (" + index.columnList() + ")");
+            }
+        }
+    }
+
+    private void printPlan(String sql, long ownerId) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+            bind(explain, ownerId, base.plusHours(1), base);
+            try (ResultSet resultSet = explain.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                int columns = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        plan.append(resultSet.getString(i)).append(i < columns ? " | " : "\n");
+                    }
+                }
+                System.out.println("[rows=" + rows + ", indexed=" + indexed + "]\n" + plan);
+            }
+        }
+    }
+
+    private int count(PreparedStatement query, long ownerId, LocalDateTime start, LocalDateTime end) throws SQLException {
+        bind(query, ownerId, end, start);
+        int count = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void bind(PreparedStatement query, long ownerId, LocalDateTime endBound, LocalDateTime startBound) throws SQLException {
+        query.setLong(1, ownerId);
+        query.setTimestamp(2, Timestamp.valueOf(endBound));
+        query.setTimestamp(3, Timestamp.valueOf(startBound));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.dto.response.ReservationTimeResponse;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.vo.ReservationTimetable;
+import com.example.chillisauce.reservations.vo.TimeSlotBitmap;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.objenesis.SpringObjenesis;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회의실 1개의 하루 예약 타임테이블 생성 비용
+ * ReservationService.getReservationTimetable 에서 DB 조회를 제외한 부분을 측정한다
+ */
+@State(Scope.Benchmark)
+public class ReservationTimetableBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    int reservationsPerDay;
+
+    private final LocalDate selDate = LocalDate.now().plusDays(1L);
+    private ReservationService reservationService;
+    private List<Reservation> reservations;
+
+    @Setup
+    public void setUp() {
+        // 의존성 없이 package-private 메서드만 호출하기 위해 생성자를 거치지 않고 인스턴스 생성
+        reservationService = new SpringObjenesis().newInstance(ReservationService.class);
+
+        // 운영 시간 안에서 1시간 단위 예약을 순환 배치
+        int hours = ReservationTimetable.CLOSE_HOUR - ReservationTimetable.OPEN_HOUR + 1;
+        reservations = new ArrayList<>(reservationsPerDay);
+        for (int i = 0; i < reservationsPerDay; i++) {
+            LocalDateTime start = selDate.atTime(ReservationTimetable.OPEN_HOUR + (i % hours), 0);
+            reservations.add(Reservation.builder()
+                    .id((long) i)
+                    .startTime(start)
+                    .endTime(start.plusMinutes(59))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ReservationTimeResponse> timetable() {
+        TimeSlotBitmap bitmap = new TimeSlotBitmap(selDate);
+        for (Reservation reservation : reservations) {
+            bitmap.mark(reservation.getStartTime(), reservation.getEndTime());
+        }
+        return reservationService.toTimeList(bitmap);
+    }
+
+    @Benchmark
+    public TimeSlotBitmap markOnly() {
+        TimeSlotBitmap bitmap = new TimeSlotBitmap(selDate);
+        for (Reservation reservation : reservations) {
+            bitmap.mark(reservation.getStartTime(), reservation.getEndTime());
+        }
+        return bitmap;
+    }
+}
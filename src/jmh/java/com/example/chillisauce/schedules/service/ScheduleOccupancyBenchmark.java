@@ -0,0 +1,54 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.reservations.vo.TimeSlotBitmap;
+import com.example.chillisauce.schedules.entity.Schedule;
+import com.example.chillisauce.schedules.vo.ScheduleTimeTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.objenesis.SpringObjenesis;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 개인 스케줄 하루 타임테이블의 타임별 점유 여부 판단 비용
+ * ScheduleService.getDaySchedules 가 스케줄을 한 번 순회해 비트맵을 채우고 타임별로 조회하는 방식을 측정한다
+ */
+@State(Scope.Benchmark)
+public class ScheduleOccupancyBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    int reservationsPerDay;
+
+    private final LocalDate selDate = LocalDate.now().plusDays(1L);
+    private ScheduleService scheduleService;
+    private List<Schedule> schedules;
+
+    @Setup
+    public void setUp() {
+        scheduleService = new SpringObjenesis().newInstance(ScheduleService.class);
+
+        int hours = ScheduleTimeTable.CLOSE_HOUR - ScheduleTimeTable.OPEN_HOUR + 1;
+        schedules = new ArrayList<>(reservationsPerDay);
+        for (int i = 0; i < reservationsPerDay; i++) {
+            LocalDateTime start = selDate.atTime(ScheduleTimeTable.OPEN_HOUR + (i % hours), 0);
+            schedules.add(Schedule.builder()
+                    .id((long) i)
+                    .title("회의")
+                    .comment("회의실")
+                    .startTime(start)
+                    .endTime(start.plusMinutes(59))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void isOccupiedForEveryTimeUnit(Blackhole blackhole) {
+        TimeSlotBitmap bitmap = scheduleService.toBitmap(selDate, schedules);
+        for (int hour = ScheduleTimeTable.OPEN_HOUR; hour <= ScheduleTimeTable.CLOSE_HOUR; hour++) {
+            blackhole.consume(bitmap.isOccupied(hour));
+        }
+    }
+}
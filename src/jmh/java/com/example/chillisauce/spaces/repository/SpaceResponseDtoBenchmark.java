@@ -0,0 +1,66 @@
+package com.example.chillisauce.spaces.repository;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.entity.*;
+import com.example.chillisauce.users.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.objenesis.SpringObjenesis;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공간 1개 조회 응답 DTO 변환 비용
+ * SpaceRepositoryImpl.createSpaceResponseDto 에서 조회를 제외한 엔티티 -> DTO 변환을 측정한다
+ */
+@State(Scope.Benchmark)
+public class SpaceResponseDtoBenchmark {
+
+    @Param({"10", "100", "500"})
+    int locationsPerSpace;
+
+    @Param({"1", "16"})
+    int reservationsPerDay;
+
+    private SpaceRepositoryImpl spaceRepository;
+    private Space space;
+
+    @Setup
+    public void setUp() {
+        // EntityManager 없이 변환 메서드만 호출하기 위해 생성자를 거치지 않고 인스턴스 생성
+        spaceRepository = new SpringObjenesis().newInstance(SpaceRepositoryImpl.class);
+
+        space = Space.builder().id(1L).spaceName("benchmarkSpace").build();
+        LocalDateTime today = LocalDateTime.now().withHour(7).withMinute(0).withSecond(0).withNano(0);
+
+        // 박스 : 멀티박스 : 회의실 = 8 : 1 : 1 비율로 배치
+        for (long i = 0; i < locationsPerSpace; i++) {
+            User user = User.builder().id(i).username("user" + i).build();
+            if (i % 10 == 8) {
+                MultiBox multiBox = new MultiBox(i, "multiBox" + i, "100", "100");
+                space.addLocation(multiBox);
+                multiBox.getUserLocations().add(new UserLocation(multiBox, user));
+            } else if (i % 10 == 9) {
+                List<Reservation> reservations = new ArrayList<>();
+                for (int r = 0; r < reservationsPerDay; r++) {
+                    LocalDateTime start = today.plusHours(r % 16);
+                    reservations.add(Reservation.builder().id(i * 100 + r)
+                            .startTime(start).endTime(start.plusMinutes(59)).build());
+                }
+                Mr mr = Mr.builder().id(i).locationName("mr" + i).x("100").y("100").reservation(reservations).build();
+                space.addLocation(mr);
+            } else {
+                Box box = new Box(i, "box" + i, "100", "100");
+                space.addLocation(box);
+                box.getUserLocations().add(new UserLocation(box, user));
+            }
+        }
+    }
+
+    @Benchmark
+    public SpaceResponseDto createSpaceResponseDto() {
+        return spaceRepository.createSpaceResponseDto(space);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.chillisauce.users.index;
+
+import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 예약 폼 참석자 자동완성의 회사 단위 유저 검색 비용
+ * 이름은 흔한 성 + 임의의 두 음절로 만든다
+ */
+@State(Scope.Benchmark)
+public class CompanyUserIndexBenchmark {
+
+    private static final String FAMILY_NAMES = "김이박최정강조윤장임한오서신권황안송류홍";
+
+    @Param({"1000", "10000"})
+    int users;
+
+    private CompanyUserIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<UserDetailResponseDto> loaded = new ArrayList<>();
+        for (long id = 1; id <= users; id++) {
+            String username = FAMILY_NAMES.charAt(random.nextInt(FAMILY_NAMES.length()))
+                    + syllable(random) + syllable(random);
+            loaded.add(new UserDetailResponseDto(id, "user" + id + "@test.com", username, UserRoleEnum.USER));
+        }
+        loaded.add(new UserDetailResponseDto(users + 1L, "hong@test.com", "홍길동", UserRoleEnum.USER));
+        index = new CompanyUserIndex();
+        index.install(loaded, index.version(), LocalDateTime.now());
+    }
+
+    @Benchmark
+    public List<UserDetailResponseDto> initialOneLetter() {
+        return index.searchInitials("ㅎ", 5);
+    }
+
+    @Benchmark
+    public List<UserDetailResponseDto> initialFullName() {
+        return index.searchInitials("ㅎㄱㄷ", 5);
+    }
+
+    @Benchmark
+    public List<UserDetailResponseDto> keyword() {
+        return index.search("길동", 5);
+    }
+
+    private static char syllable(Random random) {
+        return (char) ('가' + random.nextInt('힣' - '가' + 1));
+    }
+}
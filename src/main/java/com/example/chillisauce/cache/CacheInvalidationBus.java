@@ -0,0 +1,50 @@
+package com.example.chillisauce.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 으로 로컬 캐시 무효화를 다른 노드에 전파
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+    public static final String TOPIC = "cache:invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 자신이 보낸 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /* 무효화 발행, key 가 null 이면 전체 비우기 */
+    public void publish(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+            redisTemplate.convertAndSend(TOPIC, payload);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 전파에 실패해도 다른 노드의 로컬 캐시는 TTL 로 만료됨
+            log.warn("캐시 무효화 메시지 발행 실패 cacheName={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /* 수신 메시지 해석, 자신이 보냈거나 해석할 수 없으면 null */
+    public CacheInvalidationMessage decode(byte[] body) {
+        try {
+            CacheInvalidationMessage message = objectMapper.readValue(body, CacheInvalidationMessage.class);
+            return nodeId.equals(message.getOrigin()) ? null : message;
+        } catch (IOException e) {
+            log.warn("캐시 무효화 메시지 해석 실패", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.chillisauce.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지
+ * key 가 null 이면 캐시 전체 비우기
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+    private String origin;
+    private String cacheName;
+    private String key;
+}
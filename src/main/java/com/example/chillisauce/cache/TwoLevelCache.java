@@ -0,0 +1,114 @@
+package com.example.chillisauce.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬 Caffeine(L1) 을 먼저 보고 없으면 Redis(L2) 를 조회하는 캐시
+ * 변경은 L2 에 먼저 반영하고 다른 노드의 L1 은 pub/sub 으로 무효화
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+
+    public TwoLevelCache(String name, Cache<String, Object> local,
+                         org.springframework.cache.Cache remote, CacheInvalidationBus invalidationBus) {
+        // L2 가 null 을 저장하지 않으므로 L1 도 null 을 저장하지 않음
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return (T) value;
+        }
+
+        T loaded = remote.get(key, valueLoader);
+        if (loaded != null) {
+            local.put(localKey, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), value);
+        invalidationBus.publish(name, localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            local.put(localKey(key), value);
+            invalidationBus.publish(name, localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationBus.publish(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationBus.publish(name, null);
+    }
+
+    /* 다른 노드에서 전파된 무효화 처리 */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    // RedisCache 와 같이 키를 문자열로 맞춰 노드 간 무효화 메시지로 주고받음
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.chillisauce.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Redis 캐시 매니저 앞에 캐시별 로컬 캐시를 두는 매니저
+ * 다른 노드가 발행한 무효화 메시지를 받아 로컬 캐시를 비움
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+    private final CacheManager remoteCacheManager;
+    private final Caffeine<Object, Object> localSpec;
+    private final CacheInvalidationBus invalidationBus;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Caffeine<Object, Object> localSpec,
+                                CacheInvalidationBus invalidationBus) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpec = localSpec;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation = invalidationBus.decode(message.getBody());
+        if (invalidation == null) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(invalidation.getCacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.getKey() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.getKey());
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return new TwoLevelCache(name, localSpec.build(), remote, invalidationBus);
+    }
+}
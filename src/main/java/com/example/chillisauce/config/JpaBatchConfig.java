@@ -0,0 +1,26 @@
+package com.example.chillisauce.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정
+ * application.properties 에 같은 키가 있으면 그 값을 우선한다
+ * MySQL 은 rewriteBatchedStatements=true 를 JDBC URL 에 지정해야 다중 행 INSERT 로 전송된다
+ */
+@Configuration
+public class JpaBatchConfig {
+    public static final int BATCH_SIZE = 100;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE));
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, "true");
+        };
+    }
+}
@@ -1,17 +1,23 @@
 package com.example.chillisauce.config;
 
+import com.example.chillisauce.cache.CacheInvalidationBus;
+import com.example.chillisauce.cache.TwoLevelCacheManager;
+import com.example.chillisauce.reservations.index.MeetingRoomReservationIndex;
 import com.example.chillisauce.security.GrantedAuthorityDeserializer;
 import com.example.chillisauce.security.GrantedAuthoritySerializer;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.response.FloorResponseDto;
+import com.example.chillisauce.spaces.event.LocationEventBroker;
+import com.example.chillisauce.spaces.dto.response.SpaceOccupancyDto;
 import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
 import com.example.chillisauce.users.dto.response.UserListResponseDto;
+import com.example.chillisauce.users.index.UserSearchIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +26,8 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.security.core.GrantedAuthority;
@@ -40,6 +48,13 @@ public class RedisConfig {
     @Value("${spring.redis.password}")
     private String password;
 
+    // 로컬 캐시는 캐시별 최대 개수와 TTL 로 제한, 무효화 메시지를 놓쳐도 TTL 이 지나면 Redis 에서 다시 읽음
+    @Value("${cache.local.maximum-size:1000}")
+    private long localMaximumSize;
+
+    @Value("${cache.local.expire-seconds:60}")
+    private long localExpireSeconds;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
@@ -51,7 +66,8 @@ public class RedisConfig {
 
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             CacheInvalidationBus cacheInvalidationBus) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -67,6 +83,9 @@ public class RedisConfig {
         Jackson2JsonRedisSerializer<SpaceResponseDto> spaceListSerializer = new Jackson2JsonRedisSerializer<>(SpaceResponseDto.class);
         spaceListSerializer.setObjectMapper(objectMapper);
 
+        Jackson2JsonRedisSerializer<SpaceOccupancyDto> spaceOccupancySerializer = new Jackson2JsonRedisSerializer<>(SpaceOccupancyDto.class);
+        spaceOccupancySerializer.setObjectMapper(objectMapper);
+
         Jackson2JsonRedisSerializer<UserListResponseDto> userSerializer = new Jackson2JsonRedisSerializer<>
                 (objectMapper.getTypeFactory().constructType(UserListResponseDto.class));
         userSerializer.setObjectMapper(objectMapper);
@@ -103,6 +122,22 @@ public class RedisConfig {
                         .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(spaceListSerializer))
         );
 
+        // 배치도는 로케이션이 바뀔 때만 삭제되므로 길게 유지
+        builder.withCacheConfiguration("SpaceLayout",
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(Duration.ofMinutes(60))
+                        .disableCachingNullValues()
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(spaceSerializer))
+        );
+
+        // 점유 정보는 착석, 예약마다 바뀌므로 짧게 유지
+        builder.withCacheConfiguration("SpaceOccupancy",
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(Duration.ofMinutes(5))
+                        .disableCachingNullValues()
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(spaceOccupancySerializer))
+        );
+
         builder.withCacheConfiguration("UserResponseDtoList",
                 RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Duration.ofMinutes(60))
@@ -117,7 +152,31 @@ public class RedisConfig {
                         .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(userDetailsSerializer))
         );
 
-        return builder.build();
+        RedisCacheManager redisCacheManager = builder.build();
+        // 빈으로 등록하지 않으므로 캐시별 설정을 직접 초기화
+        redisCacheManager.initializeCaches();
+
+        Caffeine<Object, Object> localSpec = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localExpireSeconds));
+
+        return new TwoLevelCacheManager(redisCacheManager, localSpec, cacheInvalidationBus);
+    }
+
+    /* 다른 노드의 캐시 변경, 예약/유저 검색 인덱스 변경, 유저 위치 변경 구독 */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       TwoLevelCacheManager cacheManager,
+                                                                       LocationEventBroker locationEventBroker,
+                                                                       MeetingRoomReservationIndex reservationIndex,
+                                                                       UserSearchIndex userSearchIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationBus.TOPIC));
+        container.addMessageListener(reservationIndex, new ChannelTopic(CacheInvalidationBus.TOPIC));
+        container.addMessageListener(userSearchIndex, new ChannelTopic(CacheInvalidationBus.TOPIC));
+        container.addMessageListener(locationEventBroker, new ChannelTopic(LocationEventBroker.TOPIC));
+        return container;
     }
 
-}
\ No newline at end of file
+}
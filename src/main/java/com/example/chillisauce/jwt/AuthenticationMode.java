@@ -0,0 +1,11 @@
+package com.example.chillisauce.jwt;
+
+/**
+ * 토큰으로 인증 객체를 만드는 방식
+ */
+public enum AuthenticationMode {
+    // 토큰의 email 로 UserDetailsService(Redis 캐시 / DB) 를 조회
+    LOOKUP,
+    // 조회 없이 토큰에 담긴 userId, role, username, companyName 클레임으로 생성
+    CLAIMS
+}
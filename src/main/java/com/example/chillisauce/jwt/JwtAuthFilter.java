@@ -2,6 +2,7 @@ package com.example.chillisauce.jwt;
 
 import com.example.chillisauce.message.ResponseMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -27,16 +28,25 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         /* 엑세스토큰이 있고 검증절차를 통과하지 못하면 예외발생 */
         if(accessToken != null) {
-            if(!jwtUtil.validateToken(accessToken)){
+            // 검증과 클레임 추출을 한 번의 파싱으로 처리
+            Claims claims = jwtUtil.parseClaims(accessToken);
+            if(claims == null){
                 jwtExceptionHandler(response, "Token Error", HttpStatus.UNAUTHORIZED.value());
                 return;
             }
-            setAuthentication(jwtUtil.getUserInfoFromToken(accessToken));
+            setAuthentication(claims);
         }
         filterChain.doFilter(request, response);
     }
 
     /* 인증객체 생성 */
+    public void setAuthentication(Claims claims) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        Authentication authentication = jwtUtil.createAuthentication(claims);
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+    }
+
     public void setAuthentication(String email) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         Authentication authentication = jwtUtil.createAuthentication(email);
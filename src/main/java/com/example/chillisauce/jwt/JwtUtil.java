@@ -1,8 +1,11 @@
 package com.example.chillisauce.jwt;
 
+import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.security.UserDetailsServiceImpl;
 
+import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
@@ -32,11 +35,23 @@ public class JwtUtil {
     private final UserDetailsServiceImpl userDetailsService;
     private final Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
-
-    public JwtUtil(@Value("${jwt.secret.key}") final String secretKey, UserDetailsServiceImpl userDetailsService) {
+    // 파서는 thread-safe 하므로 요청마다 만들지 않고 재사용
+    private final JwtParser jwtParser;
+    private final AuthenticationMode authenticationMode;
+
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret.key}") final String secretKey,
+                   UserDetailsServiceImpl userDetailsService,
+                   @Value("${jwt.auth-mode:LOOKUP}") AuthenticationMode authenticationMode) {
         this.userDetailsService = userDetailsService;
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         this.key = Keys.hmacShaKeyFor(bytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.authenticationMode = authenticationMode;
+    }
+
+    public JwtUtil(final String secretKey, UserDetailsServiceImpl userDetailsService) {
+        this(secretKey, userDetailsService, AuthenticationMode.LOOKUP);
     }
 
     /*  header 토큰 가져오기 */
@@ -69,9 +84,13 @@ public class JwtUtil {
 
     /* 토큰 검증 */
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /* 토큰 검증 후 클레임 반환, 유효하지 않으면 null */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -81,7 +100,7 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
+        return null;
     }
 
 
@@ -89,7 +108,7 @@ public class JwtUtil {
     @Transactional
     public String getUserInfoFromToken(String token) {
 
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
     }
 
     /* 스프링 시큐리티 인증객체 생성 */
@@ -99,6 +118,38 @@ public class JwtUtil {
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
+    /* 검증된 클레임으로 스프링 시큐리티 인증객체 생성 */
+    public Authentication createAuthentication(Claims claims) {
+        User user = authenticationMode == AuthenticationMode.CLAIMS ? getUserFromClaims(claims) : null;
+
+        // 조회 모드이거나 클레임이 부족한 토큰은 기존처럼 UserDetailsService 로 조회
+        if (user == null) {
+            return createAuthentication(claims.getSubject());
+        }
+
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getUsername());
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    /* createToken 이 담은 클레임으로 유저 정보 복원 */
+    private User getUserFromClaims(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        String role = claims.get("role", String.class);
+        String username = claims.get("username", String.class);
+        String companyName = claims.get("companyName", String.class);
+        if (userId == null || role == null || username == null || companyName == null) {
+            return null;
+        }
+
+        return User.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .username(username)
+                .role(UserRoleEnum.valueOf(role))
+                .companies(Companies.builder().companyName(companyName).build())
+                .build();
+    }
+
     /* 토큰 만료 시간 */
     public long getAccessTime() {
         return 8 * 60 * 60 * 1000L; // 8시간
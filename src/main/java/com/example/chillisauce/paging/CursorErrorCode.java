@@ -0,0 +1,29 @@
+package com.example.chillisauce.paging;
+
+import com.example.chillisauce.message.ErrorStatusMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+@Getter
+@AllArgsConstructor
+public enum CursorErrorCode implements ErrorStatusMessage {
+    /* 400 */
+    INVALID_CURSOR(BAD_REQUEST, "유효하지 않은 커서입니다."),
+    INVALID_PAGE(BAD_REQUEST, "페이지 번호는 1 이상이어야 합니다.");
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return this.httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return this.message;
+    }
+}
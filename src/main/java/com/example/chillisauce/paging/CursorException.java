@@ -0,0 +1,13 @@
+package com.example.chillisauce.paging;
+
+import lombok.Getter;
+
+@Getter
+public class CursorException extends RuntimeException {
+    private final CursorErrorCode errorCode;
+
+    public CursorException(CursorErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.chillisauce.paging;
+
+import com.example.chillisauce.message.ResponseMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+public class CursorExceptionHandler {
+    @ExceptionHandler(value = {CursorException.class})
+    protected ResponseEntity<ResponseMessage<Object>> handleCursorException(CursorException e) {
+        return ResponseMessage.responseError(e.getErrorCode());
+    }
+}
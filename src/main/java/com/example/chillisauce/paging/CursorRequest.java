@@ -0,0 +1,93 @@
+package com.example.chillisauce.paging;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 요청
+ * 커서는 이전 페이지 마지막 항목의 id 를 감싼 불투명 문자열, 목록은 id 오름차순으로 정렬
+ */
+@Getter
+public class CursorRequest {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final Long lastId;
+    private final int limit;
+
+    private CursorRequest(Long lastId, int limit) {
+        this.lastId = lastId;
+        this.limit = limit;
+    }
+
+    /**
+     * @param cursor : 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit  : 페이지 크기, 없으면 20, 최대 100
+     */
+    public static CursorRequest of(String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        Long lastId = cursor == null || cursor.isBlank() ? 0L : decode(cursor);
+        return new CursorRequest(lastId, size);
+    }
+
+    public static CursorRequest first() {
+        return of(null, null);
+    }
+
+    public boolean isFirstPage() {
+        return lastId == 0L;
+    }
+
+    /**
+     * 기본 크기의 첫 페이지인지 여부 - 회사 단위 캐시는 이 경우에만 사용
+     */
+    public boolean isDefaultFirstPage() {
+        return isFirstPage() && limit == DEFAULT_LIMIT;
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 알기 위해 limit 보다 한 건 더 조회
+     */
+    public int getFetchSize() {
+        return limit + 1;
+    }
+
+    public Pageable fetchPageable() {
+        return PageRequest.of(0, getFetchSize());
+    }
+
+    /**
+     * fetchSize 만큼 조회한 목록을 limit 으로 자르고 다음 커서를 만든다
+     */
+    public <T> CursorSlice<T> slice(List<T> fetched, Function<T, Long> idOf) {
+        if (fetched.size() <= limit) {
+            return new CursorSlice<>(new ArrayList<>(fetched), null);
+        }
+        List<T> content = new ArrayList<>(fetched.subList(0, limit));
+        return new CursorSlice<>(content, encode(idOf.apply(content.get(limit - 1))));
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decode(String cursor) {
+        try {
+            long id = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (id < 0) {
+                throw new CursorException(CursorErrorCode.INVALID_CURSOR);
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new CursorException(CursorErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.chillisauce.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 페이지 조회 결과 - 다음 페이지가 없으면 nextCursor 는 null
+ */
+@Getter
+@AllArgsConstructor
+public class CursorSlice<T> {
+    private final List<T> content;
+    private final String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
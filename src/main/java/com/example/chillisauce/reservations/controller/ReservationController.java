@@ -1,9 +1,12 @@
 package com.example.chillisauce.reservations.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.reservations.dto.request.ReservationRequest;
+import com.example.chillisauce.reservations.dto.response.AvailableMeetingRoomListResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationListResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationResponse;
+import com.example.chillisauce.reservations.dto.response.ReservationTimetableListResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationTimetableResponse;
 import com.example.chillisauce.reservations.service.ReservationService;
 import com.example.chillisauce.security.UserDetailsImpl;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.validation.Valid;
 import java.awt.print.Pageable;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Slf4j
 @RestController
@@ -39,11 +43,17 @@ public class ReservationController {
     public ResponseEntity<ResponseMessage<ReservationListResponse>> getAllReservations(
             @Parameter(description = "회사 이름", required = true, example = "testCompany")
             @PathVariable String companyName,
-            @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
+            @Parameter(description = "페이지 번호 (1부터), 지정하면 offset 페이지네이션")
+            @RequestParam(value = "page", required = false) Integer page,
+            @Parameter(description = "이전 응답의 nextCursor, 없으면 첫 페이지")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(value = "limit", required = false) Integer limit,
             @Parameter(hidden = true)
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
         return ResponseMessage
-                .responseSuccess("전체 예약 조회 성공", reservationService.getAllReservations(companyName, page-1, userDetails));
+                .responseSuccess("전체 예약 조회 성공", reservationService.getAllReservations(companyName,
+                        page == null ? null : page - 1, CursorRequest.of(cursor, limit), userDetails));
     }
 
     /**
@@ -65,6 +75,51 @@ public class ReservationController {
                 .responseSuccess("예약 조회 성공", reservationService.getReservationTimetable(selDate, meetingRoomId, userDetails));
     }
 
+    /**
+     * 공간 또는 층의 모든 회의실 예약 타임 테이블 조회
+     * spaceId, floorId 중 하나만 지정해야 함
+     */
+    @Operation(summary = "공간/층 예약 타임테이블 조회",
+            description = "특정 공간 또는 층에 속한 모든 회의실의 특정 날짜 예약 내역을 타임단위로 조회합니다.")
+    @GetMapping("/reservations/timetables")
+    public ResponseEntity<ResponseMessage<ReservationTimetableListResponse>> getReservationTimetables(
+            @Parameter(description = "선택날짜", example = "2023-04-10")
+            @RequestParam(value = "selDate", required = false, defaultValue = "#{T(java.time.LocalDate).now()}")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate selDate,
+            @Parameter(description = "공간 id 값", example = "1")
+            @RequestParam(value = "spaceId", required = false) Long spaceId,
+            @Parameter(description = "층 id 값", example = "1")
+            @RequestParam(value = "floorId", required = false) Long floorId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage
+                .responseSuccess("예약 조회 성공",
+                        reservationService.getReservationTimetables(selDate, spaceId, floorId, userDetails));
+    }
+
+    /**
+     * 시간 범위에 예약 가능한 회의실 조회
+     * spaceId, floorId 가 없으면 회사 전체 회의실에서 조회
+     */
+    @Operation(summary = "예약 가능 회의실 조회",
+            description = "회사 전체 또는 특정 공간/층에서 지정한 시간 범위에 예약이 없는 회의실을 조회합니다.")
+    @GetMapping("/reservations/available")
+    public ResponseEntity<ResponseMessage<AvailableMeetingRoomListResponse>> getAvailableMeetingRooms(
+            @Parameter(description = "시작 시각", required = true, example = "2023-04-10T14:00:00")
+            @RequestParam(value = "start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "종료 시각", required = true, example = "2023-04-10T14:59:00")
+            @RequestParam(value = "end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @Parameter(description = "공간 id 값", example = "1")
+            @RequestParam(value = "spaceId", required = false) Long spaceId,
+            @Parameter(description = "층 id 값", example = "1")
+            @RequestParam(value = "floorId", required = false) Long floorId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage
+                .responseSuccess("예약 가능 회의실 조회 성공",
+                        reservationService.getAvailableMeetingRooms(start, end, spaceId, floorId, userDetails));
+    }
+
     /**
      * 회의실에 예약 등록
      */
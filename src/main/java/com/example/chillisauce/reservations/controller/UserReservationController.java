@@ -1,15 +1,20 @@
 package com.example.chillisauce.reservations.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.reservations.dto.response.UserReservationListResponse;
 import com.example.chillisauce.reservations.service.UserReservationService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 public class UserReservationController {
@@ -17,10 +22,19 @@ public class UserReservationController {
 
     /**
      * 회원의 예약 전체 조회
+     * from, to 를 지정하면 해당 기간에 시작하는 예약만 조회
      */
     @GetMapping("/users/reservations")
-    public ResponseEntity<ResponseMessage<UserReservationListResponse>> getUserReservations(@AuthenticationPrincipal UserDetailsImpl userDetails){
+    public ResponseEntity<ResponseMessage<UserReservationListResponse>> getUserReservations(
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @AuthenticationPrincipal UserDetailsImpl userDetails){
         return ResponseMessage
-                .responseSuccess("회원의 예약 조회 성공", userReservationService.getUserReservations(userDetails));
+                .responseSuccess("회원의 예약 조회 성공",
+                        userReservationService.getUserReservations(from, to, CursorRequest.of(cursor, limit), userDetails));
     }
 }
@@ -0,0 +1,9 @@
+package com.example.chillisauce.reservations.dto;
+
+import java.time.LocalDateTime;
+
+public interface ReservationSlotWrapper {
+    Long getMeetingRoomId();
+    LocalDateTime getStartTime();
+    LocalDateTime getEndTime();
+}
@@ -0,0 +1,20 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 시간 범위에 예약 가능한 회의실 목록
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "예약 가능 회의실 목록 응답 DTO")
+public class AvailableMeetingRoomListResponse {
+    @Schema(description = "예약 가능 회의실 리스트")
+    List<AvailableMeetingRoomResponse> meetingRoomList;
+}
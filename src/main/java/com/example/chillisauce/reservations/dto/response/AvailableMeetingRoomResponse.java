@@ -0,0 +1,30 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import com.example.chillisauce.spaces.entity.Mr;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약 가능한 회의실
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "예약 가능 회의실 응답 DTO")
+public class AvailableMeetingRoomResponse {
+    @Schema(description = "회의실 Id")
+    Long mrId;
+    @Schema(description = "회의실 이름")
+    String mrName;
+    @Schema(description = "공간 Id")
+    Long spaceId;
+    @Schema(description = "공간 이름")
+    String spaceName;
+
+    public AvailableMeetingRoomResponse(Mr meetingRoom) {
+        this.mrId = meetingRoom.getId();
+        this.mrName = meetingRoom.getLocationName();
+        this.spaceId = meetingRoom.getSpace().getId();
+        this.spaceName = meetingRoom.getSpace().getSpaceName();
+    }
+}
@@ -11,4 +11,10 @@ import java.util.List;
 @NoArgsConstructor
 public class ReservationListResponse {
     List<ReservationDetailResponse> reservationList;
+    // 다음 페이지 커서, 마지막 페이지면 null
+    String nextCursor;
+
+    public ReservationListResponse(List<ReservationDetailResponse> reservationList) {
+        this(reservationList, null);
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공간 또는 층 전체 회의실의 예약 타임테이블
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "회의실 예약 타임테이블 목록 응답 DTO")
+public class ReservationTimetableListResponse {
+    @Schema(description = "회의실별 타임테이블 리스트")
+    List<ReservationTimetableResponse> timetableList;
+}
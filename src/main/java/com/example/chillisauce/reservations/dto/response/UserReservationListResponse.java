@@ -9,4 +9,10 @@ import java.util.List;
 @AllArgsConstructor
 public class UserReservationListResponse {
     List<UserReservationResponse> reservationList;
+    // 다음 페이지 커서, 마지막 페이지면 null
+    String nextCursor;
+
+    public UserReservationListResponse(List<UserReservationResponse> reservationList) {
+        this(reservationList, null);
+    }
 }
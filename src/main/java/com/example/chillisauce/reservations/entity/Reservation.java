@@ -16,6 +16,12 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        // 회의실별 겹침 검사, 타임테이블 조회
+        @Index(name = "idx_reservation_meeting_room_time", columnList = "meeting_room_id, start_time, end_time"),
+        // 유저별 예약 목록 기간 조회
+        @Index(name = "idx_reservation_user_time", columnList = "user_id, start_time")
+})
 public class Reservation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
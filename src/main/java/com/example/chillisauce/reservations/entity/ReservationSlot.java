@@ -0,0 +1,45 @@
+package com.example.chillisauce.reservations.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 회의실 1시간 단위 타임 점유 정보
+ * (회의실, 시작 시각) 유니크 제약으로 동시에 같은 타임을 예약하는 것을 막는다
+ */
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_reservation_slot_meeting_room_slot_time",
+        columnNames = {"meeting_room_id", "slot_time"}))
+public class ReservationSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    // 회의실이 삭제되어도 예약 정리 전까지 남아있을 수 있어 연관관계 없이 id만 저장
+    @Column(name = "meeting_room_id", nullable = false)
+    Long meetingRoomId;
+
+    @Column(name = "slot_time", nullable = false)
+    LocalDateTime slotTime;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    Reservation reservation;
+
+    public ReservationSlot(Long meetingRoomId, LocalDateTime slotTime, Reservation reservation) {
+        this.meetingRoomId = meetingRoomId;
+        this.slotTime = slotTime;
+        this.reservation = reservation;
+    }
+}
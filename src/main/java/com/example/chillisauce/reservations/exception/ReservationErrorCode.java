@@ -16,6 +16,7 @@ public enum ReservationErrorCode implements ErrorStatusMessage {
     INVALID_USER_RESERVATION_UPDATE(BAD_REQUEST, "예약을 수정할 권한이 없는 유저입니다."),
     INVALID_USER(BAD_REQUEST, "예약에 접근할 수 없는 유저입니다."),
     LOCATION_NOT_MEETING_ROOM(BAD_REQUEST, "해당 장소는 회의실이 아닙니다."),
+    INVALID_TIMETABLE_SCOPE(BAD_REQUEST, "공간 id 또는 층 id 중 하나만 지정해야 합니다."),
 
     /* 404 */
     MEETING_ROOM_NOT_FOUND(NOT_FOUND, "등록된 회의실이 없습니다."),
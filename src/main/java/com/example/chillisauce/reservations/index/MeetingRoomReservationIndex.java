@@ -0,0 +1,169 @@
+package com.example.chillisauce.reservations.index;
+
+import com.example.chillisauce.cache.CacheInvalidationBus;
+import com.example.chillisauce.cache.CacheInvalidationMessage;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.index.RoomTimeline.Slot;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회의실별 예약 구간 인메모리 인덱스
+ * 등록, 수정, 삭제는 커밋 이후 반영하고 캐시 무효화 채널로 다른 인스턴스의 같은 회의실도 다시 읽게 한다.
+ * 비어 있다는 응답은 DB 조회 없이 그대로 쓰고 최종 검증은 타임 점유(유니크 제약)에 맡긴다.
+ * 메시지 유실이나 전파 지연으로 오래된 구간이 남을 수 있으므로 겹침 적중은 DB 로 확인한 뒤에만 거절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingRoomReservationIndex implements MessageListener {
+    // 캐시 무효화 채널에서 이 인덱스의 메시지를 구분하는 이름, key 는 회의실 id
+    public static final String CACHE_NAME = "MeetingRoomReservationIndex";
+    // 전파되지 못한 변경을 반영하기 위해 주기적으로 다시 읽는다
+    static final long REFRESH_SECONDS = 300L;
+
+    private final ReservationRepository reservationRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<Long, RoomTimeline> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 회의실에 [start, end] 와 겹치는 예약이 있는지 확인
+     */
+    public boolean hasOverlap(Long meetingRoomId, LocalDateTime start, LocalDateTime end) {
+        return hasOverlap(meetingRoomId, null, start, end);
+    }
+
+    /**
+     * 수정 대상 예약(excludeReservationId)을 제외하고 겹치는 예약이 있는지 확인
+     */
+    public boolean hasOverlap(Long meetingRoomId, Long excludeReservationId,
+                              LocalDateTime start, LocalDateTime end) {
+        if (meetingRoomId == null) {
+            return false;
+        }
+        RoomTimeline timeline = loadedTimeline(meetingRoomId);
+        return timeline.overlaps(start, end, excludeReservationId);
+    }
+
+    /**
+     * 예약 등록/수정 반영 - 트랜잭션 커밋 이후에 적용
+     */
+    public void put(Reservation reservation) {
+        if (reservation.getMeetingRoom() == null) {
+            return;
+        }
+        Long meetingRoomId = reservation.getMeetingRoom().getId();
+        Slot slot = new Slot(reservation.getId(), reservation.getStartTime(), reservation.getEndTime());
+        afterCommit(() -> {
+            timeline(meetingRoomId).upsert(slot);
+            publish(meetingRoomId);
+        });
+    }
+
+    /**
+     * 예약 삭제 반영 - 트랜잭션 커밋 이후에 적용
+     */
+    public void remove(Reservation reservation) {
+        if (reservation.getMeetingRoom() == null) {
+            return;
+        }
+        Long meetingRoomId = reservation.getMeetingRoom().getId();
+        Long reservationId = reservation.getId();
+        afterCommit(() -> {
+            timeline(meetingRoomId).delete(reservationId);
+            publish(meetingRoomId);
+        });
+    }
+
+    /**
+     * 회의실 단위 무효화 - 다음 조회 때 DB 에서 다시 읽는다
+     */
+    public void evictRoom(Long meetingRoomId) {
+        if (meetingRoomId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            timeline(meetingRoomId).invalidate();
+            publish(meetingRoomId);
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 변경 수신 - 해당 회의실은 다음 조회 때 DB 에서 다시 읽는다
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation = invalidationBus.decode(message.getBody());
+        if (invalidation == null || !CACHE_NAME.equals(invalidation.getCacheName())) {
+            return;
+        }
+        if (invalidation.getKey() == null) {
+            rooms.values().forEach(RoomTimeline::invalidate);
+            return;
+        }
+        try {
+            RoomTimeline timeline = rooms.get(Long.valueOf(invalidation.getKey()));
+            if (timeline != null) {
+                timeline.invalidate();
+            }
+        } catch (NumberFormatException e) {
+            log.warn("invalid meeting room id in invalidation message : {}", invalidation.getKey());
+        }
+    }
+
+    private void publish(Long meetingRoomId) {
+        invalidationBus.publish(CACHE_NAME, String.valueOf(meetingRoomId));
+    }
+
+    private RoomTimeline timeline(Long meetingRoomId) {
+        return rooms.computeIfAbsent(meetingRoomId, x -> new RoomTimeline());
+    }
+
+    private RoomTimeline loadedTimeline(Long meetingRoomId) {
+        RoomTimeline timeline = timeline(meetingRoomId);
+        LocalDateTime now = LocalDateTime.now();
+        if (timeline.isLoaded(now, REFRESH_SECONDS)) {
+            return timeline;
+        }
+
+        // 이미 끝난 예약은 새 예약과 겹칠 일이 없으므로 현재 이후 예약만 적재
+        long version = timeline.version();
+        List<Slot> loaded = reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(meetingRoomId, now)
+                .stream()
+                .map(x -> new Slot(x.getId(), x.getStartTime(), x.getEndTime()))
+                .toList();
+
+        if (!timeline.install(loaded, version, now)) {
+            log.debug("meeting room {} timeline changed while loading, retry on next lookup", meetingRoomId);
+            // 적재 실패 시 이번 조회는 방금 읽은 목록으로 판단
+            RoomTimeline snapshot = new RoomTimeline();
+            snapshot.install(loaded, snapshot.version(), now);
+            return snapshot;
+        }
+        return timeline;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
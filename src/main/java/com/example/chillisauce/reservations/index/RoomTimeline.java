@@ -0,0 +1,105 @@
+package com.example.chillisauce.reservations.index;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 회의실 1개의 예약 구간 목록
+ * 시작 시각 기준으로 정렬되어 있어 겹침 검사를 O(log n) 으로 처리한다
+ */
+class RoomTimeline {
+    private static final Comparator<Slot> ORDER =
+            Comparator.comparing(Slot::start).thenComparing(Slot::reservationId);
+
+    private final NavigableSet<Slot> slots = new TreeSet<>(ORDER);
+    private final Map<Long, Slot> slotById = new HashMap<>();
+
+    // 쓰기가 반영될 때마다 증가, 로딩 중에 쓰기가 있었는지 확인하는 용도
+    private long version = 0L;
+    private LocalDateTime loadedAt;
+
+    synchronized boolean isLoaded(LocalDateTime now, long refreshSeconds) {
+        return loadedAt != null && loadedAt.plusSeconds(refreshSeconds).isAfter(now);
+    }
+
+    synchronized long version() {
+        return version;
+    }
+
+    /**
+     * DB 에서 읽어온 예약 목록으로 교체
+     * 읽는 동안 다른 쓰기가 반영되었다면 교체하지 않고 다음 조회 때 다시 읽는다
+     */
+    synchronized boolean install(List<Slot> loaded, long expectedVersion, LocalDateTime now) {
+        if (version != expectedVersion) {
+            return false;
+        }
+        slots.clear();
+        slotById.clear();
+        loaded.forEach(this::put);
+        loadedAt = now;
+        return true;
+    }
+
+    /**
+     * [start, end] 와 겹치는 예약이 있는지 확인
+     * 예약 검증 쿼리와 동일하게 기존 시작 < end, 기존 종료 > start 이면 겹친다
+     */
+    synchronized boolean overlaps(LocalDateTime start, LocalDateTime end, Long excludeId) {
+        // 시작 시각이 end 보다 이른 구간들을 늦은 순서로 탐색
+        Slot probe = new Slot(Long.MIN_VALUE, end, end);
+        for (Slot slot : slots.headSet(probe, false).descendingSet()) {
+            if (!slot.end().isAfter(start)) {
+                // 구간끼리는 겹치지 않으므로 더 이른 구간도 start 이전에 끝난다
+                return false;
+            }
+            if (!slot.reservationId().equals(excludeId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void upsert(Slot slot) {
+        version++;
+        if (loadedAt == null) {
+            return;
+        }
+        remove(slot.reservationId());
+        put(slot);
+    }
+
+    synchronized void delete(Long reservationId) {
+        version++;
+        if (loadedAt == null) {
+            return;
+        }
+        remove(reservationId);
+    }
+
+    synchronized void invalidate() {
+        version++;
+        loadedAt = null;
+        slots.clear();
+        slotById.clear();
+    }
+
+    synchronized int size() {
+        return slots.size();
+    }
+
+    private void put(Slot slot) {
+        slots.add(slot);
+        slotById.put(slot.reservationId(), slot);
+    }
+
+    private void remove(Long reservationId) {
+        Slot before = slotById.remove(reservationId);
+        if (before != null) {
+            slots.remove(before);
+        }
+    }
+
+    record Slot(Long reservationId, LocalDateTime start, LocalDateTime end) {
+    }
+}
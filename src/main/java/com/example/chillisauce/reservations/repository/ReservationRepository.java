@@ -1,16 +1,16 @@
 package com.example.chillisauce.reservations.repository;
 
 import com.example.chillisauce.reservations.dto.ReservationDetailWrapper;
+import com.example.chillisauce.reservations.dto.ReservationSlotWrapper;
 import com.example.chillisauce.reservations.dto.response.ReservationDetailResponse;
 import com.example.chillisauce.reservations.entity.Reservation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import javax.persistence.LockModeType;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,16 +23,62 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             "where r.user.id=:userId")
     List<Reservation> findAllByUserId(@Param("userId") Long userId);
 
-    @Query(value = "select r " +
+    @Query("select r from Reservation r " +
+            "left join fetch r.user " +
+            "left join fetch r.meetingRoom " +
+            "where r.user.id = :userId and r.id > :lastId " +
+            "order by r.id asc")
+    List<Reservation> findAllByUserIdAfter(@Param("userId") Long userId,
+                                           @Param("lastId") Long lastId,
+                                           Pageable pageable);
+
+    @Query("select r from Reservation r " +
+            "left join fetch r.user " +
+            "left join fetch r.meetingRoom " +
+            "where r.user.id = :userId and r.id > :lastId " +
+            "and r.startTime between :startTime and :endTime " +
+            "order by r.id asc")
+    List<Reservation> findAllByUserIdAndStartTimeBetweenAfter(@Param("userId") Long userId,
+                                                              @Param("startTime") LocalDateTime startTime,
+                                                              @Param("endTime") LocalDateTime endTime,
+                                                              @Param("lastId") Long lastId,
+                                                              Pageable pageable);
+
+    /**
+     * 회사 전체 예약 조회 - 엔티티 대신 응답 DTO로 바로 조회, count 쿼리도 회사 범위로 제한
+     */
+    @Query(value = "select new com.example.chillisauce.reservations.dto.response.ReservationDetailResponse(" +
+            "r.id, coalesce(rm.id, 0L), coalesce(rm.locationName, '삭제된 회의실'), " +
+            "coalesce(ru.username, '삭제된 유저'), r.startTime, r.endTime) " +
             "from Reservation r " +
-            "left join fetch r.user as ru " +
-            "left join fetch ru.companies as rc "+
-            "left join fetch r.meetingRoom as rm " +
+            "join r.user ru " +
+            "join ru.companies rc " +
+            "left join r.meetingRoom rm " +
             "where rc.companyName = :companyName",
-            countQuery="select count(r) from Reservation r")
-    Page<Reservation> findAllByCompanyName(@Param("companyName") String companyName, Pageable pageable);
+            countQuery = "select count(r) " +
+                    "from Reservation r " +
+                    "join r.user ru " +
+                    "join ru.companies rc " +
+                    "where rc.companyName = :companyName")
+    Page<ReservationDetailResponse> findAllDetailsByCompanyName(@Param("companyName") String companyName,
+                                                                Pageable pageable);
+
+    /**
+     * 회사 전체 예약 조회 - id 기준 키셋 페이지네이션, offset 스캔과 count 쿼리 없음
+     */
+    @Query("select new com.example.chillisauce.reservations.dto.response.ReservationDetailResponse(" +
+            "r.id, coalesce(rm.id, 0L), coalesce(rm.locationName, '삭제된 회의실'), " +
+            "coalesce(ru.username, '삭제된 유저'), r.startTime, r.endTime) " +
+            "from Reservation r " +
+            "join r.user ru " +
+            "join ru.companies rc " +
+            "left join r.meetingRoom rm " +
+            "where rc.companyName = :companyName and r.id > :lastId " +
+            "order by r.id asc")
+    List<ReservationDetailResponse> findAllDetailsByCompanyNameAfter(@Param("companyName") String companyName,
+                                                                     @Param("lastId") Long lastId,
+                                                                     Pageable pageable);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select r from Reservation r " +
             "where r.meetingRoom.id = :meetingRoomId and r.startTime < :endTime and r.endTime > :startTime")
     Optional<Reservation> findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(
@@ -57,4 +103,25 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("endTime") LocalDateTime endTime);
 
     List<Reservation> findAllByMeetingRoomId(Long mrId);
+
+    /**
+     * 회의실 삭제 시 예약에서 회의실을 분리 - 예약은 "삭제된 회의실" 예약으로 남음
+     */
+    @Modifying
+    @Query("update Reservation r set r.meetingRoom = null where r.meetingRoom.id = :meetingRoomId")
+    int detachMeetingRoom(@Param("meetingRoomId") Long meetingRoomId);
+
+    @Query("select r.meetingRoom.id as meetingRoomId, r.startTime as startTime, r.endTime as endTime " +
+            "from Reservation r " +
+            "where r.meetingRoom.id in :meetingRoomIds and r.startTime between :startTime and :endTime")
+    List<ReservationSlotWrapper> findAllSlotsByMeetingRoomIdInAndStartTimeBetween(
+            @Param("meetingRoomIds") List<Long> meetingRoomIds,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    @Query("select r from Reservation r " +
+            "where r.meetingRoom.id = :meetingRoomId and r.endTime > :time")
+    List<Reservation> findAllByMeetingRoomIdAndEndTimeAfter(
+            @Param("meetingRoomId") Long meetingRoomId,
+            @Param("time") LocalDateTime time);
 }
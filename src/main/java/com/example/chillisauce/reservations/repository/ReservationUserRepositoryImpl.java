@@ -0,0 +1,29 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.config.JpaBatchConfig;
+import com.example.chillisauce.reservations.entity.ReservationUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationUserRepositoryImpl implements ReservationUserRepositorySupport {
+    private static final String INSERT_SQL =
+            "insert into reservation_user (user_id, reservation_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<ReservationUser> reservationUsers) {
+        if (reservationUsers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, reservationUsers, JpaBatchConfig.BATCH_SIZE, (ps, x) -> {
+            ps.setLong(1, x.getAttendee().getId());
+            ps.setLong(2, x.getReservation().getId());
+        });
+    }
+}
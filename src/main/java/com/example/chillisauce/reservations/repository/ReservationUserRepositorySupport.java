@@ -0,0 +1,13 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.entity.ReservationUser;
+
+import java.util.List;
+
+public interface ReservationUserRepositorySupport {
+    /**
+     * 참석자 JDBC 배치 저장 - IDENTITY 전략이라 Hibernate 로는 배치되지 않음
+     * 저장한 엔티티는 영속성 컨텍스트에 올라가지 않고 id 도 채워지지 않는다
+     */
+    void batchInsert(List<ReservationUser> reservationUsers);
+}
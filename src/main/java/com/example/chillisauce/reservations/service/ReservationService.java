@@ -1,5 +1,10 @@
 package com.example.chillisauce.reservations.service;
 
+import com.example.chillisauce.paging.CursorErrorCode;
+import com.example.chillisauce.paging.CursorException;
+import com.example.chillisauce.paging.CursorRequest;
+import com.example.chillisauce.paging.CursorSlice;
+import com.example.chillisauce.reservations.dto.ReservationSlotWrapper;
 import com.example.chillisauce.reservations.dto.request.ReservationAttendee;
 import com.example.chillisauce.reservations.dto.request.ReservationRequest;
 import com.example.chillisauce.reservations.dto.request.ReservationTime;
@@ -8,23 +13,25 @@ import com.example.chillisauce.reservations.entity.Reservation;
 import com.example.chillisauce.reservations.entity.ReservationUser;
 import com.example.chillisauce.reservations.exception.ReservationErrorCode;
 import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.index.MeetingRoomReservationIndex;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
 import com.example.chillisauce.reservations.repository.ReservationUserRepository;
 import com.example.chillisauce.reservations.vo.ReservationTimetable;
-import com.example.chillisauce.reservations.vo.TimeUnit;
+import com.example.chillisauce.reservations.vo.TimeSlotBitmap;
 import com.example.chillisauce.schedules.entity.Schedule;
 import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.schedules.service.ScheduleFanoutService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.entity.Location;
 import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.spaces.repository.LocationRepository;
 import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.spaces.service.SpaceCacheEvictor;
 import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import com.example.chillisauce.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,7 +42,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -46,39 +56,48 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final ReservationUserRepository reservationUserRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleFanoutService scheduleFanoutService;
     private final MrRepository meetingRoomRepository;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
     private final LocationRepository locationRepository;
+    private final MeetingRoomReservationIndex reservationIndex;
+    private final ReservationSlotService reservationSlotService;
+    private final SpaceCacheEvictor spaceCacheEvictor;
 
     /**
      * 회사 전체 예약 조회
+     *
+     * @param page          : 페이지 번호 (0부터 시작), 지정하면 전체 건수를 세는 offset 페이지네이션
+     * @param cursorRequest : page 가 없을 때 사용하는 커서 페이지 요청
      */
-    public ReservationListResponse getAllReservations(String companyName, Integer page, UserDetailsImpl userDetails) {
+    @Transactional(readOnly = true)
+    public ReservationListResponse getAllReservations(String companyName, Integer page,
+                                                      CursorRequest cursorRequest, UserDetailsImpl userDetails) {
         if (!userDetails.getUser().getCompanies().getCompanyName()
                 .equals(companyName)) {
             throw new ReservationException(ReservationErrorCode.INVALID_USER);
         }
 
-        // 페이지네이션
-        int size = 20;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "id"));
-
-        Page<Reservation> all = reservationRepository.findAllByCompanyName(companyName, pageable);
-
-        // 회의실이 null, 유저가 null : 삭제된 객체
-        List<ReservationDetailResponse> responseList =
-                all.stream().map(x -> {
-                    Mr meetingRoom = x.getMeetingRoom();
-                    Long mrId = meetingRoom == null ? 0 : meetingRoom.getId();
-                    String mrName = meetingRoom == null ? "삭제된 회의실" : meetingRoom.getLocationName();
-                    User user = x.getUser();
-                    String username = user == null ? "삭제된 유저" : user.getUsername();
-                    return new ReservationDetailResponse(x.getId(), mrId, mrName, username,
-                            x.getStartTime(), x.getEndTime());
-                }).toList();
-
-        return new ReservationListResponse(responseList);
+        // 회의실이 삭제된 예약은 쿼리에서 "삭제된 회의실"로 채워짐
+        // page 는 0부터, 크기는 커서 모드와 같은 limit 을 따름
+        if (page != null) {
+            if (page < 0) {
+                throw new CursorException(CursorErrorCode.INVALID_PAGE);
+            }
+            Pageable pageable = PageRequest.of(page, cursorRequest.getLimit(), Sort.by(Sort.Direction.ASC, "id"));
+            Page<ReservationDetailResponse> all = reservationRepository.findAllDetailsByCompanyName(companyName, pageable);
+            List<ReservationDetailResponse> content = all.getContent();
+            String nextCursor = all.hasNext()
+                    ? CursorRequest.encode(content.get(content.size() - 1).getReservationId()) : null;
+            return new ReservationListResponse(content, nextCursor);
+        }
+
+        CursorSlice<ReservationDetailResponse> slice = cursorRequest.slice(
+                reservationRepository.findAllDetailsByCompanyNameAfter(companyName,
+                        cursorRequest.getLastId(), cursorRequest.fetchPageable()),
+                ReservationDetailResponse::getReservationId);
+        return new ReservationListResponse(slice.getContent(), slice.getNextCursor());
     }
 
     /**
@@ -105,52 +124,124 @@ public class ReservationService {
 
         Mr meetingRoom = (Mr) location.get();
 
-        // 회의실의 해당 날짜에 해당하는 모든 예약 리스트
-        List<Reservation> all = reservationRepository
-                .findAllByMeetingRoomIdAndStartTimeBetween(meetingRoom.getId(),
-                        selDate.atStartOfDay(), selDate.atTime(LocalTime.MAX));
-
-        // 당일 예약 수 x timeSet entry 만큼 loop
-        List<ReservationTimeResponse> timeList =
-                ReservationTimetable.TIME_SET.stream().map(x -> getTimeUnitInfo(selDate, x, all))
-                        // 07시부터 22시까지 정렬하기 위한 Comparator 구현
-                        .sorted(((o1, o2) -> o1.getStart().isAfter(o2.getStart()) ? 1 :
-                                o1.getStart().isBefore(o2.getStart()) ? -1 : 0))
-                        .toList();
+        // 예약 리스트를 한 번만 순회하며 타임별 예약 여부를 비트맵에 표시
+        TimeSlotBitmap bitmap = new TimeSlotBitmap(selDate);
+        if (selDate.isBefore(LocalDate.now())) {
+            // 오늘 이전 날짜는 항상 예약 불가
+            bitmap.markAll();
+        } else {
+            // 회의실의 해당 날짜에 해당하는 모든 예약 리스트
+            List<Reservation> all = reservationRepository
+                    .findAllByMeetingRoomIdAndStartTimeBetween(meetingRoom.getId(),
+                            selDate.atStartOfDay(), selDate.atTime(LocalTime.MAX));
+            for (Reservation reservation : all) {
+                bitmap.mark(reservation.getStartTime(), reservation.getEndTime());
+            }
+        }
 
-        return new ReservationTimetableResponse(meetingRoom.getId(), meetingRoom.getLocationName(), timeList);
+        return new ReservationTimetableResponse(meetingRoom.getId(), meetingRoom.getLocationName(),
+                toTimeList(bitmap));
     }
 
-    // TIME_SET 시간 단위의 예약 가능 정보, 시각을 얻는 메서드
-    ReservationTimeResponse getTimeUnitInfo(LocalDate selDate, TimeUnit timeUnit, List<Reservation> all) {
-        LocalTime startTime = LocalTime.of(timeUnit.getStart().getHour(), timeUnit.getStart().getMinute());
-        LocalTime endTime = LocalTime.of(timeUnit.getEnd().getHour(), timeUnit.getEnd().getMinute());
-        LocalDateTime startDateTime = LocalDateTime.of(selDate, startTime);
-        return new ReservationTimeResponse(isImpossible(startDateTime, all), startTime, endTime);
-    }
+    /**
+     * 공간 또는 층에 속한 모든 회의실의 해당 날짜 예약 타임테이블 조회
+     * 회의실 목록 조회 1번, 예약 조회 1번으로 처리한다
+     * @param selDate     : 선택 날짜
+     * @param spaceId     : 공간 id
+     * @param floorId     : 층 id
+     * @param userDetails : 유저 인증 정보
+     */
+    @Transactional(readOnly = true)
+    public ReservationTimetableListResponse getReservationTimetables(LocalDate selDate,
+                                                                     Long spaceId,
+                                                                     Long floorId,
+                                                                     UserDetailsImpl userDetails) {
+        // 공간과 층 중 하나만 지정해야 함
+        if ((spaceId == null) == (floorId == null)) {
+            throw new ReservationException(ReservationErrorCode.INVALID_TIMETABLE_SCOPE);
+        }
+
+        String companyName = userDetails.getUser().getCompanies().getCompanyName();
+        List<Mr> meetingRooms = spaceId != null
+                ? meetingRoomRepository.findAllBySpaceIdAndCompanyName(spaceId, companyName)
+                : meetingRoomRepository.findAllByFloorIdAndCompanyName(floorId, companyName);
 
-    // 예약의 시작시간에 해당하는 타임은 true 반환
-    boolean isImpossible(LocalDateTime time, List<Reservation> all) {
-        // 오늘 이전 시각은 항상 예약 불가
-        if (time.toLocalDate().isBefore(LocalDate.now())) {
-            return true;
+        if (meetingRooms.isEmpty()) {
+            return new ReservationTimetableListResponse(List.of());
         }
 
-        for (Reservation reservation : all) {
-            LocalDateTime start = reservation.getStartTime();
-            LocalDateTime end = reservation.getEndTime();
-            if (time.isEqual(start) || (time.isAfter(start) && time.isBefore(end))) {
-                return true;
+        Map<Long, TimeSlotBitmap> bitmaps = new HashMap<>();
+        for (Mr meetingRoom : meetingRooms) {
+            bitmaps.put(meetingRoom.getId(), new TimeSlotBitmap(selDate));
+        }
+
+        if (selDate.isBefore(LocalDate.now())) {
+            // 오늘 이전 날짜는 항상 예약 불가
+            bitmaps.values().forEach(TimeSlotBitmap::markAll);
+        } else {
+            // 모든 회의실의 예약을 한 번에 조회해 회의실별 비트맵에 표시
+            List<ReservationSlotWrapper> all = reservationRepository
+                    .findAllSlotsByMeetingRoomIdInAndStartTimeBetween(List.copyOf(bitmaps.keySet()),
+                            selDate.atStartOfDay(), selDate.atTime(LocalTime.MAX));
+            for (ReservationSlotWrapper slot : all) {
+                TimeSlotBitmap bitmap = bitmaps.get(slot.getMeetingRoomId());
+                if (bitmap != null) {
+                    bitmap.mark(slot.getStartTime(), slot.getEndTime());
+                }
             }
         }
-        return false;
+
+        List<ReservationTimetableResponse> timetableList = meetingRooms.stream()
+                .map(x -> new ReservationTimetableResponse(x.getId(), x.getLocationName(),
+                        toTimeList(bitmaps.get(x.getId()))))
+                .toList();
+
+        return new ReservationTimetableListResponse(timetableList);
+    }
+
+    /**
+     * 회사 전체 또는 공간/층에서 시간 범위에 예약 가능한 회의실 조회
+     * 회의실마다 타임테이블을 조회하지 않고 겹침 조건을 건 쿼리 1번으로 처리한다
+     * @param start       : 시작 시각
+     * @param end         : 종료 시각
+     * @param spaceId     : 공간 id, 없으면 전체
+     * @param floorId     : 층 id, 없으면 전체
+     * @param userDetails : 유저 인증 정보
+     */
+    @Transactional(readOnly = true)
+    public AvailableMeetingRoomListResponse getAvailableMeetingRooms(LocalDateTime start,
+                                                                     LocalDateTime end,
+                                                                     Long spaceId,
+                                                                     Long floorId,
+                                                                     UserDetailsImpl userDetails) {
+        if (!start.isBefore(end)) {
+            throw new ReservationException(ReservationErrorCode.NOT_PROPER_TIME);
+        }
+
+        String companyName = userDetails.getUser().getCompanies().getCompanyName();
+        List<AvailableMeetingRoomResponse> meetingRoomList = meetingRoomRepository
+                .findAllAvailable(companyName, spaceId, floorId, start, end)
+                .stream()
+                .map(AvailableMeetingRoomResponse::new)
+                .toList();
+
+        return new AvailableMeetingRoomListResponse(meetingRoomList);
+    }
+
+    // 07시부터 22시까지 시각 순서대로 타임 정보 생성
+    List<ReservationTimeResponse> toTimeList(TimeSlotBitmap bitmap) {
+        List<ReservationTimeResponse> timeList = new ArrayList<>(TimeSlotBitmap.SLOT_COUNT);
+        for (int hour = ReservationTimetable.OPEN_HOUR; hour <= ReservationTimetable.CLOSE_HOUR; hour++) {
+            timeList.add(new ReservationTimeResponse(bitmap.isOccupied(hour),
+                    LocalTime.of(hour, 0), LocalTime.of(hour, 59)));
+        }
+        return timeList;
     }
 
     /**
      * 회의실 예약 등록
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public ReservationResponse addReservation(Long meetingRoomId,
                                               ReservationRequest request,
                                               UserDetailsImpl userDetails) {
@@ -174,12 +265,13 @@ public class ReservationService {
         LocalDateTime end = list.get(list.size() - 1).plusMinutes(59);
 
         // 시간이 겹치는 예약은 할 수 없음
-        reservationRepository
-                .findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(
-                        meetingRoom.getId(), start, end)
-                .ifPresent(x -> {
-                    throw new ReservationException(ReservationErrorCode.DUPLICATED_TIME);
-                });
+        // 인메모리 인덱스가 비어 있다고 하면 DB 조회 없이 진행하고 최종 검증은 타임 점유(유니크 제약)로 처리
+        if (reservationIndex.hasOverlap(meetingRoom.getId(), start, end)) {
+            confirmOverlap(meetingRoom.getId(), reservationRepository
+                    .findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(
+                            meetingRoom.getId(), start, end)
+                    .isPresent());
+        }
 
         Reservation reservation = Reservation.builder()
                 .user(organizer)
@@ -189,6 +281,10 @@ public class ReservationService {
                 .build();
 
         reservationRepository.save(reservation);
+        reservationSlotService.claim(reservation);
+        reservationIndex.put(reservation);
+        // 예약은 공간 점유 정보에만 포함되므로 배치도 캐시는 유지
+        spaceCacheEvictor.evictOccupancy(companyName, meetingRoom);
 
         // 회의 참석자 유저리스트가 비어있으면 리턴
         if (request.getUserList() == null) {
@@ -200,12 +296,12 @@ public class ReservationService {
         List<User> attendee = userRepository.findAllByIdInAndCompanies_CompanyName(ids, organizer.getCompanies().getCompanyName());
 
         // 참석자 리스트와 예약 정보를 ReservationUser 연결 테이블에 저장
+        // 참석자 수만큼 INSERT 가 나가므로 JDBC 배치로 저장
         List<ReservationUser> info = attendee.stream().map(x -> new ReservationUser(x, reservation)).toList();
-        reservationUserRepository.saveAll(info);
+        reservationUserRepository.batchInsert(info);
 
-        // 모든 참석자의 스케줄에 회의 일정 추가
-        List<Schedule> schedules = info.stream().map(x -> new Schedule(x.getReservation(), x.getAttendee())).toList();
-        scheduleRepository.saveAll(schedules);
+        // 참석자 스케줄은 커밋 후 아웃박스 워커가 생성 - 참석자 수와 무관하게 예약 트랜잭션 길이 유지
+        scheduleFanoutService.enqueue(reservation);
         return new ReservationResponse(reservation, attendee.stream()
                 .map(x -> new UsernameResponse(x.getUsername())).toList());
     }
@@ -231,19 +327,21 @@ public class ReservationService {
         LocalDateTime end = list.get(list.size() - 1).plusMinutes(59);
 
         // 수정요청에 해당하는 시각에 예약이 없는지 검증
-        // 수정 대상 예약은 제외하고 검증해야함
-        List<Reservation> duplicatedReservations = reservationRepository
-                .findAllByMeetingRoomIdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThan(
-                        reservation.getMeetingRoom().getId(),
-                        reservationId,
-                        start,
-                        end);
-
-        if (!duplicatedReservations.isEmpty()) {
-            throw new ReservationException(ReservationErrorCode.DUPLICATED_TIME);
+        // 수정 대상 예약은 제외하고 검증해야함, 인덱스가 비어 있다고 하면 타임 재점유로 최종 검증
+        Long meetingRoomId = reservation.getMeetingRoom().getId();
+        if (reservationIndex.hasOverlap(meetingRoomId, reservationId, start, end)) {
+            confirmOverlap(meetingRoomId, !reservationRepository
+                    .findAllByMeetingRoomIdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThan(
+                            meetingRoomId, reservationId, start, end)
+                    .isEmpty());
         }
 
         reservation.update(start, end);
+        // 참석자 스케줄도 한 번의 UPDATE 로 같은 시간으로 변경
+        scheduleRepository.updateTimeByReservationId(reservationId, start, end);
+        reservationSlotService.reclaim(reservation);
+        reservationIndex.put(reservation);
+        spaceCacheEvictor.evictOccupancy(user.getCompanies().getCompanyName(), reservation.getMeetingRoom());
 
         return new ReservationResponse(reservation);
     }
@@ -261,18 +359,35 @@ public class ReservationService {
             throw new ReservationException(ReservationErrorCode.INVALID_USER_RESERVATION_UPDATE);
         }
 
+        reservationSlotService.release(reservation);
+        scheduleRepository.deleteAllByReservationId(reservation.getId());
         reservationRepository.deleteById(reservation.getId());
+        reservationIndex.remove(reservation);
+        spaceCacheEvictor.evictOccupancy(user.getCompanies().getCompanyName(), reservation.getMeetingRoom());
 
         return "success";
     }
 
     @Transactional
     public String deleteMeetingRoomInReservations(Long meetingRoomId, UserDetailsImpl userDetails) {
-        List<Reservation> all = reservationRepository.findAllByMeetingRoomId(meetingRoomId);
-        for (Reservation reservation : all) {
-            reservation.update(null);
-        }
+        // 예약을 하나씩 불러오지 않고 스케줄, 예약 순으로 한 번씩 일괄 변경
+        scheduleRepository.updateCommentByMeetingRoomId(meetingRoomId, Schedule.DELETED_MEETING_ROOM);
+        reservationRepository.detachMeetingRoom(meetingRoomId);
+        reservationSlotService.releaseMeetingRoom(meetingRoomId);
+        reservationIndex.evictRoom(meetingRoomId);
 
         return "success";
     }
+
+    /**
+     * 인메모리 인덱스 적중은 DB 에서 확인된 경우에만 거절
+     * 다른 인스턴스의 삭제, 이동이 늦게 반영된 오래된 인덱스라면 회의실 단위로 다시 읽게 하고 진행
+     */
+    private void confirmOverlap(Long meetingRoomId, boolean duplicatedInDb) {
+        if (duplicatedInDb) {
+            throw new ReservationException(ReservationErrorCode.DUPLICATED_TIME);
+        }
+        log.debug("meeting room {} index has a reservation the DB does not, evicting", meetingRoomId);
+        reservationIndex.evictRoom(meetingRoomId);
+    }
 }
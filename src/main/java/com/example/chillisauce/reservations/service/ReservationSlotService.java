@@ -0,0 +1,85 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회의실 타임 점유 관리
+ * 타임마다 유니크 제약이 걸린 행을 삽입해서, 겹치는 예약은 락 없이 DB 가 거절하도록 한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationSlotService {
+
+    private final ReservationSlotRepository reservationSlotRepository;
+
+    /**
+     * 예약이 차지하는 타임을 점유
+     * 이미 다른 예약이 점유한 타임이 있으면 예외
+     */
+    @Transactional
+    public void claim(Reservation reservation) {
+        Long meetingRoomId = reservation.getMeetingRoom().getId();
+        List<ReservationSlot> slots = slotTimesOf(reservation.getStartTime(), reservation.getEndTime())
+                .stream()
+                .map(x -> new ReservationSlot(meetingRoomId, x, reservation))
+                .toList();
+
+        try {
+            reservationSlotRepository.saveAllAndFlush(slots);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("meeting room {} slot already claimed : {}", meetingRoomId, e.getMessage());
+            throw new ReservationException(ReservationErrorCode.DUPLICATED_TIME);
+        }
+    }
+
+    /**
+     * 예약 시간 변경 시 기존 점유를 해제하고 새로 점유
+     */
+    @Transactional
+    public void reclaim(Reservation reservation) {
+        reservationSlotRepository.deleteAllByReservationId(reservation.getId());
+        claim(reservation);
+    }
+
+    @Transactional
+    public void release(Reservation reservation) {
+        reservationSlotRepository.deleteAllByReservationId(reservation.getId());
+    }
+
+    @Transactional
+    public void releaseAll(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        reservationSlotRepository.deleteAllByReservationIdIn(reservations.stream().map(Reservation::getId).toList());
+    }
+
+    @Transactional
+    public void releaseMeetingRoom(Long meetingRoomId) {
+        reservationSlotRepository.deleteAllByMeetingRoomId(meetingRoomId);
+    }
+
+    // [start, end) 구간에 걸치는 정각 타임 목록
+    static List<LocalDateTime> slotTimesOf(LocalDateTime start, LocalDateTime end) {
+        List<LocalDateTime> slotTimes = new ArrayList<>();
+        for (LocalDateTime time = start.truncatedTo(ChronoUnit.HOURS); time.isBefore(end); time = time.plusHours(1)) {
+            slotTimes.add(time);
+        }
+        return slotTimes;
+    }
+}
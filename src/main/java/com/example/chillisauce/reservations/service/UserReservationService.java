@@ -1,10 +1,14 @@
 package com.example.chillisauce.reservations.service;
 
+import com.example.chillisauce.paging.CursorRequest;
+import com.example.chillisauce.paging.CursorSlice;
 import com.example.chillisauce.reservations.dto.ReservationUserWrapper;
 import com.example.chillisauce.reservations.dto.response.UserReservationListResponse;
 import com.example.chillisauce.reservations.dto.response.UserReservationResponse;
 import com.example.chillisauce.reservations.dto.response.UsernameResponse;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
 import com.example.chillisauce.reservations.repository.ReservationUserRepository;
 import com.example.chillisauce.security.UserDetailsImpl;
@@ -15,7 +19,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,25 +33,51 @@ public class UserReservationService {
     private final ReservationRepository reservationRepository;
     private final ReservationUserRepository reservationUserRepository;
 
+    // 기간 조회 시 한쪽만 지정된 경우의 기본 경계
+    private static final LocalDate MIN_DATE = LocalDate.EPOCH;
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
     /**
      * 특정 유저의 예약 내역 조회
+     *
+     * @param from : 조회 시작 날짜 (예약 시작 시각 기준, 포함), 없으면 제한 없음
+     * @param to   : 조회 종료 날짜 (포함), 없으면 제한 없음
      */
     @Transactional(readOnly = true)
-    public UserReservationListResponse getUserReservations(UserDetailsImpl userDetails) {
+    public UserReservationListResponse getUserReservations(LocalDate from, LocalDate to,
+                                                           CursorRequest cursorRequest, UserDetailsImpl userDetails) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ReservationException(ReservationErrorCode.NOT_PROPER_TIME);
+        }
+
         User user = userDetails.getUser();
-        List<Reservation> reservations = reservationRepository.findAllByUserId(user.getId());
-        List<Long> ids = reservations.stream().mapToLong(Reservation::getId).boxed().toList();
+        List<Reservation> fetched = from == null && to == null
+                ? reservationRepository.findAllByUserIdAfter(user.getId(), cursorRequest.getLastId(),
+                        cursorRequest.fetchPageable())
+                : reservationRepository.findAllByUserIdAndStartTimeBetweenAfter(user.getId(),
+                        (from == null ? MIN_DATE : from).atStartOfDay(),
+                        (to == null ? MAX_DATE : to).atTime(LocalTime.MAX),
+                        cursorRequest.getLastId(), cursorRequest.fetchPageable());
+        CursorSlice<Reservation> slice = cursorRequest.slice(fetched, Reservation::getId);
+        List<Reservation> reservations = slice.getContent();
+        if (reservations.isEmpty()) {
+            return new UserReservationListResponse(new ArrayList<>(), null);
+        }
 
-        List<ReservationUserWrapper> linkList = reservationUserRepository.findReservationUserByReservationIdIn(ids);
+        // 참석자는 한 번의 쿼리로 가져와 예약 id 별로 한 번에 묶음
+        List<Long> ids = reservations.stream().map(Reservation::getId).toList();
+        Map<Long, List<UsernameResponse>> attendees = reservationUserRepository
+                .findReservationUserByReservationIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ReservationUserWrapper::getReservationId,
+                        Collectors.mapping(UsernameResponse::new, Collectors.toList())));
 
         return new UserReservationListResponse(reservations.stream().map(x -> {
             Mr m = x.getMeetingRoom();
             User u = x.getUser();
             Long mrId = m == null ? 0 : m.getId();
             String username = u == null ? "탈퇴한 유저" : user.getUsername();
-            List<UsernameResponse> userList = linkList.stream().filter(y -> y.getReservationId().equals(x.getId()))
-                    .map(UsernameResponse::new).toList();
+            List<UsernameResponse> userList = attendees.getOrDefault(x.getId(), new ArrayList<>());
             return new UserReservationResponse(x, mrId, username, userList);
-        }).toList());
+        }).toList(), slice.getNextCursor());
     }
 }
@@ -0,0 +1,81 @@
+package com.example.chillisauce.reservations.vo;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static com.example.chillisauce.reservations.vo.ReservationTimetable.CLOSE_HOUR;
+import static com.example.chillisauce.reservations.vo.ReservationTimetable.OPEN_HOUR;
+
+/**
+ * 회의실 1개의 하루 예약 현황
+ * OPEN_HOUR ~ CLOSE_HOUR 의 1시간 단위 타임을 비트 1개로 표현한다
+ */
+public class TimeSlotBitmap {
+    public static final int SLOT_COUNT = CLOSE_HOUR - OPEN_HOUR + 1;
+
+    private final LocalDate date;
+    private long bits;
+
+    public TimeSlotBitmap(LocalDate date) {
+        this.date = date;
+    }
+
+    /**
+     * [start, end) 구간에 시작 시각이 포함되는 타임을 예약 불가로 표시
+     */
+    public void mark(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return;
+        }
+        int from = Math.max(firstHourNotBefore(start), OPEN_HOUR);
+        int to = Math.min(lastHourBefore(end), CLOSE_HOUR);
+        if (from > to) {
+            return;
+        }
+        int length = to - from + 1;
+        bits |= ((1L << length) - 1) << (from - OPEN_HOUR);
+    }
+
+    /**
+     * 모든 타임을 예약 불가로 표시
+     */
+    public void markAll() {
+        bits = (1L << SLOT_COUNT) - 1;
+    }
+
+    public boolean isOccupied(int hour) {
+        if (hour < OPEN_HOUR || hour > CLOSE_HOUR) {
+            return false;
+        }
+        return (bits & (1L << (hour - OPEN_HOUR))) != 0;
+    }
+
+    public int occupiedCount() {
+        return Long.bitCount(bits);
+    }
+
+    // 시작 시각이 time 이후인 첫 번째 타임
+    private int firstHourNotBefore(LocalDateTime time) {
+        if (time.toLocalDate().isBefore(date)) {
+            return OPEN_HOUR;
+        }
+        if (time.toLocalDate().isAfter(date)) {
+            return CLOSE_HOUR + 1;
+        }
+        LocalTime local = time.toLocalTime();
+        return local.equals(LocalTime.of(local.getHour(), 0)) ? local.getHour() : local.getHour() + 1;
+    }
+
+    // 시작 시각이 time 이전인 마지막 타임
+    private int lastHourBefore(LocalDateTime time) {
+        if (time.toLocalDate().isAfter(date)) {
+            return CLOSE_HOUR;
+        }
+        if (time.toLocalDate().isBefore(date)) {
+            return OPEN_HOUR - 1;
+        }
+        LocalTime local = time.toLocalTime();
+        return local.equals(LocalTime.of(local.getHour(), 0)) ? local.getHour() - 1 : local.getHour();
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.chillisauce.schedules.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.schedules.dto.ScheduleListResponseDto;
 import com.example.chillisauce.schedules.dto.ScheduleRequestDto;
 import com.example.chillisauce.schedules.dto.ScheduleResponseDto;
 import com.example.chillisauce.schedules.dto.ScheduleTimetableResponseDto;
+import com.example.chillisauce.schedules.dto.ScheduleWeekResponseDto;
 import com.example.chillisauce.schedules.service.ScheduleService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
@@ -36,13 +38,29 @@ public class ScheduleController {
         return ResponseMessage.responseSuccess("당일 스케줄 조회 성공", scheduleService.getDaySchedules(selDate, userDetails));
     }
 
+    /**
+     * 주간 스케줄 조회
+     * 선택 날짜가 속한 주의 월요일부터 일요일까지 조회
+     */
+    @GetMapping("/schedules/week")
+    public ResponseEntity<ResponseMessage<ScheduleWeekResponseDto>> getWeekSchedules(
+            @RequestParam(value = "selDate", required = false, defaultValue = "#{T(java.time.LocalDate).now()}")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate selDate,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("주간 스케줄 조회 성공", scheduleService.getWeekSchedules(selDate, userDetails));
+    }
+
     /**
      * 개인 전체 스케줄 조회
      */
     @GetMapping("/schedules/all")
     public ResponseEntity<ResponseMessage<ScheduleListResponseDto>> getAllSchedules(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseMessage.responseSuccess("개인 전체 스케줄 조회 성공", scheduleService.getAllSchedules(userDetails));
+        return ResponseMessage.responseSuccess("개인 전체 스케줄 조회 성공",
+                scheduleService.getAllSchedules(CursorRequest.of(cursor, limit), userDetails));
     }
     /**
      * 개인 스케줄 등록
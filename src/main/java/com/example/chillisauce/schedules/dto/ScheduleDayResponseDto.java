@@ -0,0 +1,23 @@
+package com.example.chillisauce.schedules.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "스케줄 하루 타임테이블 응답 DTO")
+public class ScheduleDayResponseDto {
+    @Schema(description = "날짜")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    LocalDate date;
+
+    @Schema(description = "타임테이블 리스트")
+    List<ScheduleTimeResponseDto> timeList;
+}
@@ -11,4 +11,10 @@ import java.util.List;
 @NoArgsConstructor
 public class ScheduleListResponseDto {
     List<ScheduleResponseDto> scList;
+    // 다음 페이지 커서, 마지막 페이지면 null
+    String nextCursor;
+
+    public ScheduleListResponseDto(List<ScheduleResponseDto> scList) {
+        this(scList, null);
+    }
 }
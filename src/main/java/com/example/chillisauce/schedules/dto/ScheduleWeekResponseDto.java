@@ -0,0 +1,16 @@
+package com.example.chillisauce.schedules.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleWeekResponseDto {
+    @Schema(description = "월요일부터 일요일까지 요일별 타임테이블")
+    List<ScheduleDayResponseDto> dayList;
+}
@@ -16,7 +16,16 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(indexes = {
+        // 유저별 겹침 검사, 당일/주간 조회
+        @Index(name = "idx_schedule_user_time", columnList = "user_id, start_time, end_time")
+}, uniqueConstraints = {
+        // 회의 스케줄은 참석자마다 1개 - 아웃박스 재시도가 중복 생성하지 않도록 보장
+        @UniqueConstraint(name = "uk_schedule_user_reservation", columnNames = {"user_id", "reservation_id"})
+})
 public class Schedule {
+    public static final String DELETED_MEETING_ROOM = "삭제된 회의실";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     Long id;
@@ -36,6 +45,11 @@ public class Schedule {
     @Column(nullable = false)
     String comment;
 
+    // 회의로 생성된 스케줄의 예약 id, 개인 스케줄은 null
+    // 컬럼 추가 전에 생성된 회의 스케줄도 null 이라 예약 수정, 삭제, 회의실 삭제가 반영되지 않는다
+    @Column(name = "reservation_id")
+    Long reservationId;
+
     public void update(ScheduleRequestDto requestDto, LocalDateTime startTime, LocalDateTime endTime) {
         this.title= requestDto.getScTitle();
         this.comment= requestDto.getScComment();
@@ -45,7 +59,8 @@ public class Schedule {
 
     public Schedule(Reservation reservation, User user){
         this.title="회의";
-        this.comment=reservation.getMeetingRoom().getLocationName();
+        this.comment=reservation.getMeetingRoom() != null ? reservation.getMeetingRoom().getLocationName() : DELETED_MEETING_ROOM;
+        this.reservationId=reservation.getId();
         this.user=user;
         this.startTime=reservation.getStartTime();
         this.endTime=reservation.getEndTime();
@@ -0,0 +1,52 @@
+package com.example.chillisauce.schedules.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 회의 참석자 스케줄 생성 대기 작업
+ * 예약 트랜잭션에서 함께 저장하고, 커밋된 뒤 ScheduleOutboxRelay 가 꺼내 처리한다
+ */
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Table(indexes = @Index(name = "idx_schedule_outbox_next_attempt", columnList = "next_attempt_at"))
+public class ScheduleOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    // 예약이 삭제되어도 작업은 남아있을 수 있어 연관관계 없이 id만 저장
+    @Column(name = "reservation_id", nullable = false)
+    Long reservationId;
+
+    @Column(nullable = false)
+    int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    LocalDateTime nextAttemptAt;
+
+    String lastError;
+
+    public ScheduleOutbox(Long reservationId) {
+        this.reservationId = reservationId;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 횟수를 늘리고 2^attempts 초 뒤로 재시도를 미룸
+     */
+    public void fail(String error, LocalDateTime now) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 255 ? error : error.substring(0, 255);
+        this.nextAttemptAt = now.plusSeconds(1L << Math.min(attempts, 10));
+    }
+}
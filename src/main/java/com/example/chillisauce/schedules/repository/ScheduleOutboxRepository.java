@@ -0,0 +1,32 @@
+package com.example.chillisauce.schedules.repository;
+
+import com.example.chillisauce.schedules.entity.ScheduleOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ScheduleOutboxRepository extends JpaRepository<ScheduleOutbox, Long> {
+    /**
+     * 재시도 시각이 지났고 최대 시도 횟수에 도달하지 않은 작업 id
+     */
+    @Query("select o.id from ScheduleOutbox o " +
+            "where o.nextAttemptAt <= :now and o.attempts < :maxAttempts order by o.id asc")
+    List<Long> findReadyIds(@Param("now") LocalDateTime now,
+                            @Param("maxAttempts") int maxAttempts,
+                            Pageable pageable);
+
+    /**
+     * 재시도 시각이 지난 작업만 leaseUntil 까지 미뤄 임대 - 다른 인스턴스가 먼저 잡았으면 0
+     */
+    @Modifying
+    @Query("update ScheduleOutbox o set o.nextAttemptAt = :leaseUntil " +
+            "where o.id = :id and o.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+}
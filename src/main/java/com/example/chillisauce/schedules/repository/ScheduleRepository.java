@@ -2,8 +2,10 @@ package com.example.chillisauce.schedules.repository;
 
 import com.example.chillisauce.reservations.entity.Reservation;
 import com.example.chillisauce.schedules.entity.Schedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,14 +14,46 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleRepositorySupport {
     List<Schedule> findAllByUserId(Long userId);
 
+    @Query("select s.user.id from Schedule s where s.reservationId = :reservationId")
+    List<Long> findUserIdsByReservationId(@Param("reservationId") Long reservationId);
+
+    /**
+     * 예약 시간 변경을 회의 참석자 스케줄 전체에 반영
+     */
+    @Modifying
+    @Query("update Schedule s set s.startTime = :startTime, s.endTime = :endTime " +
+            "where s.reservationId = :reservationId")
+    int updateTimeByReservationId(@Param("reservationId") Long reservationId,
+                                  @Param("startTime") LocalDateTime startTime,
+                                  @Param("endTime") LocalDateTime endTime);
+
+    @Modifying
+    @Query("delete from Schedule s where s.reservationId = :reservationId")
+    int deleteAllByReservationId(@Param("reservationId") Long reservationId);
+
+    /**
+     * 회의실 삭제 시 해당 회의실 예약의 참석자 스케줄 장소를 변경 - 예약에서 회의실을 분리하기 전에 호출해야 함
+     */
+    @Modifying
+    @Query("update Schedule s set s.comment = :comment " +
+            "where s.reservationId in (select r.id from Reservation r where r.meetingRoom.id = :meetingRoomId)")
+    int updateCommentByMeetingRoomId(@Param("meetingRoomId") Long meetingRoomId,
+                                     @Param("comment") String comment);
+
+    List<Schedule> findAllByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long lastId, Pageable pageable);
+
+    /**
+     * [startTime, endTime) 구간과 겹치는 스케줄 - 전날 시작해 이어지는 스케줄도 포함
+     */
     @Query("select s from Schedule s " +
-            "where s.user.id = :userId and s.startTime between :startTime and :endTime")
-    List<Schedule> findAllByUserIdAndStartTimeBetween(@Param("userId") Long userId,
-                                               @Param("startTime") LocalDateTime startTime,
-                                               @Param("endTime") LocalDateTime endTime);
+            "where s.user.id = :userId and s.startTime < :endTime and s.endTime > :startTime " +
+            "order by s.startTime")
+    List<Schedule> findAllOverlappingByUserId(@Param("userId") Long userId,
+                                              @Param("startTime") LocalDateTime startTime,
+                                              @Param("endTime") LocalDateTime endTime);
 
     @Query("select s from Schedule s " +
             "where s.user.id= :userId and s.startTime < :endTime and s.endTime > :startTime")
@@ -0,0 +1,35 @@
+package com.example.chillisauce.schedules.repository;
+
+import com.example.chillisauce.config.JpaBatchConfig;
+import com.example.chillisauce.schedules.entity.Schedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduleRepositoryImpl implements ScheduleRepositorySupport {
+    private static final String INSERT_SQL =
+            "insert into schedule (user_id, title, comment, start_time, end_time, reservation_id) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, schedules, JpaBatchConfig.BATCH_SIZE, (ps, x) -> {
+            ps.setLong(1, x.getUser().getId());
+            ps.setString(2, x.getTitle());
+            ps.setString(3, x.getComment());
+            ps.setTimestamp(4, Timestamp.valueOf(x.getStartTime()));
+            ps.setTimestamp(5, Timestamp.valueOf(x.getEndTime()));
+            ps.setObject(6, x.getReservationId(), Types.BIGINT);
+        });
+    }
+}
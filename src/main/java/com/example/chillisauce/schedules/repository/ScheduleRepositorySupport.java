@@ -0,0 +1,13 @@
+package com.example.chillisauce.schedules.repository;
+
+import com.example.chillisauce.schedules.entity.Schedule;
+
+import java.util.List;
+
+public interface ScheduleRepositorySupport {
+    /**
+     * 스케줄 JDBC 배치 저장 - IDENTITY 전략이라 Hibernate 로는 배치되지 않음
+     * 저장한 엔티티는 영속성 컨텍스트에 올라가지 않고 id 도 채워지지 않는다
+     */
+    void batchInsert(List<Schedule> schedules);
+}
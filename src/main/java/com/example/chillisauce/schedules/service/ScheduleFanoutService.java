@@ -0,0 +1,90 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.schedules.entity.Schedule;
+import com.example.chillisauce.schedules.entity.ScheduleOutbox;
+import com.example.chillisauce.schedules.repository.ScheduleOutboxRepository;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 회의 참석자 스케줄 생성
+ * 아웃박스 작업 1건을 트랜잭션 1개로 처리하며, 이미 스케줄이 있는 참석자는 건너뛰어 재시도해도 중복되지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleFanoutService {
+    // 작업 하나를 처리하는 동안 다른 인스턴스가 꺼내지 못하게 미루는 시간
+    static final long LEASE_SECONDS = 60;
+
+    private final ScheduleOutboxRepository scheduleOutboxRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationUserRepository reservationUserRepository;
+
+    /**
+     * 예약 트랜잭션 안에서 호출 - 예약과 함께 커밋되어야 함
+     */
+    @Transactional
+    public void enqueue(Reservation reservation) {
+        scheduleOutboxRepository.save(new ScheduleOutbox(reservation.getId()));
+    }
+
+    /**
+     * 작업 임대 - 짧은 트랜잭션으로 커밋해 다른 인스턴스가 같은 작업을 꺼내지 않게 함
+     * 처리 중에 죽으면 임대가 끝난 뒤 다시 꺼내진다
+     */
+    @Transactional
+    public boolean claim(Long outboxId, LocalDateTime now) {
+        return scheduleOutboxRepository.claim(outboxId, now, now.plusSeconds(LEASE_SECONDS)) == 1;
+    }
+
+    @Transactional
+    public void fanOut(Long outboxId) {
+        Optional<ScheduleOutbox> outbox = scheduleOutboxRepository.findById(outboxId);
+        // 다른 인스턴스가 먼저 처리함
+        if (outbox.isEmpty()) {
+            return;
+        }
+
+        Optional<Reservation> reservation = reservationRepository.findById(outbox.get().getReservationId());
+        if (reservation.isPresent()) {
+            Set<Long> scheduled = new HashSet<>(scheduleRepository.findUserIdsByReservationId(reservation.get().getId()));
+            List<Schedule> schedules = reservationUserRepository.findAttendeesByReservationId(reservation.get().getId())
+                    .stream()
+                    .filter(x -> !scheduled.contains(x.getId()))
+                    .map(x -> new Schedule(reservation.get(), x))
+                    .toList();
+            scheduleRepository.batchInsert(schedules);
+        }
+
+        scheduleOutboxRepository.delete(outbox.get());
+    }
+
+    @Transactional
+    public void markFailed(Long outboxId, String error) {
+        scheduleOutboxRepository.findById(outboxId).ifPresent(x -> {
+            x.fail(error, LocalDateTime.now());
+            if (x.getAttempts() >= ScheduleOutboxRelay.MAX_ATTEMPTS) {
+                // 더 이상 꺼내지 않으므로 참석자 스케줄은 수동 처리가 필요
+                log.error("schedule fan-out gave up : outbox {}, reservation {}, attempts {}, error {}",
+                        x.getId(), x.getReservationId(), x.getAttempts(), x.getLastError());
+                return;
+            }
+            log.warn("schedule fan-out failed : outbox {}, reservation {}, attempts {}",
+                    x.getId(), x.getReservationId(), x.getAttempts());
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.schedules.repository.ScheduleOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스케줄 아웃박스를 주기적으로 비우는 워커
+ * 작업마다 재시도 시각을 임대 기한으로 미뤄 한 인스턴스만 처리하게 하고,
+ * 실패한 작업은 지수 백오프로 재시도하고 MAX_ATTEMPTS 번 실패하면 더 이상 꺼내지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleOutboxRelay {
+    public static final int MAX_ATTEMPTS = 10;
+    public static final int BATCH_SIZE = 100;
+
+    private final ScheduleOutboxRepository scheduleOutboxRepository;
+    private final ScheduleFanoutService scheduleFanoutService;
+
+    @Scheduled(fixedDelayString = "${schedule.outbox.delay:1000}")
+    public void relay() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = scheduleOutboxRepository.findReadyIds(now, MAX_ATTEMPTS, PageRequest.of(0, BATCH_SIZE));
+        for (Long id : ids) {
+            // 모든 인스턴스가 같은 id 를 읽으므로 임대에 성공한 작업만 처리
+            if (!scheduleFanoutService.claim(id, now)) {
+                continue;
+            }
+            try {
+                scheduleFanoutService.fanOut(id);
+            } catch (RuntimeException e) {
+                scheduleFanoutService.markFailed(id, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.chillisauce.schedules.service;
 
-import com.example.chillisauce.reservations.vo.TimeUnit;
+import com.example.chillisauce.paging.CursorRequest;
+import com.example.chillisauce.paging.CursorSlice;
+import com.example.chillisauce.reservations.vo.TimeSlotBitmap;
 import com.example.chillisauce.schedules.dto.*;
 import com.example.chillisauce.schedules.entity.Schedule;
 import com.example.chillisauce.schedules.exception.ScheduleErrorCode;
@@ -14,18 +16,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.annotation.PostConstruct;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
+    private static final int DAYS_IN_WEEK = 7;
 
     private final ScheduleRepository scheduleRepository;
 
@@ -33,49 +36,63 @@ public class ScheduleService {
     public ScheduleTimetableResponseDto getDaySchedules(LocalDate selDate, UserDetailsImpl userDetails) {
         User user = userDetails.getUser();
 
-        // 해당 날짜에 해당하는 모든 스케줄 리스트
-        List<Schedule> all = scheduleRepository
-                .findAllByUserIdAndStartTimeBetween(user.getId(), selDate.atStartOfDay(), selDate.atTime(LocalTime.MAX));
-
-        // 예약 수 x timeSet entry lop
-        List<ScheduleTimeResponseDto> timeList =
-                ScheduleTimeTable.TIME_SET.stream().map(
-                        x -> {
-                            LocalTime startTime = LocalTime.of(x.getStart().getHour(), x.getStart().getMinute());
-                            LocalTime endTime = LocalTime.of(x.getEnd().getHour(), x.getEnd().getMinute());
-                            LocalDateTime startDateTime = LocalDateTime.of(selDate, startTime);
-                            return new ScheduleTimeResponseDto(isOccupied(startDateTime, all), startTime, endTime);
-                        })
-                        // 07시부터 22시까지 정렬하기 위한 Comparator 구현
-                        .sorted(((o1, o2) -> o1.getStart().isAfter(o2.getStart()) ? 1 :
-                                o1.getStart().isBefore(o2.getStart()) ? -1 : 0))
-                        .toList();
-
-        return new ScheduleTimetableResponseDto(timeList);
+        // 해당 날짜와 겹치는 모든 스케줄 리스트
+        List<Schedule> all = scheduleRepository.findAllOverlappingByUserId(user.getId(),
+                selDate.atStartOfDay(), selDate.plusDays(1).atStartOfDay());
+
+        return new ScheduleTimetableResponseDto(toTimeList(toBitmap(selDate, all)));
     }
 
-    // 예약의 시작시간에 해당하는 타임은 true 반환
-    boolean isOccupied(LocalDateTime time, List<Schedule> all) {
+    /**
+     * 선택 날짜가 속한 주(월요일 ~ 일요일)의 스케줄 타임테이블 조회
+     */
+    @Transactional(readOnly = true)
+    public ScheduleWeekResponseDto getWeekSchedules(LocalDate selDate, UserDetailsImpl userDetails) {
+        User user = userDetails.getUser();
+        LocalDate monday = selDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        // 일주일치를 한 번에 조회해 요일별 비트맵에 나눠 표시
+        List<Schedule> all = scheduleRepository.findAllOverlappingByUserId(user.getId(),
+                monday.atStartOfDay(), monday.plusDays(DAYS_IN_WEEK).atStartOfDay());
+
+        List<ScheduleDayResponseDto> dayList = new ArrayList<>(DAYS_IN_WEEK);
+        for (int i = 0; i < DAYS_IN_WEEK; i++) {
+            LocalDate date = monday.plusDays(i);
+            dayList.add(new ScheduleDayResponseDto(date, toTimeList(toBitmap(date, all))));
+        }
+        return new ScheduleWeekResponseDto(dayList);
+    }
+
+    // 스케줄 리스트를 한 번 순회하며 타임별 점유 여부를 비트맵에 표시
+    TimeSlotBitmap toBitmap(LocalDate date, List<Schedule> all) {
+        TimeSlotBitmap bitmap = new TimeSlotBitmap(date);
         for (Schedule schedule : all) {
-            LocalDateTime start = schedule.getStartTime();
-            LocalDateTime end = schedule.getEndTime();
-            if (time.isEqual(start) || (time.isAfter(start) && time.isBefore(end))) {
-                return true;
-            }
+            bitmap.mark(schedule.getStartTime(), schedule.getEndTime());
+        }
+        return bitmap;
+    }
+
+    // 07시부터 22시까지 시각 순서대로 타임 정보 생성
+    private List<ScheduleTimeResponseDto> toTimeList(TimeSlotBitmap bitmap) {
+        List<ScheduleTimeResponseDto> timeList = new ArrayList<>(TimeSlotBitmap.SLOT_COUNT);
+        for (int hour = ScheduleTimeTable.OPEN_HOUR; hour <= ScheduleTimeTable.CLOSE_HOUR; hour++) {
+            timeList.add(new ScheduleTimeResponseDto(bitmap.isOccupied(hour),
+                    LocalTime.of(hour, 0), LocalTime.of(hour, 59)));
         }
-        return false;
+        return timeList;
     }
 
     @Transactional(readOnly = true)
-    public ScheduleListResponseDto getAllSchedules(UserDetailsImpl userDetails) {
+    public ScheduleListResponseDto getAllSchedules(CursorRequest cursorRequest, UserDetailsImpl userDetails) {
         User user = userDetails.getUser();
 
-        List<Schedule> schedules = scheduleRepository
-                .findAllByUserId(user.getId());
+        CursorSlice<Schedule> slice = cursorRequest.slice(scheduleRepository
+                .findAllByUserIdAndIdGreaterThanOrderByIdAsc(user.getId(), cursorRequest.getLastId(),
+                        cursorRequest.fetchPageable()), Schedule::getId);
 
-        List<ScheduleResponseDto> dtoList = schedules.stream().map(ScheduleResponseDto::new).toList();
+        List<ScheduleResponseDto> dtoList = slice.getContent().stream().map(ScheduleResponseDto::new).toList();
 
-        return new ScheduleListResponseDto(dtoList);
+        return new ScheduleListResponseDto(dtoList, slice.getNextCursor());
     }
 
     @Transactional
@@ -2,13 +2,17 @@ package com.example.chillisauce.spaces.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
 import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.dto.response.OccupancyCountResponseDto;
 import com.example.chillisauce.spaces.service.LocationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RestController
@@ -20,4 +24,16 @@ public class LocationController {
         return ResponseMessage.responseSuccess("사용자 등록 및 이동 완료", "");
 
     }
+
+    /* 공간 유저 이동 실시간 구독 (SSE) */
+    @GetMapping(value = "/spaces/{companyName}/{spaceId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLocationEvents(@PathVariable String companyName, @PathVariable Long spaceId, @AuthenticationPrincipal UserDetailsImpl details) {
+        return locationService.subscribe(companyName, spaceId, details);
+    }
+
+    /* 층, 공간, 로케이션별 착석 인원 수 (로비 대시보드) */
+    @GetMapping("/spaces/{companyName}/occupancy")
+    public ResponseEntity<ResponseMessage<OccupancyCountResponseDto>> getOccupancyCounts(@PathVariable String companyName, @AuthenticationPrincipal UserDetailsImpl details) {
+        return ResponseMessage.responseSuccess("착석 인원 조회 성공", locationService.getOccupancyCounts(companyName, details));
+    }
 }
@@ -1,17 +1,16 @@
 package com.example.chillisauce.spaces.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.MrRequestDto;
-import com.example.chillisauce.spaces.dto.response.MrResponseDto;
+import com.example.chillisauce.spaces.dto.response.MrListResponseDto;
 import com.example.chillisauce.spaces.service.MrService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 public class MrController {
@@ -38,9 +37,13 @@ public class MrController {
     }
 
     @GetMapping("/mr/{companyName}")
-    public ResponseEntity<ResponseMessage<List<MrResponseDto>>> mrlist
-            (@PathVariable("companyName") String companyName,@AuthenticationPrincipal UserDetailsImpl details) {
+    public ResponseEntity<ResponseMessage<MrListResponseDto>> mrlist
+            (@PathVariable("companyName") String companyName,
+             @RequestParam(value = "cursor", required = false) String cursor,
+             @RequestParam(value = "limit", required = false) Integer limit,
+             @AuthenticationPrincipal UserDetailsImpl details) {
 
-        return ResponseMessage.responseSuccess("미팅룸 조회 성공",mrService.mrlist(companyName, details));
+        return ResponseMessage.responseSuccess("미팅룸 조회 성공",
+                mrService.mrlist(companyName, CursorRequest.of(cursor, limit), details));
     }
 }
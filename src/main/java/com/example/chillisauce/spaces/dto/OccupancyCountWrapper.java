@@ -0,0 +1,8 @@
+package com.example.chillisauce.spaces.dto;
+
+public interface OccupancyCountWrapper {
+    Long getLocationId();
+    Long getSpaceId();
+    Long getFloorId();
+    Long getCount();
+}
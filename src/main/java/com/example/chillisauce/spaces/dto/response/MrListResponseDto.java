@@ -0,0 +1,16 @@
+package com.example.chillisauce.spaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MrListResponseDto {
+    private List<MrResponseDto> mrList;
+    // 다음 페이지 커서, 마지막 페이지면 null
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.example.chillisauce.spaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 회사의 착석 인원 수
+ * 층 id, 공간 id, 로케이션 id 별 인원 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyCountResponseDto {
+    private Map<Long, Long> floors = new HashMap<>();
+    private Map<Long, Long> spaces = new HashMap<>();
+    private Map<Long, Long> locations = new HashMap<>();
+}
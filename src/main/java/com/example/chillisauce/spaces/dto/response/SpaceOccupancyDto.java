@@ -0,0 +1,30 @@
+package com.example.chillisauce.spaces.dto.response;
+
+import com.example.chillisauce.reservations.dto.response.ReservationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공간의 자주 바뀌는 점유 정보
+ * 로케이션 id 별 착석 유저, 회의실 id 별 예약
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceOccupancyDto {
+    private Map<Long, List<UserLocationResponseDto>> userLocations = new HashMap<>();
+    private Map<Long, List<ReservationResponse>> reservations = new HashMap<>();
+
+    public List<UserLocationResponseDto> getUserLocations(Long locationId) {
+        return userLocations.getOrDefault(locationId, List.of());
+    }
+
+    public List<ReservationResponse> getReservations(Long meetingRoomId) {
+        return reservations.getOrDefault(meetingRoomId, List.of());
+    }
+}
@@ -45,5 +45,25 @@ public class SpaceResponseDto {
 
     }
 
+    /* 캐시된 배치도는 공유되므로 수정하지 않고 점유 정보를 입힌 사본을 반환 */
+    public SpaceResponseDto withOccupancy(SpaceOccupancyDto occupancy) {
+        List<BoxResponseDto> boxes = boxList.stream()
+                .map(box -> {
+                    List<UserLocationResponseDto> users = occupancy.getUserLocations(box.getBoxId());
+                    String username = users.isEmpty() ? null : users.get(0).getUsername();
+                    return new BoxResponseDto(box.getBoxId(), box.getBoxName(), box.getX(), box.getY(), username);
+                })
+                .toList();
+        List<MrResponseDto> mrs = mrList.stream()
+                .map(mr -> new MrResponseDto(mr.getMrId(), mr.getMrName(), mr.getX(), mr.getY(),
+                        occupancy.getReservations(mr.getMrId())))
+                .toList();
+        List<MultiBoxResponseDto> multiBoxes = multiBoxList.stream()
+                .map(multiBox -> new MultiBoxResponseDto(multiBox.getMultiBoxId(), multiBox.getMultiBoxName(),
+                        multiBox.getX(), multiBox.getY(), occupancy.getUserLocations(multiBox.getMultiBoxId())))
+                .toList();
+        return new SpaceResponseDto(spaceId, spaceName, floorId, floorName, boxes, mrs, multiBoxes);
+    }
+
 }
 
@@ -5,7 +5,17 @@ import lombok.*;
 
 import javax.persistence.*;
 
+/**
+ * 유저 착석 위치
+ * 유저당 1행(user_id 유니크), 박스는 1명(box_id 유니크)만 앉을 수 있도록 DB 가 보장한다
+ * 멀티박스, 회의실은 box_id 가 null 이라 여러 명이 앉을 수 있다
+ * 제약 도입 전 행의 중복 정리와 box_id 채우기는 UserLocationMigration 이 기동 시 처리한다
+ */
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_location_user", columnNames = "user_id"),
+        @UniqueConstraint(name = "uk_user_location_box", columnNames = "box_id")},
+        indexes = @Index(name = "idx_user_location_location", columnList = "location_id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -17,6 +27,7 @@ public class UserLocation {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "user_id")
     private Long userId;
 
     private String username;
@@ -25,8 +36,13 @@ public class UserLocation {
     @JoinColumn(name = "location_id")
     private Location location;
 
+    // 박스에 앉은 경우에만 박스 id, 나머지는 null
+    @Column(name = "box_id")
+    private Long boxId;
+
     public UserLocation(Location location, User user) {
         this.location = location;
+        this.boxId = boxIdOf(location);
         this.userId = user.getId();
         this.username = user.getUsername();
 
@@ -36,6 +52,11 @@ public class UserLocation {
         this.userId = user.getId();
         this.username = getUsername();
         this.location = location;
+        this.boxId = boxIdOf(location);
         return this;
     }
+
+    private static Long boxIdOf(Location location) {
+        return location != null && location.isBox() ? location.getId() : null;
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.chillisauce.spaces.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 위치 변경 이벤트
+ * 클라이언트는 from 로케이션에서 유저를 빼고 to 로케이션에 추가해 배치도를 갱신
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationChangedEvent {
+    private String companyName;
+    private Long userId;
+    private String username;
+    private Long fromSpaceId;
+    private Long fromLocationId;
+    private Long toSpaceId;
+    private Long toLocationId;
+}
@@ -0,0 +1,115 @@
+package com.example.chillisauce.spaces.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 회사, 공간별 SSE 구독자에게 유저 위치 변경을 전달
+ * 커밋된 이벤트는 Redis pub/sub 으로 모든 노드에 퍼지고 각 노드는 자신의 구독자에게 전송
+ */
+@Slf4j
+@Component
+public class LocationEventBroker implements MessageListener {
+    public static final String TOPIC = "space:location";
+    static final String EVENT_NAME = "location";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long timeout;
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public LocationEventBroker(StringRedisTemplate redisTemplate,
+                               @Value("${sse.location.timeout-ms:1800000}") long timeout) {
+        this.redisTemplate = redisTemplate;
+        this.timeout = timeout;
+    }
+
+    /* 공간 구독 */
+    public SseEmitter subscribe(String companyName, Long spaceId) {
+        String key = key(companyName, spaceId);
+        SseEmitter emitter = new SseEmitter(timeout);
+        emitters.compute(key, (k, set) -> {
+            Set<SseEmitter> subscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            subscribers.add(emitter);
+            return subscribers;
+        });
+
+        emitter.onCompletion(() -> remove(key, emitter));
+        emitter.onTimeout(() -> remove(key, emitter));
+        emitter.onError(e -> remove(key, emitter));
+
+        // 첫 응답을 보내지 않으면 재연결 시 503 이 발생하므로 연결 이벤트 전송
+        send(key, emitter, SseEmitter.event().name("connect").data("connected"));
+        return emitter;
+    }
+
+    /* 커밋된 위치 변경을 모든 노드로 발행 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(LocationChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(TOPIC, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 로 퍼뜨리지 못하면 최소한 이 노드의 구독자에게는 전달
+            log.warn("위치 변경 이벤트 발행 실패, 로컬 구독자에게만 전달", e);
+            dispatch(event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            dispatch(objectMapper.readValue(message.getBody(), LocationChangedEvent.class));
+        } catch (IOException e) {
+            log.warn("위치 변경 이벤트 해석 실패", e);
+        }
+    }
+
+    /* 떠난 공간과 들어간 공간의 구독자에게 전송 */
+    void dispatch(LocationChangedEvent event) {
+        Stream.of(event.getFromSpaceId(), event.getToSpaceId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(spaceId -> key(event.getCompanyName(), spaceId))
+                .forEach(key -> emitters.getOrDefault(key, Set.of())
+                        .forEach(emitter -> send(key, emitter, SseEmitter.event().name(EVENT_NAME).data(event))));
+    }
+
+    int subscriberCount(String companyName, Long spaceId) {
+        return emitters.getOrDefault(key(companyName, spaceId), Set.of()).size();
+    }
+
+    private void send(String key, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊어진 연결은 정리
+            remove(key, emitter);
+        }
+    }
+
+    private void remove(String key, SseEmitter emitter) {
+        emitters.computeIfPresent(key, (k, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static String key(String companyName, Long spaceId) {
+        return companyName + "_" + spaceId;
+    }
+}
@@ -18,6 +18,9 @@ public enum SpaceErrorCode implements ErrorStatusMessage {
     SPACE_DOES_NOT_BELONG_TO_COMPANY (BAD_REQUEST, "회사에 해당 공간이 존재하지 않습니다."),
     NOT_HAVE_PERMISSION_COMPANIES(BAD_REQUEST, "해당 회사에 대한 권한이 없습니다."),
 
+    /* 409 CONFLICT : 동시 요청 충돌 */
+    USER_LOCATION_CONFLICT(CONFLICT, "다른 요청에서 위치를 변경하고 있습니다. 다시 시도해주세요."),
+
     //    /* 404 NOT_FOUND : Resource 를 찾을 수 없음 */
 
     SPACE_NOT_FOUND(NOT_FOUND, "해당 공간을 찾을 수 없습니다."),
@@ -0,0 +1,85 @@
+package com.example.chillisauce.spaces.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.function.IntSupplier;
+
+/**
+ * user_location 유니크 제약 도입 전에 쌓인 착석 정보 정리
+ * 스키마는 ddl-auto 로 갱신되므로 Hibernate 가 제약을 만들기 전에 중복 행을 지우고,
+ * box_id 컬럼이 생긴 뒤에 기존 박스 착석 행의 box_id 를 채운다. 이미 정리된 DB 에서는 아무 행도 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+public class UserLocationMigration implements InitializingBean, SmartInitializingSingleton {
+    static final String BEAN_NAME = "userLocationMigration";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserLocationMigration(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * EntityManagerFactory(스키마 갱신)보다 먼저 생성되도록 지정
+     */
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor userLocationMigrationDependsOn() {
+        return new EntityManagerFactoryDependsOnPostProcessor(BEAN_NAME);
+    }
+
+    // 스키마 갱신 전 - uk_user_location_user, uk_user_location_box 가 만들어지도록 중복 정리
+    @Override
+    public void afterPropertiesSet() {
+        run("dedupe", this::dedupe);
+    }
+
+    // 스키마 갱신 후 - box_id 채우기
+    @Override
+    public void afterSingletonsInstantiated() {
+        run("backfill", this::backfill);
+    }
+
+    /**
+     * 유저당, 박스당 가장 최근 행만 남기고 삭제
+     */
+    int dedupe() {
+        int users = jdbcTemplate.update("delete from user_location where id not in (" +
+                "select id from (select max(id) as id from user_location group by user_id) latest)");
+        int boxes = jdbcTemplate.update("delete from user_location where location_id in (select id from box) " +
+                "and id not in (select id from (select max(id) as id from user_location " +
+                "where location_id in (select id from box) group by location_id) latest)");
+        return users + boxes;
+    }
+
+    /**
+     * 박스 착석 행의 box_id 를 location_id 로 채우고, 박스가 아닌 곳으로 옮겨진 행의 box_id 는 비움
+     */
+    int backfill() {
+        int cleared = jdbcTemplate.update("update user_location set box_id = null " +
+                "where box_id is not null and (location_id is null or box_id <> location_id)");
+        int filled = jdbcTemplate.update("update user_location set box_id = location_id " +
+                "where box_id is null and location_id in (select id from box)");
+        return cleared + filled;
+    }
+
+    private void run(String step, IntSupplier task) {
+        try {
+            int rows = task.getAsInt();
+            if (rows > 0) {
+                log.info("user_location {} updated {} rows", step, rows);
+            }
+        } catch (DataAccessException e) {
+            // 새 DB 라 테이블, 컬럼이 아직 없으면 정리할 행도 없음
+            log.info("user_location {} skipped : {}", step, e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.chillisauce.spaces.repository;
 
+import com.example.chillisauce.schedules.entity.Schedule;
 import com.example.chillisauce.spaces.dto.response.FloorResponseDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
 import com.example.chillisauce.spaces.entity.Floor;
 import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.users.entity.QCompanies;
 import com.example.chillisauce.users.entity.User;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
@@ -16,6 +18,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.example.chillisauce.reservations.entity.QReservation.reservation;
+import static com.example.chillisauce.reservations.entity.QReservationSlot.reservationSlot;
+import static com.example.chillisauce.schedules.entity.QSchedule.schedule;
 import static com.example.chillisauce.spaces.entity.QFloor.floor;
 import static com.example.chillisauce.spaces.entity.QMr.mr;
 import static com.example.chillisauce.spaces.entity.QSpace.space;
@@ -40,11 +44,25 @@ public class FloorRepositoryImpl extends QuerydslRepositorySupport implements Fl
                 .from(mr)
                 .where(mr.space.floor.id.eq(floorId))
                 .fetch();
+        // 회의 참석자 스케줄의 장소는 예약에서 회의실을 분리하기 전에 변경
+        queryFactory
+                .update(schedule)
+                .set(schedule.comment, Schedule.DELETED_MEETING_ROOM)
+                .where(schedule.reservationId.in(JPAExpressions
+                        .select(reservation.id)
+                        .from(reservation)
+                        .where(reservation.meetingRoom.id.in(meetingRoomList))))
+                .execute();
         queryFactory
                 .update(reservation)
                 .set(reservation.meetingRoom, (Mr) null)
                 .where(reservation.meetingRoom.id.in(meetingRoomList))
                 .execute();
+        // 회의실에서 분리된 예약은 더 이상 타임을 점유하지 않음
+        queryFactory
+                .delete(reservationSlot)
+                .where(reservationSlot.meetingRoomId.in(meetingRoomList))
+                .execute();
     }
     /**
      * 해당하는 floor 전체 조회 쿼리
@@ -2,10 +2,12 @@ package com.example.chillisauce.spaces.repository;
 
 import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.users.entity.Companies;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,42 @@ public interface MrRepository extends JpaRepository <Mr, Long> {
 
     @Query("SELECT m FROM Mr m LEFT JOIN FETCH m.reservations r JOIN m.space s WHERE s.companies.id = :companiesId")
     List<Mr> findAllByCompaniesId(@Param("companiesId") Long companiesId);
-}
\ No newline at end of file
+
+    // 예약 컬렉션 fetch join 과 페이지 제한을 함께 쓰면 메모리에서 잘리므로 id 를 먼저 자른다
+    @Query("SELECT m.id FROM Mr m JOIN m.space s " +
+            "WHERE s.companies.id = :companiesId AND m.id > :lastId ORDER BY m.id")
+    List<Long> findIdsByCompaniesIdAfter(@Param("companiesId") Long companiesId,
+                                         @Param("lastId") Long lastId,
+                                         Pageable pageable);
+
+    @Query("SELECT DISTINCT m FROM Mr m LEFT JOIN FETCH m.reservations WHERE m.id IN :ids ORDER BY m.id")
+    List<Mr> findAllWithReservationsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT m FROM Mr m JOIN m.space s " +
+            "WHERE s.id = :spaceId AND s.companies.companyName = :companyName ORDER BY m.id")
+    List<Mr> findAllBySpaceIdAndCompanyName(@Param("spaceId") Long spaceId,
+                                            @Param("companyName") String companyName);
+
+    @Query("SELECT m FROM Mr m JOIN m.space s " +
+            "WHERE s.floor.id = :floorId AND s.companies.companyName = :companyName ORDER BY m.id")
+    List<Mr> findAllByFloorIdAndCompanyName(@Param("floorId") Long floorId,
+                                            @Param("companyName") String companyName);
+
+    /**
+     * 회사 회의실 중 [startTime, endTime] 에 겹치는 예약이 없는 회의실 조회
+     * 공간, 층 조건은 null 이면 적용하지 않는다
+     * 겹침 검사는 회의실별 (meeting_room_id, start_time, end_time) 인덱스 탐색으로 처리된다
+     */
+    @Query("SELECT m FROM Mr m JOIN FETCH m.space s LEFT JOIN s.floor f " +
+            "WHERE s.companies.companyName = :companyName " +
+            "AND (:spaceId IS NULL OR s.id = :spaceId) " +
+            "AND (:floorId IS NULL OR f.id = :floorId) " +
+            "AND NOT EXISTS (SELECT r.id FROM Reservation r WHERE r.meetingRoom = m " +
+            "AND r.startTime < :endTime AND r.endTime > :startTime) " +
+            "ORDER BY m.id")
+    List<Mr> findAllAvailable(@Param("companyName") String companyName,
+                              @Param("spaceId") Long spaceId,
+                              @Param("floorId") Long floorId,
+                              @Param("startTime") LocalDateTime startTime,
+                              @Param("endTime") LocalDateTime endTime);
+}
@@ -1,11 +1,14 @@
 package com.example.chillisauce.spaces.repository;
 
+import com.example.chillisauce.reservations.dto.response.ReservationResponse;
+import com.example.chillisauce.schedules.entity.Schedule;
 import com.example.chillisauce.spaces.dto.response.*;
 import com.example.chillisauce.spaces.entity.*;
 import com.example.chillisauce.users.entity.QCompanies;
 import com.example.chillisauce.users.entity.User;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
@@ -13,9 +16,12 @@ import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.example.chillisauce.reservations.entity.QReservation.reservation;
+import static com.example.chillisauce.reservations.entity.QReservationSlot.reservationSlot;
+import static com.example.chillisauce.schedules.entity.QSchedule.schedule;
 import static com.example.chillisauce.spaces.entity.QFloor.floor;
 import static com.example.chillisauce.spaces.entity.QMr.mr;
 import static com.example.chillisauce.spaces.entity.QSpace.space;
@@ -51,7 +57,48 @@ public class SpaceRepositoryImpl extends QuerydslRepositorySupport implements Sp
         return spaces.stream().map(space -> createSpaceResponseDto(space)).collect(Collectors.toList());
     }
 
+    /**
+     * space 배치도 조회 - 착석 유저, 예약은 제외
+     */
+    public List<SpaceResponseDto> getSpaceLayout(Long spaceId) {
+        QLocation location = QLocation.location;
+        List<Space> spaces = from(space)
+                .leftJoin(space.floor, floor).fetchJoin()
+                .leftJoin(space.locations, location).fetchJoin()
+                .where(space.id.eq(spaceId))
+                .distinct()
+                .fetch();
+
+        return spaces.stream().map(this::createSpaceLayoutDto).collect(Collectors.toList());
+    }
+
+    /**
+     * space 점유 정보 조회 - 로케이션별 착석 유저, 회의실별 예약
+     */
+    public SpaceOccupancyDto getSpaceOccupancy(Long spaceId) {
+        QLocation location = QLocation.location;
+        QUserLocation userLocation = QUserLocation.userLocation;
+        Map<Long, List<UserLocationResponseDto>> userLocations = queryFactory
+                .selectFrom(userLocation)
+                .join(userLocation.location, location)
+                .where(location.space.id.eq(spaceId))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(x -> x.getLocation().getId(),
+                        Collectors.mapping(UserLocationResponseDto::new, Collectors.toList())));
+
+        Map<Long, List<ReservationResponse>> reservations = queryFactory
+                .selectFrom(reservation)
+                .join(reservation.meetingRoom, mr)
+                .where(mr.space.id.eq(spaceId))
+                .orderBy(reservation.startTime.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(x -> x.getMeetingRoom().getId(),
+                        Collectors.mapping(ReservationResponse::new, Collectors.toList())));
 
+        return new SpaceOccupancyDto(userLocations, reservations);
+    }
 
     /**
      * space 전체 조회
@@ -81,11 +128,25 @@ public class SpaceRepositoryImpl extends QuerydslRepositorySupport implements Sp
                 .from(mr)
                 .where(mr.space.id.eq(spaceId))
                 .fetch();
+        // 회의 참석자 스케줄의 장소는 예약에서 회의실을 분리하기 전에 변경
+        queryFactory
+                .update(schedule)
+                .set(schedule.comment, Schedule.DELETED_MEETING_ROOM)
+                .where(schedule.reservationId.in(JPAExpressions
+                        .select(reservation.id)
+                        .from(reservation)
+                        .where(reservation.meetingRoom.id.in(meetingRoomList))))
+                .execute();
         queryFactory
                 .update(reservation)
                 .set(reservation.meetingRoom, (Mr) null)
                 .where(reservation.meetingRoom.id.in(meetingRoomList))
                 .execute();
+        // 회의실에서 분리된 예약은 더 이상 타임을 점유하지 않음
+        queryFactory
+                .delete(reservationSlot)
+                .where(reservationSlot.meetingRoomId.in(meetingRoomList))
+                .execute();
     }
 
 
@@ -104,6 +165,26 @@ public class SpaceRepositoryImpl extends QuerydslRepositorySupport implements Sp
         return new SpaceResponseDto(space.getId(), space.getSpaceName(), floorId, floorName, boxList, mrList, multiBoxList);
     }
 
+    private SpaceResponseDto createSpaceLayoutDto(Space space) {
+        List<BoxResponseDto> boxList = space.getLocations().stream()
+                .filter(Location::isBox)
+                .map(l -> new BoxResponseDto((Box) l))
+                .collect(Collectors.toList());
+        List<MrResponseDto> mrList = space.getLocations().stream()
+                .filter(Location::isMr)
+                .map(l -> new MrResponseDto(l.getId(), l.getLocationName(), l.getX(), l.getY()))
+                .collect(Collectors.toList());
+        List<MultiBoxResponseDto> multiBoxList = space.getLocations().stream()
+                .filter(Location::isMultiBox)
+                .map(l -> new MultiBoxResponseDto((MultiBox) l))
+                .collect(Collectors.toList());
+
+        Long floorId = space.getFloor() != null ? space.getFloor().getId() : null;
+        String floorName = space.getFloor() != null ? space.getFloor().getFloorName() : null;
+
+        return new SpaceResponseDto(space.getId(), space.getSpaceName(), floorId, floorName, boxList, mrList, multiBoxList);
+    }
+
     private List<BoxResponseDto> createBoxList(Space space) {
         return space.getLocations().stream()
                 .filter(Location::isBox)
@@ -1,15 +1,26 @@
 package com.example.chillisauce.spaces.repository;
 
+import com.example.chillisauce.spaces.dto.OccupancyCountWrapper;
 import com.example.chillisauce.spaces.entity.UserLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import javax.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserLocationRepository extends JpaRepository<UserLocation, Long> {
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<UserLocation> findByUserId(Long id);
-    Optional<UserLocation> findByLocationId(Long locationId);
+    boolean existsByBoxId(Long boxId);
+    boolean existsByLocationId(Long locationId);
+
+    /**
+     * 회사의 로케이션별 착석 인원 수 - 공간, 층 합계는 호출하는 쪽에서 더한다
+     */
+    @Query("select l.id as locationId, s.id as spaceId, f.id as floorId, count(ul.id) as count " +
+            "from UserLocation ul join ul.location l join l.space s left join s.floor f " +
+            "where s.companies.companyName = :companyName " +
+            "group by l.id, s.id, f.id")
+    List<OccupancyCountWrapper> countAllByCompanyName(@Param("companyName") String companyName);
 
 }
@@ -13,7 +13,6 @@ import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,13 +24,13 @@ public class BoxService {
     private final BoxRepository boxRepository;
     private final CompanyRepository companyRepository;
     private final SpaceService spaceService;
+    private final SpaceCacheEvictor spaceCacheEvictor;
 
 
     /**
      * 박스 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public BoxResponseDto createBox(String companyName, Long spaceId, BoxRequestDto boxRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -42,6 +41,7 @@ public class BoxService {
 
         boxRepository.save(box);
         space.addLocation(box);//box.setSpace(space); 기존 set addBox 메서드로 교체
+        spaceCacheEvictor.evictSpace(companyName, spaceId);
 
         return new BoxResponseDto(box);
     }
@@ -50,7 +50,6 @@ public class BoxService {
      * 박스 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public BoxResponseDto updateBox(String companyName, Long boxId, BoxRequestDto boxRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -58,6 +57,7 @@ public class BoxService {
         Box box = findCompanyNameAndBoxId(companyName, boxId);
         box.updateBox(boxRequestDto);
         boxRepository.save(box);
+        spaceCacheEvictor.evictLocation(companyName, box);
         return new BoxResponseDto(box);
     }
 
@@ -65,13 +65,13 @@ public class BoxService {
      * 박스 개별 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public BoxResponseDto deleteBox(String companyName, Long boxId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
         }
         Box box = findCompanyNameAndBoxId(companyName, boxId);
         boxRepository.deleteById(boxId);
+        spaceCacheEvictor.evictLocation(companyName, box);
         return new BoxResponseDto(box);
     }
 
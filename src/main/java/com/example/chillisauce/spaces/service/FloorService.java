@@ -12,7 +12,6 @@ import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,13 +26,13 @@ public class FloorService {
     private final CompanyRepository companyRepository;
     private final FloorRepository floorRepository;
     private final SpaceRepository spaceRepository;
+    private final SpaceCacheEvictor spaceCacheEvictor;
 
 
     /**
      * 플로어 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public FloorResponseDto createFloor(String companyName, FloorRequestDto floorRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -42,6 +41,7 @@ public class FloorService {
                 () -> new SpaceException(SpaceErrorCode.COMPANIES_NOT_FOUND)
         );
         Floor floor = floorRepository.save(new Floor(floorRequestDto, companies));
+        spaceCacheEvictor.evictFloorList(companyName);
         return new FloorResponseDto(floor);
     }
 
@@ -63,7 +63,6 @@ public class FloorService {
      * 플로어 개별 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public FloorResponseDto updateFloor (String companyName, Long floorId, FloorRequestDto floorRequestDto, UserDetailsImpl details){
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -71,6 +70,7 @@ public class FloorService {
         Floor floor = findCompanyNameAndFloorId(companyName, floorId);
         floor.updateFloor(floorRequestDto);
         floorRepository.save(floor);
+        evictFloorSpaces(companyName, floor);
         return new FloorResponseDto(floor);
     }
 
@@ -78,19 +78,25 @@ public class FloorService {
      * 플로어 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public FloorResponseDto deleteFloor(String companyName, Long floorId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
         }
         Floor floor = findCompanyNameAndFloorId(companyName, floorId);
 
+        evictFloorSpaces(companyName, floor);
         floorRepository.clearAllReservationsForFloor(floorId);
         floorRepository.delete(floor);
         return new FloorResponseDto(floor);
     }
 
 
+    // 층 이름은 공간 목록, 공간 상세에도 들어가므로 층에 속한 공간 키도 함께 삭제
+    private void evictFloorSpaces(String companyName, Floor floor) {
+        spaceCacheEvictor.evictSpaceList(companyName);
+        floor.getSpaces().forEach(space -> spaceCacheEvictor.evictSpace(companyName, space.getId()));
+    }
+
     public Floor findCompanyNameAndFloorId(String companyName, Long floorId) {
         Companies company = companyRepository.findByCompanyName(companyName).orElseThrow(
                 () -> new SpaceException(SpaceErrorCode.COMPANIES_NOT_FOUND)
@@ -2,32 +2,42 @@ package com.example.chillisauce.spaces.service;
 
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.response.LocationDto;
+import com.example.chillisauce.spaces.dto.response.OccupancyCountResponseDto;
 import com.example.chillisauce.spaces.entity.Box;
 import com.example.chillisauce.spaces.entity.Location;
 import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.event.LocationChangedEvent;
+import com.example.chillisauce.spaces.event.LocationEventBroker;
 import com.example.chillisauce.spaces.exception.SpaceErrorCode;
 import com.example.chillisauce.spaces.exception.SpaceException;
 import com.example.chillisauce.spaces.repository.LocationRepository;
 import com.example.chillisauce.spaces.repository.UserLocationRepository;
 import com.example.chillisauce.users.entity.User;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LocationService {
 
     private final UserLocationRepository userLocationRepository;
     private final LocationRepository locationRepository;
+    private final SpaceCacheEvictor spaceCacheEvictor;
+    private final LocationEventBroker locationEventBroker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OccupancyCounter occupancyCounter;
     /**
      * 사용자 이동
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public LocationDto moveWithUser(String companyName, Long locationId, UserDetailsImpl details) {
 
         User user = details.getUser();
@@ -41,31 +51,74 @@ public class LocationService {
         // 없으면 404
         Location target = findCompanyNameAndId(companyName, locationId);
 
-        // target 이 박스이면
-        if (target instanceof Box) {
-            // 유저가 있는지 확인하고 있으면 예외
-            if(userLocationRepository.findByLocationId(target.getId()).isPresent()) {
-                throw new SpaceException(SpaceErrorCode.BOX_ALREADY_IN_USER);
-            }
+        // target 이 박스이면 사용자가 있는지 먼저 확인하고 있으면 예외
+        // box_id 가 비어 있는 이전 행도 걸러지도록 location_id 로 확인하고, 최종 판단은 claim 의 유니크 제약으로 한다
+        if (target instanceof Box && userLocationRepository.existsByLocationId(target.getId())) {
+            throw new SpaceException(SpaceErrorCode.BOX_ALREADY_IN_USER);
         }
 
         // 사용자 id - 위치 정보
         Optional<UserLocation> userLocation = userLocationRepository.findByUserId(user.getId());
+        Location previous = userLocation.map(UserLocation::getLocation).orElse(null);
 
-        UserLocation result;
+        // 위치정보 있으면 업데이트, 없으면 저장
+        UserLocation result = userLocation
+                .map(x -> x.update(target, user))
+                .orElseGet(() -> new UserLocation(target, user));
+        claim(result, target);
 
-        if (userLocation.isPresent()) {
-            // 위치정보 있으면 업데이트
-            result = userLocation.get().update(target, user);
-        } else {
-            // 없으면 저장
-            result = userLocationRepository.save(new UserLocation(target, user));
+        if (previous != null) {
+            // 떠나는 공간도 캐시 삭제
+            spaceCacheEvictor.evictOccupancy(companyName, previous);
         }
-
+        spaceCacheEvictor.evictOccupancy(companyName, target);
+        occupancyCounter.move(companyName, previous, target);
+        // 커밋 이후 구독자에게 변경분만 전달
+        eventPublisher.publishEvent(new LocationChangedEvent(companyName, user.getId(), user.getUsername(),
+                spaceIdOf(previous), previous != null ? previous.getId() : null,
+                spaceIdOf(target), target.getId()));
         return new LocationDto(result.getLocation(), result.getUsername());
     }
 
 
+    /**
+     * 자리 점유 - 즉시 flush 해서 유니크 제약 위반을 이 자리에서 확인
+     * 같은 박스를 동시에 잡거나, 같은 유저의 첫 착석 요청이 겹치면 뒤의 요청이 실패한다
+     */
+    private void claim(UserLocation userLocation, Location target) {
+        try {
+            userLocationRepository.saveAndFlush(userLocation);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("location {} claim conflict : {}", target.getId(), e.getMessage());
+            throw new SpaceException(target instanceof Box
+                    ? SpaceErrorCode.BOX_ALREADY_IN_USER : SpaceErrorCode.USER_LOCATION_CONFLICT);
+        }
+    }
+
+    /**
+     * 공간 유저 이동 구독
+     */
+    public SseEmitter subscribe(String companyName, Long spaceId, UserDetailsImpl details) {
+        if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
+            throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
+        }
+        return locationEventBroker.subscribe(companyName, spaceId);
+    }
+
+    /**
+     * 층, 공간, 로케이션별 착석 인원 수 조회
+     */
+    public OccupancyCountResponseDto getOccupancyCounts(String companyName, UserDetailsImpl details) {
+        if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
+            throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
+        }
+        return occupancyCounter.counts(companyName);
+    }
+
+    private Long spaceIdOf(Location location) {
+        return location != null && location.getSpace() != null ? location.getSpace().getId() : null;
+    }
+
     public Location findCompanyNameAndId(String companyName, Long locationId) {
         return locationRepository.findByIdAndCompanyName(locationId, companyName).orElseThrow(
                 () -> new SpaceException(SpaceErrorCode.BOX_NOT_FOUND)
@@ -1,8 +1,11 @@
 package com.example.chillisauce.spaces.service;
 
+import com.example.chillisauce.paging.CursorRequest;
+import com.example.chillisauce.paging.CursorSlice;
 import com.example.chillisauce.reservations.service.ReservationService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.MrRequestDto;
+import com.example.chillisauce.spaces.dto.response.MrListResponseDto;
 import com.example.chillisauce.spaces.dto.response.MrResponseDto;
 import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.spaces.entity.Space;
@@ -13,10 +16,10 @@ import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,6 +29,7 @@ public class MrService {
     private final MrRepository mrRepository;
     private final CompanyRepository companyRepository;
     private final SpaceService spaceService;
+    private final SpaceCacheEvictor spaceCacheEvictor;
 
     private final ReservationService reservationService;
 
@@ -33,7 +37,6 @@ public class MrService {
      * 회의실 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MrResponseDto createMr (String companyName, Long spaceId, MrRequestDto mrRequestDto, UserDetailsImpl details){
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -42,6 +45,7 @@ public class MrService {
         Mr mr = new Mr(mrRequestDto);
         mrRepository.save(mr);
         space.addLocation(mr);
+        spaceCacheEvictor.evictSpace(companyName, spaceId);
         return new MrResponseDto(mr);
     }
 
@@ -49,7 +53,6 @@ public class MrService {
      * 회의실 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MrResponseDto updateMr(String companyName, Long mrId, MrRequestDto mrRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -57,13 +60,13 @@ public class MrService {
         Mr mr = findCompanyNameAndMrId(companyName,mrId);
         mr.updateMr(mrRequestDto);
         mrRepository.save(mr);
+        spaceCacheEvictor.evictLocation(companyName, mr);
         return new MrResponseDto(mr);
     }
     /**
      * 회의실 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MrResponseDto deleteMr(String companyName, Long mrId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -71,14 +74,14 @@ public class MrService {
         Mr mr = findCompanyNameAndMrId(companyName,mrId);
         reservationService.deleteMeetingRoomInReservations(mrId, null);
         mrRepository.deleteById(mrId);
+        spaceCacheEvictor.evictLocation(companyName, mr);
         return new MrResponseDto(mr);
     }
     /**
      * 회의실 전체조회
      */
-    @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
-    public List<MrResponseDto> mrlist(String companyName, UserDetailsImpl details) {
+    @Transactional(readOnly = true)
+    public MrListResponseDto mrlist(String companyName, CursorRequest cursorRequest, UserDetailsImpl details) {
         if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
         }
@@ -87,11 +90,16 @@ public class MrService {
                 () -> new SpaceException(SpaceErrorCode.COMPANIES_NOT_FOUND)
         );
 
-        List<Mr> mrList = mrRepository.findAllByCompaniesId(companies.getId());
+        CursorSlice<Long> slice = cursorRequest.slice(mrRepository.findIdsByCompaniesIdAfter(
+                companies.getId(), cursorRequest.getLastId(), cursorRequest.fetchPageable()), id -> id);
+        if (slice.getContent().isEmpty()) {
+            return new MrListResponseDto(new ArrayList<>(), null);
+        }
 
-        return mrList.stream()
+        List<MrResponseDto> mrList = mrRepository.findAllWithReservationsByIdIn(slice.getContent()).stream()
                 .map(MrResponseDto::new)
                 .collect(Collectors.toList());
+        return new MrListResponseDto(mrList, slice.getNextCursor());
     }
 
 
@@ -12,7 +12,6 @@ import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 @Service
@@ -22,12 +21,12 @@ public class MultiBoxService {
     private final SpaceService spaceService;
     private final MultiBoxRepository multiBoxRepository;
     private final CompanyRepository companyRepository;
+    private final SpaceCacheEvictor spaceCacheEvictor;
 
     /**
      * 멀티박스 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MultiBoxResponseDto createMultiBox(String companyName, Long spaceId, MultiBoxRequestDto multiBoxRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -37,13 +36,13 @@ public class MultiBoxService {
         MultiBox multiBox = new MultiBox(multiBoxRequestDto);
         multiBoxRepository.save(multiBox);
         space.addLocation(multiBox);
+        spaceCacheEvictor.evictSpace(companyName, spaceId);
         return new MultiBoxResponseDto(multiBox);
     }
     /**
      * 멀티박스 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MultiBoxResponseDto updateMultiBox(String companyName, Long multiBoxId, MultiBoxRequestDto multiBoxRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -51,19 +50,20 @@ public class MultiBoxService {
         MultiBox multiBox = findCompanyNameAndMultiBoxId(companyName,multiBoxId);
         multiBox.updateMultiBox(multiBoxRequestDto);
         multiBoxRepository.save(multiBox);
+        spaceCacheEvictor.evictLocation(companyName, multiBox);
         return new MultiBoxResponseDto(multiBox);
     }
     /**
      * 멀티박스 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MultiBoxResponseDto deleteMultiBox(String companyName, Long multiBoxId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
         }
         MultiBox multiBox = findCompanyNameAndMultiBoxId(companyName,multiBoxId);
         multiBoxRepository.deleteById(multiBoxId);
+        spaceCacheEvictor.evictLocation(companyName, multiBox);
         return new MultiBoxResponseDto(multiBox);
 }
     public MultiBox findCompanyNameAndMultiBoxId(String companyName, Long multiBoxId) {
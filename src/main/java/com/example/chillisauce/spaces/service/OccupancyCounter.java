@@ -0,0 +1,285 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.dto.OccupancyCountWrapper;
+import com.example.chillisauce.spaces.dto.response.OccupancyCountResponseDto;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 층, 공간, 로케이션별 착석 인원 카운터
+ * 이동은 커밋 후 노드 로컬 LongAdder 에 증감으로 쌓고, 주기적으로 회사별 Redis 해시에 HINCRBY 로 합친다
+ * 위치 삭제처럼 이동을 거치지 않는 변경은 주기적인 DB 집계(reconcile)로 맞춘다
+ * 재집계는 세대를 올린 뒤 DB 를 읽으므로, 이전 세대에 쌓인 증감은 집계에 포함된 것으로 보고 버린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OccupancyCounter {
+    static final String KEY_PREFIX = "occupancy:";
+    static final String GENERATION_KEY_PREFIX = "occupancy:generation:";
+    // 해시를 만든 재집계 세대, 착석자가 없는 회사도 해시가 비어있지 않게 한다
+    static final String GENERATION_FIELD = "generation";
+    static final String FLOOR = "floor:";
+    static final String SPACE = "space:";
+    static final String LOCATION = "location:";
+
+    // 해시 세대가 증감의 세대와 같을 때만 반영하고 해시 세대를 돌려준다, 해시가 없으면 -1
+    static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('HGET', KEYS[1], '" + GENERATION_FIELD + "') or '-1') " +
+            "if current == tonumber(ARGV[1]) then redis.call('HINCRBY', KEYS[1], ARGV[2], ARGV[3]) end " +
+            "return current", Long.class);
+    // 그 사이 더 최근 재집계가 세대를 올렸으면 덮어쓰지 않는다
+    static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserLocationRepository userLocationRepository;
+    // 회사별, 세대별, 필드별로 아직 Redis 에 보내지 않은 증감
+    private final Map<String, Map<Long, Map<String, LongAdder>>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 유저 이동 반영 - 트랜잭션 커밋 이후에 적용
+     * 커밋 직후의 세대로 증감을 묶는다
+     */
+    public void move(String companyName, Location from, Location to) {
+        List<String> leave = fieldsOf(from);
+        List<String> enter = fieldsOf(to);
+        afterCommit(() -> {
+            Map<String, LongAdder> fields = bucket(companyName, generationOf(companyName));
+            leave.forEach(x -> adder(fields, x).decrement());
+            enter.forEach(x -> adder(fields, x).increment());
+        });
+    }
+
+    /**
+     * 회사 착석 인원 수 조회
+     * Redis 합계에 이 노드가 아직 보내지 않은 같은 세대의 증감을 더하고, 해시가 없으면 DB 집계로 다시 만든다
+     */
+    public OccupancyCountResponseDto counts(String companyName) {
+        Map<String, Long> totals;
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(companyName));
+            Object generation = entries.get(GENERATION_FIELD);
+            if (generation == null) {
+                totals = reconcile(companyName);
+            } else {
+                Map<String, Long> merged = parse(entries);
+                pending.getOrDefault(companyName, Map.of())
+                        .getOrDefault(Long.parseLong((String) generation), Map.of())
+                        .forEach((field, adder) -> merged.merge(field, adder.sum(), Long::sum));
+                totals = merged;
+            }
+        } catch (RuntimeException e) {
+            // 로컬 증감은 이미 커밋되어 DB 집계에 포함되므로 더하지 않음
+            log.warn("착석 인원 Redis 조회 실패, DB 집계로 응답 companyName={}", companyName, e);
+            totals = countFromDb(companyName);
+        }
+        return toResponse(totals);
+    }
+
+    /**
+     * 쌓인 증감을 Redis 해시에 합침
+     * 해시 세대가 더 최근이면 재집계에 포함된 증감이므로 버리고,
+     * 해시가 없거나 재집계가 진행 중이면 다음 주기에 다시 보낸다
+     */
+    @Scheduled(fixedDelayString = "${occupancy.flush.delay:1000}")
+    public void flush() {
+        pending.forEach((companyName, buckets) -> {
+            long latest = buckets.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+            buckets.forEach((generation, fields) -> {
+                if (flush(companyName, generation, fields) || generation < latest) {
+                    buckets.remove(generation);
+                }
+            });
+        });
+    }
+
+    /**
+     * 한 세대의 증감을 보내고 세대가 지나 버려도 되는지 돌려준다
+     */
+    private boolean flush(String companyName, Long generation, Map<String, LongAdder> fields) {
+        String key = key(companyName);
+        for (Map.Entry<String, LongAdder> entry : fields.entrySet()) {
+            // sumThenReset 은 동시에 들어온 증가를 잃을 수 있어 읽은 만큼만 뺀다
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                continue;
+            }
+            adder.add(-delta);
+            Long current;
+            try {
+                current = redisTemplate.execute(INCREMENT_SCRIPT, List.of(key),
+                        String.valueOf(generation), entry.getKey(), String.valueOf(delta));
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도
+                adder.add(delta);
+                log.warn("착석 인원 반영 실패 companyName={}, field={}", companyName, entry.getKey(), e);
+                continue;
+            }
+            if (current != null && current > generation) {
+                return true;
+            }
+            if (current == null || current < generation) {
+                adder.add(delta);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이 노드가 반영한 회사들의 해시를 DB 집계로 다시 만든다
+     */
+    @Scheduled(fixedDelayString = "${occupancy.reconcile.delay:600000}")
+    public void reconcileAll() {
+        for (String companyName : pending.keySet()) {
+            try {
+                reconcile(companyName);
+            } catch (RuntimeException e) {
+                log.warn("착석 인원 재집계 실패 companyName={}", companyName, e);
+            }
+        }
+    }
+
+    /**
+     * 세대를 올리고 DB 집계로 회사 해시를 덮어쓴다
+     * 세대를 올린 뒤에 DB 를 읽으므로 어느 노드든 이전 세대로 쌓인 증감은 집계에 포함되어 있다
+     */
+    Map<String, Long> reconcile(String companyName) {
+        String generation = String.valueOf(redisTemplate.opsForValue().increment(generationKey(companyName)));
+        Map<String, Long> totals = countFromDb(companyName);
+
+        List<String> args = new ArrayList<>();
+        args.add(generation);
+        args.add(GENERATION_FIELD);
+        args.add(generation);
+        totals.forEach((field, count) -> {
+            args.add(field);
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(REBUILD_SCRIPT, List.of(key(companyName), generationKey(companyName)), args.toArray());
+        return totals;
+    }
+
+    // 커밋 직후의 재집계 세대, Redis 를 읽지 못하면 이 노드가 마지막으로 본 세대
+    private long generationOf(String companyName) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(companyName));
+            return generation == null ? 0L : Long.parseLong(generation);
+        } catch (RuntimeException e) {
+            log.warn("착석 인원 세대 조회 실패 companyName={}", companyName, e);
+            return pending.getOrDefault(companyName, Map.of()).keySet().stream()
+                    .mapToLong(Long::longValue).max().orElse(0L);
+        }
+    }
+
+    private Map<String, Long> countFromDb(String companyName) {
+        Map<String, Long> totals = new HashMap<>();
+        for (OccupancyCountWrapper row : userLocationRepository.countAllByCompanyName(companyName)) {
+            totals.merge(LOCATION + row.getLocationId(), row.getCount(), Long::sum);
+            totals.merge(SPACE + row.getSpaceId(), row.getCount(), Long::sum);
+            if (row.getFloorId() != null) {
+                totals.merge(FLOOR + row.getFloorId(), row.getCount(), Long::sum);
+            }
+        }
+        return totals;
+    }
+
+    private Map<String, Long> parse(Map<Object, Object> entries) {
+        Map<String, Long> totals = new HashMap<>();
+        entries.forEach((field, count) -> {
+            if (!GENERATION_FIELD.equals(field)) {
+                totals.put((String) field, Long.parseLong((String) count));
+            }
+        });
+        return totals;
+    }
+
+    private OccupancyCountResponseDto toResponse(Map<String, Long> totals) {
+        OccupancyCountResponseDto response = new OccupancyCountResponseDto();
+        totals.forEach((field, count) -> {
+            if (count <= 0) {
+                return;
+            }
+            if (field.startsWith(FLOOR)) {
+                response.getFloors().put(idOf(field, FLOOR), count);
+            } else if (field.startsWith(SPACE)) {
+                response.getSpaces().put(idOf(field, SPACE), count);
+            } else if (field.startsWith(LOCATION)) {
+                response.getLocations().put(idOf(field, LOCATION), count);
+            }
+        });
+        return response;
+    }
+
+    // 로케이션이 속한 로케이션, 공간, 층 필드
+    private List<String> fieldsOf(Location location) {
+        List<String> fields = new ArrayList<>(3);
+        if (location == null) {
+            return fields;
+        }
+        fields.add(LOCATION + location.getId());
+        Space space = location.getSpace();
+        if (space != null) {
+            fields.add(SPACE + space.getId());
+            if (space.getFloor() != null) {
+                fields.add(FLOOR + space.getFloor().getId());
+            }
+        }
+        return fields;
+    }
+
+    private Map<String, LongAdder> bucket(String companyName, long generation) {
+        return pending.computeIfAbsent(companyName, x -> new ConcurrentHashMap<>())
+                .computeIfAbsent(generation, x -> new ConcurrentHashMap<>());
+    }
+
+    private LongAdder adder(Map<String, LongAdder> fields, String field) {
+        return fields.computeIfAbsent(field, x -> new LongAdder());
+    }
+
+    private static Long idOf(String field, String prefix) {
+        return Long.parseLong(field.substring(prefix.length()));
+    }
+
+    private static String key(String companyName) {
+        return KEY_PREFIX + companyName;
+    }
+
+    private static String generationKey(String companyName) {
+        return GENERATION_KEY_PREFIX + companyName;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.entity.Location;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공간/층 캐시를 변경된 회사, 공간 키만 골라서 삭제
+ * 커밋 전에 지우면 동시 조회가 이전 값으로 다시 채울 수 있으므로 커밋 이후에 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceCacheEvictor {
+    static final String SPACE_CACHE = "SpaceResponseDtoList";
+    static final String FLOOR_CACHE = "FloorResponseDtoList";
+    static final String LAYOUT_CACHE = "SpaceLayout";
+    static final String OCCUPANCY_CACHE = "SpaceOccupancy";
+
+    private final CacheManager cacheManager;
+
+    /* 공간 상세 (companyName_spaceId) 배치도, 점유 정보 삭제 */
+    public void evictSpace(String companyName, Long spaceId) {
+        afterCommit(() -> {
+            evict(LAYOUT_CACHE, spaceKey(companyName, spaceId));
+            evict(OCCUPANCY_CACHE, spaceKey(companyName, spaceId));
+        });
+    }
+
+    /* 로케이션이 속한 공간 상세 삭제 */
+    public void evictLocation(String companyName, Location location) {
+        if (location == null || location.getSpace() == null) {
+            return;
+        }
+        evictSpace(companyName, location.getSpace().getId());
+    }
+
+    /* 로케이션이 속한 공간의 점유 정보만 삭제, 배치도는 유지 */
+    public void evictOccupancy(String companyName, Location location) {
+        if (location == null || location.getSpace() == null) {
+            return;
+        }
+        String key = spaceKey(companyName, location.getSpace().getId());
+        afterCommit(() -> evict(OCCUPANCY_CACHE, key));
+    }
+
+    /* 회사의 공간 목록, 층 목록 삭제 */
+    public void evictSpaceList(String companyName) {
+        afterCommit(() -> {
+            evict(SPACE_CACHE, companyName);
+            evict(FLOOR_CACHE, companyName);
+        });
+    }
+
+    /* 회사의 층 목록 삭제 */
+    public void evictFloorList(String companyName) {
+        afterCommit(() -> evict(FLOOR_CACHE, companyName));
+    }
+
+    // SpaceCacheReader 의 캐시 키와 같아야 함
+    static String spaceKey(String companyName, Long spaceId) {
+        return companyName + "_" + spaceId;
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        log.debug("Evicting {} from cache={}", key, cacheName);
+        cache.evict(key);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
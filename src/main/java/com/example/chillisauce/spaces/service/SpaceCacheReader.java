@@ -0,0 +1,48 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.dto.response.SpaceOccupancyDto;
+import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 공간 상세를 배치도와 점유 정보로 나눠 각각 캐싱
+ * 배치도는 로케이션 변경 때만, 점유 정보는 착석 이동, 예약 때 삭제됨
+ */
+@Service
+@RequiredArgsConstructor
+public class SpaceCacheReader {
+    private final SpaceRepository spaceRepository;
+
+    /**
+     * 공간 배치도 조회 - 회사 소속 검증 포함
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = SpaceCacheEvictor.LAYOUT_CACHE, key = "#companyName + '_' + #spaceId")
+    public List<SpaceResponseDto> getLayout(String companyName, Long spaceId) {
+        Space space = spaceRepository.findById(spaceId)
+                .orElseThrow(() -> new SpaceException(SpaceErrorCode.SPACE_NOT_FOUND));
+        if (!space.getCompanies().getCompanyName().equals(companyName)) {
+            throw new SpaceException(SpaceErrorCode.SPACE_DOES_NOT_BELONG_TO_COMPANY);
+        }
+
+        return spaceRepository.getSpaceLayout(spaceId);
+    }
+
+    /**
+     * 공간 점유 정보 조회
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = SpaceCacheEvictor.OCCUPANCY_CACHE, key = "#companyName + '_' + #spaceId")
+    public SpaceOccupancyDto getOccupancy(String companyName, Long spaceId) {
+        return spaceRepository.getSpaceOccupancy(spaceId);
+    }
+}
@@ -4,6 +4,7 @@ package com.example.chillisauce.spaces.service;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.SpaceRequestDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
+import com.example.chillisauce.spaces.dto.response.SpaceOccupancyDto;
 import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
 import com.example.chillisauce.spaces.entity.Floor;
 import com.example.chillisauce.spaces.entity.Space;
@@ -16,7 +17,6 @@ import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +24,7 @@ import org.springframework.util.StopWatch;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -33,6 +34,8 @@ public class SpaceService {
     private final SpaceRepository spaceRepository;
     private final CompanyRepository companyRepository;
     private final FloorRepository floorRepository;
+    private final SpaceCacheEvictor spaceCacheEvictor;
+    private final SpaceCacheReader spaceCacheReader;
 
 
 
@@ -41,7 +44,6 @@ public class SpaceService {
      * 플로우 안에 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public SpaceResponseDto createSpaceInFloor(String companyName, SpaceRequestDto spaceRequestDto, UserDetailsImpl details, Long floorId) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -57,6 +59,7 @@ public class SpaceService {
         }
         Space space = spaceRepository.save(new Space(spaceRequestDto,floor,companies));
         floor.getSpaces().add(space);
+        spaceCacheEvictor.evictSpaceList(companyName);
         return new SpaceResponseDto(space);
     }
 
@@ -64,7 +67,6 @@ public class SpaceService {
      * 공간 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public SpaceResponseDto createSpace(String companyName, SpaceRequestDto spaceRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -76,6 +78,7 @@ public class SpaceService {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
         }
         Space space = spaceRepository.save(new Space(spaceRequestDto, companies));
+        spaceCacheEvictor.evictSpaceList(companyName);
         return new SpaceResponseDto(space);
     }
 
@@ -96,19 +99,17 @@ public class SpaceService {
     /**
      * 공간 개별 조회
      */
-    @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "SpaceResponseDtoList", key = "#companyName + '_' + #spaceId")
     public List<SpaceResponseDto> getSpacelist(String companyName, Long spaceId, UserDetailsImpl details) {
         if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
         }
-        Space space = spaceRepository.findById(spaceId)
-                .orElseThrow(() -> new SpaceException(SpaceErrorCode.SPACE_NOT_FOUND));
-        if (!space.getCompanies().getCompanyName().equals(companyName)) {
-            throw new SpaceException(SpaceErrorCode.SPACE_DOES_NOT_BELONG_TO_COMPANY);
-        }
 
-        return spaceRepository.getSpacesList(spaceId);
+        // 배치도가 공간 소속을 검증한 뒤에 점유 정보를 조회
+        List<SpaceResponseDto> layout = spaceCacheReader.getLayout(companyName, spaceId);
+        SpaceOccupancyDto occupancy = spaceCacheReader.getOccupancy(companyName, spaceId);
+        return layout.stream()
+                .map(space -> space.withOccupancy(occupancy))
+                .collect(Collectors.toList());
     }
 
 
@@ -116,7 +117,6 @@ public class SpaceService {
      * 공간 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public SpaceResponseDto updateSpace(String companyName, Long spaceId, SpaceRequestDto spaceRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -132,6 +132,8 @@ public class SpaceService {
         }
         space.updateSpace(spaceRequestDto, floor);
         spaceRepository.save(space);
+        spaceCacheEvictor.evictSpaceList(companyName);
+        spaceCacheEvictor.evictSpace(companyName, spaceId);
         return new SpaceResponseDto(space);
     }
 
@@ -139,7 +141,6 @@ public class SpaceService {
      * 공간 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public SpaceResponseDto deleteSpace(String companyName, Long spaceId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -148,6 +149,8 @@ public class SpaceService {
 
         spaceRepository.clearAllReservationsForSpace(spaceId);
         spaceRepository.deleteById(spaceId);
+        spaceCacheEvictor.evictSpaceList(companyName);
+        spaceCacheEvictor.evictSpace(companyName, spaceId);
         return new SpaceResponseDto(space);
     }
 
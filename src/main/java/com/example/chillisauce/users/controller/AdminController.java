@@ -1,6 +1,7 @@
 package com.example.chillisauce.users.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.users.dto.request.RoleDeptUpdateRequestDto;
 import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
@@ -23,8 +24,10 @@ public class AdminController {
 
     /* 사원 목록 전체 조회 */
     @GetMapping("/admin/users")
-    public ResponseEntity<ResponseMessage<UserListResponseDto>> getAllUsers (@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseMessage.responseSuccess("사원 전체 조회 성공",adminService.getAllUsers(userDetails));
+    public ResponseEntity<ResponseMessage<UserListResponseDto>> getAllUsers (@RequestParam(value = "cursor", required = false) String cursor,
+                                                                             @RequestParam(value = "limit", required = false) Integer limit,
+                                                                             @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("사원 전체 조회 성공",adminService.getAllUsers(CursorRequest.of(cursor, limit), userDetails));
     }
 
     /* 사원 선택 조회 */
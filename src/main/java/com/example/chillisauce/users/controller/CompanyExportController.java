@@ -0,0 +1,29 @@
+package com.example.chillisauce.users.controller;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.service.CompanyExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class CompanyExportController {
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final CompanyExportService companyExportService;
+
+    /* 회사 데이터 전체 내보내기 (NDJSON) */
+    @GetMapping(value = "/admin/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        String companyName = companyExportService.checkExportable(userDetails);
+        StreamingResponseBody body = out -> companyExportService.export(companyName, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"export.ndjson\"")
+                .body(body);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.chillisauce.users.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.users.index.UserSearchMode;
 import com.example.chillisauce.users.service.SearchService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
@@ -23,7 +24,10 @@ public class SearchController {
     @GetMapping("/users/search")
     public ResponseEntity<ResponseMessage<List<UserDetailResponseDto>>> searchUser(
             @RequestParam(value = "name") String name,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "mode", required = false) UserSearchMode mode,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseMessage.responseSuccess("유저 검색 성공", searchService.searchUser(name, userDetails));
+        return ResponseMessage.responseSuccess("유저 검색 성공",
+                searchService.searchUser(name, limit, mode, userDetails));
     }
 }
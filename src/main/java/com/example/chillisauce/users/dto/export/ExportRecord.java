@@ -0,0 +1,8 @@
+package com.example.chillisauce.users.dto.export;
+
+/**
+ * 회사 데이터 내보내기 NDJSON 한 줄 - type 으로 종류를 구분
+ */
+public interface ExportRecord {
+    String getType();
+}
@@ -0,0 +1,18 @@
+package com.example.chillisauce.users.dto.export;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"type", "floorId", "floorName"})
+public class FloorExportDto implements ExportRecord {
+    Long floorId;
+    String floorName;
+
+    @Override
+    public String getType() {
+        return "floor";
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.chillisauce.users.dto.export;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"type", "locationType", "locationId", "locationName", "x", "y", "spaceId"})
+public class LocationExportDto implements ExportRecord {
+    // box, mr, multiBox
+    String locationType;
+    Long locationId;
+    String locationName;
+    String x;
+    String y;
+    Long spaceId;
+
+    @Override
+    public String getType() {
+        return "location";
+    }
+}
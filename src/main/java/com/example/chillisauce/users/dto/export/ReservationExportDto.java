@@ -0,0 +1,27 @@
+package com.example.chillisauce.users.dto.export;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"type", "reservationId", "userId", "meetingRoomId", "start", "end"})
+public class ReservationExportDto implements ExportRecord {
+    Long reservationId;
+    Long userId;
+    // 회의실이 삭제된 예약은 null
+    Long meetingRoomId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+    LocalDateTime start;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+    LocalDateTime end;
+
+    @Override
+    public String getType() {
+        return "reservation";
+    }
+}
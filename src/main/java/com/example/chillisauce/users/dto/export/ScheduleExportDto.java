@@ -0,0 +1,29 @@
+package com.example.chillisauce.users.dto.export;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"type", "scheduleId", "userId", "reservationId", "title", "comment", "start", "end"})
+public class ScheduleExportDto implements ExportRecord {
+    Long scheduleId;
+    Long userId;
+    // 개인 스케줄은 null
+    Long reservationId;
+    String title;
+    String comment;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+    LocalDateTime start;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+    LocalDateTime end;
+
+    @Override
+    public String getType() {
+        return "schedule";
+    }
+}
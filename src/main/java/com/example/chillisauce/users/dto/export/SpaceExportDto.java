@@ -0,0 +1,19 @@
+package com.example.chillisauce.users.dto.export;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"type", "spaceId", "spaceName", "floorId"})
+public class SpaceExportDto implements ExportRecord {
+    Long spaceId;
+    String spaceName;
+    Long floorId;
+
+    @Override
+    public String getType() {
+        return "space";
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.chillisauce.users.dto.export;
+
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"type", "userId", "email", "username", "role"})
+public class UserExportDto implements ExportRecord {
+    Long userId;
+    String email;
+    String username;
+    UserRoleEnum role;
+
+    @Override
+    public String getType() {
+        return "user";
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.chillisauce.users.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 초성 문자열 -> 유저 id 트라이
+ * 노드마다 자식 글자를 정렬된 char 배열로 두고 이진 탐색, id 는 long 배열로 두어 노드당 객체 수를 줄인다
+ * 동기화는 소유한 CompanyUserIndex 에서 처리
+ */
+class ChoseongTrie {
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final long[] NO_IDS = new long[0];
+
+    private Node root = new Node();
+
+    void add(String key, long id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        node.addId(id);
+    }
+
+    void remove(String key, long id) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            path.push(node);
+            node = node.child(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+        }
+        node.removeId(id);
+
+        // 비게 된 노드는 부모에서 떼어낸다
+        for (int i = key.length() - 1; i >= 0 && node.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.removeChild(key.charAt(i));
+            node = parent;
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 키의 모든 id
+     */
+    List<Long> startsWith(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        List<Long> ids = new ArrayList<>();
+        if (node == null) {
+            return ids;
+        }
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            for (long id : current.ids) {
+                ids.add(id);
+            }
+            for (Node child : current.children) {
+                stack.push(child);
+            }
+        }
+        return ids;
+    }
+
+    void clear() {
+        root = new Node();
+    }
+
+    private static final class Node {
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private long[] ids = NO_IDS;
+
+        Node child(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            return i < 0 ? null : children[i];
+        }
+
+        Node childOrCreate(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node child = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newLabels[at] = label;
+            newChildren[at] = child;
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            if (i < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(labels, i + 1, newLabels, i, labels.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        void addId(long id) {
+            for (long existing : ids) {
+                if (existing == id) {
+                    return;
+                }
+            }
+            long[] newIds = Arrays.copyOf(ids, ids.length + 1);
+            newIds[ids.length] = id;
+            ids = newIds;
+        }
+
+        void removeId(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    long[] newIds = new long[ids.length - 1];
+                    System.arraycopy(ids, 0, newIds, 0, i);
+                    System.arraycopy(ids, i + 1, newIds, i, ids.length - i - 1);
+                    ids = newIds;
+                    return;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return labels.length == 0 && ids.length == 0;
+        }
+    }
+}
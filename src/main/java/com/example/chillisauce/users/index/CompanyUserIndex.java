@@ -0,0 +1,216 @@
+package com.example.chillisauce.users.index;
+
+import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 회사 1곳의 유저 검색 인덱스
+ * 이름, 이메일의 1~3글자 n-gram 마다 유저 id 목록을 두어 검색어가 포함된 유저를 테이블 스캔 없이 찾는다
+ * 초성 검색용으로 이름의 초성 문자열 트라이를 함께 유지한다
+ */
+class CompanyUserIndex {
+    static final int GRAM = 3;
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final Map<Long, UserDetailResponseDto> users = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ChoseongTrie initials = new ChoseongTrie();
+
+    // 쓰기가 반영될 때마다 증가, 로딩 중에 쓰기가 있었는지 확인하는 용도
+    private long version = 0L;
+    private LocalDateTime loadedAt;
+
+    synchronized boolean isLoaded(LocalDateTime now, long refreshSeconds) {
+        return loadedAt != null && loadedAt.plusSeconds(refreshSeconds).isAfter(now);
+    }
+
+    synchronized long version() {
+        return version;
+    }
+
+    /**
+     * DB 에서 읽어온 유저 목록으로 교체
+     * 읽는 동안 다른 쓰기가 반영되었다면 교체하지 않고 다음 조회 때 다시 읽는다
+     */
+    synchronized boolean install(List<UserDetailResponseDto> loaded, long expectedVersion, LocalDateTime now) {
+        if (version != expectedVersion) {
+            return false;
+        }
+        users.clear();
+        postings.clear();
+        initials.clear();
+        loaded.forEach(this::put);
+        loadedAt = now;
+        return true;
+    }
+
+    /**
+     * 이름 또는 이메일에 검색어가 포함된 유저를 순위순으로 limit 명까지 반환
+     * 순위 : 이름 일치 > 이름 접두 > 이름 포함 > 이메일 접두 > 이메일 포함, 같으면 짧은 이름, id 순
+     */
+    synchronized List<UserDetailResponseDto> search(String query, int limit) {
+        String keyword = normalize(query);
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
+        return candidatesOf(keyword).stream()
+                .map(users::get)
+                .map(x -> new Hit(rank(x, keyword), x))
+                .filter(x -> x.rank() != NO_MATCH)
+                .sorted(Comparator.comparingInt(Hit::rank)
+                        .thenComparingInt(x -> lengthOf(x.user().getUsername()))
+                        .thenComparing(x -> x.user().getUserId()))
+                .limit(limit)
+                .map(Hit::user)
+                .toList();
+    }
+
+    /**
+     * 이름이 초성 검색어로 시작하는 유저를 순위순으로 limit 명까지 반환
+     * 검색어는 초성, 완성 음절을 섞어 쓸 수 있고 (ㅎㄱㄷ, 홍ㄱ), 마지막 글자는 입력 중인 음절로 본다 (호 -> 홍)
+     * 순위 : 이름 길이와 검색어 길이가 같은 유저 > 짧은 이름, id 순
+     */
+    synchronized List<UserDetailResponseDto> searchInitials(String query, int limit) {
+        String keyword = normalize(query);
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
+        return initials.startsWith(Hangul.initialsOf(keyword)).stream()
+                .map(users::get)
+                .filter(x -> startsWithInitials(normalize(x.getUsername()), keyword))
+                .sorted(Comparator.comparing((UserDetailResponseDto x) -> normalize(x.getUsername()).length() != keyword.length())
+                        .thenComparingInt(x -> lengthOf(x.getUsername()))
+                        .thenComparing(UserDetailResponseDto::getUserId))
+                .limit(limit)
+                .toList();
+    }
+
+    synchronized void upsert(UserDetailResponseDto user) {
+        version++;
+        if (loadedAt == null) {
+            return;
+        }
+        remove(user.getUserId());
+        put(user);
+    }
+
+    synchronized void delete(Long userId) {
+        version++;
+        if (loadedAt == null) {
+            return;
+        }
+        remove(userId);
+    }
+
+    synchronized void invalidate() {
+        version++;
+        loadedAt = null;
+        users.clear();
+        postings.clear();
+        initials.clear();
+    }
+
+    synchronized int size() {
+        return users.size();
+    }
+
+    // 검색어가 GRAM 보다 길면 가장 적은 유저를 가진 n-gram 의 후보만 확인
+    private Set<Long> candidatesOf(String keyword) {
+        if (keyword.length() <= GRAM) {
+            return postings.getOrDefault(keyword, Set.of());
+        }
+        Set<Long> smallest = null;
+        for (String gram : gramsOf(keyword, GRAM)) {
+            Set<Long> ids = postings.getOrDefault(gram, Set.of());
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    private void put(UserDetailResponseDto user) {
+        users.put(user.getUserId(), user);
+        String username = normalize(user.getUsername());
+        if (!username.isEmpty()) {
+            initials.add(Hangul.initialsOf(username), user.getUserId());
+        }
+        for (String gram : gramsOf(user)) {
+            postings.computeIfAbsent(gram, x -> new HashSet<>()).add(user.getUserId());
+        }
+    }
+
+    private void remove(Long userId) {
+        UserDetailResponseDto before = users.remove(userId);
+        if (before == null) {
+            return;
+        }
+        initials.remove(Hangul.initialsOf(normalize(before.getUsername())), userId);
+        for (String gram : gramsOf(before)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(userId) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(UserDetailResponseDto user) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= GRAM; n++) {
+            grams.addAll(gramsOf(normalize(user.getUsername()), n));
+            grams.addAll(gramsOf(normalize(user.getEmail()), n));
+        }
+        return grams;
+    }
+
+    private static List<String> gramsOf(String text, int n) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private static int rank(UserDetailResponseDto user, String keyword) {
+        String username = normalize(user.getUsername());
+        if (username.equals(keyword)) {
+            return 0;
+        }
+        if (username.startsWith(keyword)) {
+            return 1;
+        }
+        if (username.contains(keyword)) {
+            return 2;
+        }
+        String email = normalize(user.getEmail());
+        if (email.startsWith(keyword)) {
+            return 3;
+        }
+        return email.contains(keyword) ? 4 : NO_MATCH;
+    }
+
+    private static boolean startsWithInitials(String username, String keyword) {
+        if (username.length() < keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (!Hangul.matches(keyword.charAt(i), username.charAt(i), i == keyword.length() - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static int lengthOf(String text) {
+        return text == null ? 0 : text.length();
+    }
+
+    private record Hit(int rank, UserDetailResponseDto user) {
+    }
+}
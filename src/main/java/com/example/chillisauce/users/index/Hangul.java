@@ -0,0 +1,64 @@
+package com.example.chillisauce.users.index;
+
+/**
+ * 한글 음절의 초성 분해
+ * 음절 = 가(0xAC00) + (초성 * 21 + 중성) * 28 + 종성
+ */
+final class Hangul {
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private Hangul() {
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    /**
+     * 음절이면 초성, 그 외 글자는 그대로
+     */
+    static char choseongOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSEONG.charAt((c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT));
+    }
+
+    /**
+     * 글자마다 초성으로 바꾼 문자열 - 홍길동 -> ㅎㄱㄷ, 홍ㄱ -> ㅎㄱ
+     */
+    static String initialsOf(String text) {
+        char[] initials = text.toCharArray();
+        for (int i = 0; i < initials.length; i++) {
+            initials[i] = choseongOf(initials[i]);
+        }
+        return new String(initials);
+    }
+
+    /**
+     * 검색어 글자가 이름 글자에 맞는지 확인
+     * 같은 글자, 이름 음절의 초성, 입력 중인 마지막 글자라면 받침 없는 음절이 초성과 중성까지 같은 경우 (호 -> 홍)
+     */
+    static boolean matches(char query, char name, boolean typing) {
+        if (query == name) {
+            return true;
+        }
+        if (!isSyllable(name)) {
+            return false;
+        }
+        if (isChoseong(query)) {
+            return choseongOf(name) == query;
+        }
+        return typing && isSyllable(query)
+                && (query - SYLLABLE_BEGIN) % JONGSEONG_COUNT == 0
+                && (query - SYLLABLE_BEGIN) / JONGSEONG_COUNT == (name - SYLLABLE_BEGIN) / JONGSEONG_COUNT;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.chillisauce.users.index;
+
+import com.example.chillisauce.cache.CacheInvalidationBus;
+import com.example.chillisauce.cache.CacheInvalidationMessage;
+import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회사별 유저 검색 인메모리 인덱스
+ * 참석자 선택 화면의 키 입력마다 like '%name%' 로 users 테이블을 스캔하지 않도록 n-gram 인덱스로 찾는다.
+ * 가입, 수정, 삭제는 커밋 이후 반영하고 캐시 무효화 채널로 다른 인스턴스의 같은 회사 인덱스도 다시 읽게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndex implements MessageListener {
+    // 캐시 무효화 채널에서 이 인덱스의 메시지를 구분하는 이름, key 는 회사 이름
+    public static final String CACHE_NAME = "UserSearchIndex";
+    // 전파되지 못한 변경을 반영하기 위해 주기적으로 다시 읽는다
+    static final long REFRESH_SECONDS = 300L;
+
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<String, CompanyUserIndex> companies = new ConcurrentHashMap<>();
+
+    /**
+     * 기동 시 전체 회사 인덱스 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (Companies company : companyRepository.findAll()) {
+            try {
+                loadedIndex(company.getCompanyName());
+            } catch (RuntimeException e) {
+                // 실패한 회사는 첫 검색 때 다시 읽음
+                log.warn("company {} user index warm up failed", company.getCompanyName(), e);
+            }
+        }
+    }
+
+    /**
+     * 회사 유저 중 이름 또는 이메일에 검색어가 포함된 유저를 순위순으로 limit 명까지 조회
+     */
+    public List<UserDetailResponseDto> search(String companyName, String query, int limit) {
+        return loadedIndex(companyName).search(query, limit);
+    }
+
+    /**
+     * 회사 유저 중 이름이 초성 검색어로 시작하는 유저를 순위순으로 limit 명까지 조회 - 예약 폼 참석자 자동완성
+     */
+    public List<UserDetailResponseDto> searchInitials(String companyName, String query, int limit) {
+        return loadedIndex(companyName).searchInitials(query, limit);
+    }
+
+    /**
+     * 가입, 권한 수정 반영 - 트랜잭션 커밋 이후에 적용
+     */
+    public void put(User user) {
+        String companyName = user.getCompanies().getCompanyName();
+        // 가입 시 id 는 flush 이후에 채워질 수 있으므로 커밋 이후에 읽는다
+        afterCommit(() -> {
+            index(companyName).upsert(new UserDetailResponseDto(user));
+            publish(companyName);
+        });
+    }
+
+    /**
+     * 삭제 반영 - 트랜잭션 커밋 이후에 적용
+     */
+    public void remove(User user) {
+        String companyName = user.getCompanies().getCompanyName();
+        Long userId = user.getId();
+        afterCommit(() -> {
+            index(companyName).delete(userId);
+            publish(companyName);
+        });
+    }
+
+    /**
+     * 회사 단위 무효화 - 다음 검색 때 DB 에서 다시 읽는다
+     */
+    public void evictCompany(String companyName) {
+        afterCommit(() -> {
+            index(companyName).invalidate();
+            publish(companyName);
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 변경 수신 - 해당 회사는 다음 검색 때 DB 에서 다시 읽는다
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation = invalidationBus.decode(message.getBody());
+        if (invalidation == null || !CACHE_NAME.equals(invalidation.getCacheName())) {
+            return;
+        }
+        if (invalidation.getKey() == null) {
+            companies.values().forEach(CompanyUserIndex::invalidate);
+            return;
+        }
+        CompanyUserIndex index = companies.get(invalidation.getKey());
+        if (index != null) {
+            index.invalidate();
+        }
+    }
+
+    private void publish(String companyName) {
+        invalidationBus.publish(CACHE_NAME, companyName);
+    }
+
+    private CompanyUserIndex index(String companyName) {
+        return companies.computeIfAbsent(companyName, x -> new CompanyUserIndex());
+    }
+
+    private CompanyUserIndex loadedIndex(String companyName) {
+        CompanyUserIndex index = index(companyName);
+        LocalDateTime now = LocalDateTime.now();
+        if (index.isLoaded(now, REFRESH_SECONDS)) {
+            return index;
+        }
+
+        long version = index.version();
+        List<UserDetailResponseDto> loaded = userRepository.findAllSearchEntriesByCompanyName(companyName);
+
+        if (!index.install(loaded, version, now)) {
+            log.debug("company {} user index changed while loading, retry on next search", companyName);
+            // 적재 실패 시 이번 검색은 방금 읽은 목록으로 판단
+            CompanyUserIndex snapshot = new CompanyUserIndex();
+            snapshot.install(loaded, snapshot.version(), now);
+            return snapshot;
+        }
+        return index;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
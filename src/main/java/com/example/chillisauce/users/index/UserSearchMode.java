@@ -0,0 +1,11 @@
+package com.example.chillisauce.users.index;
+
+/**
+ * 유저 검색 방식
+ */
+public enum UserSearchMode {
+    // 이름 또는 이메일에 검색어 포함
+    KEYWORD,
+    // 이름이 초성 검색어로 시작 (ㅎㄱㄷ -> 홍길동)
+    INITIAL
+}
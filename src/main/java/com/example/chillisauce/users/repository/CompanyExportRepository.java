@@ -0,0 +1,80 @@
+package com.example.chillisauce.users.repository;
+
+import com.example.chillisauce.users.dto.export.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.stream.Stream;
+
+/**
+ * 회사 데이터 내보내기 조회
+ * DTO 로 바로 projection 해서 영속성 컨텍스트에 엔티티가 쌓이지 않게 하고,
+ * forward-only 커서(getResultStream)로 FETCH_SIZE 행씩 읽는다
+ * 반환한 Stream 은 트랜잭션 안에서 소비한 뒤 닫아야 한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompanyExportRepository {
+    public static final int FETCH_SIZE = 500;
+
+    private final EntityManager em;
+
+    public Stream<FloorExportDto> streamFloors(String companyName) {
+        return stream("select new com.example.chillisauce.users.dto.export.FloorExportDto(f.id, f.floorName) " +
+                "from Floor f where f.companies.companyName = :companyName order by f.id", FloorExportDto.class, companyName);
+    }
+
+    public Stream<SpaceExportDto> streamSpaces(String companyName) {
+        return stream("select new com.example.chillisauce.users.dto.export.SpaceExportDto(s.id, s.spaceName, f.id) " +
+                "from Space s left join s.floor f " +
+                "where s.companies.companyName = :companyName order by s.id", SpaceExportDto.class, companyName);
+    }
+
+    public Stream<LocationExportDto> streamBoxes(String companyName) {
+        return streamLocations("Box", "box", companyName);
+    }
+
+    public Stream<LocationExportDto> streamMeetingRooms(String companyName) {
+        return streamLocations("Mr", "mr", companyName);
+    }
+
+    public Stream<LocationExportDto> streamMultiBoxes(String companyName) {
+        return streamLocations("MultiBox", "multiBox", companyName);
+    }
+
+    public Stream<UserExportDto> streamUsers(String companyName) {
+        return stream("select new com.example.chillisauce.users.dto.export.UserExportDto(u.id, u.email, u.username, u.role) " +
+                "from users u where u.companies.companyName = :companyName order by u.id", UserExportDto.class, companyName);
+    }
+
+    public Stream<ReservationExportDto> streamReservations(String companyName) {
+        return stream("select new com.example.chillisauce.users.dto.export.ReservationExportDto(" +
+                "r.id, u.id, rm.id, r.startTime, r.endTime) " +
+                "from Reservation r join r.user u left join r.meetingRoom rm " +
+                "where u.companies.companyName = :companyName order by r.id", ReservationExportDto.class, companyName);
+    }
+
+    public Stream<ScheduleExportDto> streamSchedules(String companyName) {
+        return stream("select new com.example.chillisauce.users.dto.export.ScheduleExportDto(" +
+                "s.id, u.id, s.reservationId, s.title, s.comment, s.startTime, s.endTime) " +
+                "from Schedule s join s.user u " +
+                "where u.companies.companyName = :companyName order by s.id", ScheduleExportDto.class, companyName);
+    }
+
+    private Stream<LocationExportDto> streamLocations(String entityName, String locationType, String companyName) {
+        return stream("select new com.example.chillisauce.users.dto.export.LocationExportDto(" +
+                "'" + locationType + "', l.id, l.locationName, l.x, l.y, s.id) " +
+                "from " + entityName + " l join l.space s " +
+                "where s.companies.companyName = :companyName order by l.id", LocationExportDto.class, companyName);
+    }
+
+    private <T> Stream<T> stream(String jpql, Class<T> type, String companyName) {
+        return em.createQuery(jpql, type)
+                .setParameter("companyName", companyName)
+                .setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+}
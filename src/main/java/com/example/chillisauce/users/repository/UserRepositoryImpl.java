@@ -1,9 +1,13 @@
 package com.example.chillisauce.users.repository;
 
+import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.entity.QCompanies;
 import com.example.chillisauce.users.entity.QUser;
 import com.example.chillisauce.users.entity.User;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
@@ -13,6 +17,13 @@ import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
 
+import static com.example.chillisauce.reservations.entity.QReservation.reservation;
+import static com.example.chillisauce.reservations.entity.QReservationSlot.reservationSlot;
+import static com.example.chillisauce.reservations.entity.QReservationUser.reservationUser;
+import static com.example.chillisauce.schedules.entity.QSchedule.schedule;
+import static com.example.chillisauce.schedules.entity.QScheduleOutbox.scheduleOutbox;
+import static com.example.chillisauce.spaces.entity.QUserLocation.userLocation;
+
 @Repository
 public class UserRepositoryImpl extends QuerydslRepositorySupport implements UserRepositorySupport {
     private final JPAQueryFactory queryFactory;
@@ -26,7 +37,6 @@ public class UserRepositoryImpl extends QuerydslRepositorySupport implements Use
 
     QUser user = QUser.user;
     QCompanies company = QCompanies.companies;
-    public static final Long MAX_SEARCH_RESULTS = 5L;
 
     @Override
     public Optional<User> findByIdAndCompanies_CompanyName(Long id, String companyName) {
@@ -49,16 +59,82 @@ public class UserRepositoryImpl extends QuerydslRepositorySupport implements Use
     }
 
     @Override
-    public List<User> findAllByUsernameContainingAndCompanies(String name, String companyName) {
+    public List<User> findAllByCompanyNameAfter(String companyName, Long lastId, int limit) {
         return queryFactory
                 .selectFrom(user)
-                .join(user.companies)
-                .fetchJoin()
-                .where(user.username.like("%" + name + "%").and(companyNameEquals(companyName)))
-                .limit(MAX_SEARCH_RESULTS)
+                .join(user.companies, company)
+                .where(companyNameEquals(companyName).and(user.id.gt(lastId)))
+                .orderBy(user.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
+    /**
+     * 회사 유저 검색 인덱스 적재용 - 검색에 필요한 컬럼만 조회
+     */
+    @Override
+    public List<UserDetailResponseDto> findAllSearchEntriesByCompanyName(String companyName) {
+        return queryFactory
+                .select(Projections.constructor(UserDetailResponseDto.class,
+                        user.id, user.email, user.username, user.role))
+                .from(user)
+                .join(user.companies, company)
+                .where(companyNameEquals(companyName))
+                .fetch();
+    }
+
+    /**
+     * 유저가 예약한 회의실 id - 퇴사 처리 후 예약 인덱스 무효화에 사용
+     */
+    @Override
+    public List<Long> findReservedMeetingRoomIds(Long userId) {
+        return queryFactory
+                .select(reservation.meetingRoom.id)
+                .distinct()
+                .from(reservation)
+                .where(reservation.user.id.eq(userId).and(reservation.meetingRoom.isNotNull()))
+                .fetch();
+    }
+
+    /**
+     * 퇴사 처리 - 유저의 스케줄, 참석 정보, 예약, 착석 정보를 테이블마다 DELETE 한 번으로 삭제
+     * 유저가 연 회의의 다른 참석자 스케줄, 참석 정보, 타임 점유, 스케줄 아웃박스도 함께 삭제한다
+     * 외래키 순서대로 자식 테이블부터 삭제하며, 벌크 연산이라 영속성 컨텍스트는 갱신되지 않는다
+     */
+    @Override
+    public void deleteAllActivitiesByUserId(Long userId) {
+        JPQLQuery<Long> organizedReservationIds = JPAExpressions
+                .select(reservation.id)
+                .from(reservation)
+                .where(reservation.user.id.eq(userId));
+
+        queryFactory
+                .delete(schedule)
+                .where(schedule.user.id.eq(userId).or(schedule.reservationId.in(organizedReservationIds)))
+                .execute();
+        queryFactory
+                .delete(reservationUser)
+                .where(reservationUser.attendee.id.eq(userId)
+                        .or(reservationUser.reservation.id.in(organizedReservationIds)))
+                .execute();
+        queryFactory
+                .delete(reservationSlot)
+                .where(reservationSlot.reservation.id.in(organizedReservationIds))
+                .execute();
+        queryFactory
+                .delete(scheduleOutbox)
+                .where(scheduleOutbox.reservationId.in(organizedReservationIds))
+                .execute();
+        queryFactory
+                .delete(reservation)
+                .where(reservation.user.id.eq(userId))
+                .execute();
+        queryFactory
+                .delete(userLocation)
+                .where(userLocation.userId.eq(userId))
+                .execute();
+    }
+
     private BooleanExpression companyNameEquals(String companyName) {
         return user.companies.companyName.eq(companyName);
     }
@@ -1,5 +1,6 @@
 package com.example.chillisauce.users.repository;
 
+import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.entity.User;
 
 import java.util.List;
@@ -10,5 +11,11 @@ public interface UserRepositorySupport {
 
     List<User> findAllByCompanies_CompanyName(String companyName);
 
-    List<User> findAllByUsernameContainingAndCompanies(String name, String companyName);
+    List<User> findAllByCompanyNameAfter(String companyName, Long lastId, int limit);
+
+    List<UserDetailResponseDto> findAllSearchEntriesByCompanyName(String companyName);
+
+    List<Long> findReservedMeetingRoomIds(Long userId);
+
+    void deleteAllActivitiesByUserId(Long userId);
 }
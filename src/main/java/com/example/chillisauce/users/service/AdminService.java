@@ -1,12 +1,14 @@
 package com.example.chillisauce.users.service;
 
-import com.example.chillisauce.reservations.entity.Reservation;
-import com.example.chillisauce.reservations.repository.ReservationRepository;
-import com.example.chillisauce.schedules.entity.Schedule;
-import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.paging.CursorRequest;
+import com.example.chillisauce.paging.CursorSlice;
+import com.example.chillisauce.reservations.index.MeetingRoomReservationIndex;
 import com.example.chillisauce.security.UserDetailsImpl;
-import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.event.LocationChangedEvent;
 import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import com.example.chillisauce.spaces.service.OccupancyCounter;
+import com.example.chillisauce.spaces.service.SpaceCacheEvictor;
 import com.example.chillisauce.users.dto.request.RoleDeptUpdateRequestDto;
 import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.dto.response.UserListResponseDto;
@@ -14,6 +16,7 @@ import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.exception.UserErrorCode;
 import com.example.chillisauce.users.exception.UserException;
+import com.example.chillisauce.users.index.UserSearchIndex;
 import com.example.chillisauce.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,11 +24,11 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -33,22 +36,29 @@ import java.util.Optional;
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final ScheduleRepository scheduleRepository;
-    private final ReservationRepository reservationRepository;
-    private final UserLocationRepository userLocationRepository;
     private final CacheManager cacheManager;
+    private final MeetingRoomReservationIndex reservationIndex;
+    private final UserSearchIndex userSearchIndex;
+    private final UserLocationRepository userLocationRepository;
+    private final OccupancyCounter occupancyCounter;
+    private final SpaceCacheEvictor spaceCacheEvictor;
+    private final ApplicationEventPublisher eventPublisher;
 
-    /* 사원 목록 전체 조회 */
+    /* 사원 목록 전체 조회 - 회사 단위 캐시 키를 유지하기 위해 기본 크기의 첫 페이지만 캐시 */
     @Transactional(readOnly = true)
-    @Cacheable(value = "UserResponseDtoList", key = "#userDetails.user.companies.companyName")
-    public UserListResponseDto getAllUsers(UserDetailsImpl userDetails) {
+    @Cacheable(value = "UserResponseDtoList", key = "#userDetails.user.companies.companyName",
+            condition = "#cursorRequest.defaultFirstPage")
+    public UserListResponseDto getAllUsers(CursorRequest cursorRequest, UserDetailsImpl userDetails) {
         User user = userDetails.getUser();
 
         if (!user.getRole().equals(UserRoleEnum.ADMIN) && !user.getRole().equals(UserRoleEnum.MANAGER)) {
             throw new UserException(UserErrorCode.NOT_HAVE_PERMISSION);
         }
-        List<User> allList = userRepository.findAllByCompanies_CompanyName(user.getCompanies().getCompanyName());
-        return new UserListResponseDto(allList.stream().map(UserDetailResponseDto::new).toList());
+        CursorSlice<User> slice = cursorRequest.slice(userRepository.findAllByCompanyNameAfter(
+                user.getCompanies().getCompanyName(), cursorRequest.getLastId(), cursorRequest.getFetchSize()),
+                User::getId);
+        return new UserListResponseDto(slice.getContent().stream().map(UserDetailResponseDto::new).toList(),
+                slice.getNextCursor());
     }
 
     /* 사원 선택 조회 */
@@ -85,6 +95,7 @@ public class AdminService {
 
         getUser.update(requestDto);
         userRepository.save(getUser);
+        userSearchIndex.put(getUser);
         return new UserDetailResponseDto(getUser);
     }
 
@@ -108,24 +119,34 @@ public class AdminService {
         evictCacheByEmail(userEmail);   //Evicting user from cache
         evictCacheByCompanyName(userDetails);   //Evicting userList from cache
 
-        //사원의 스케줄 삭제
-        List<Schedule> schedules = scheduleRepository.findAllByUserId(userId);
-        scheduleRepository.deleteAll(schedules);
-
-        //사원의 예약 삭제
-        List<Reservation> reservations = reservationRepository.findAllByUserId(userId);
-        reservationRepository.deleteAll(reservations);
+        //앉아 있던 자리는 일괄 삭제로 사라지므로 먼저 착석 인원과 배치도에서 빼기
+        leaveLocation(getUser);
 
-        //사원의 로케이션 삭제
-        Optional<UserLocation> userLocation = userLocationRepository.findByUserId(userId);
-        userLocation.ifPresent(userLocationRepository::delete);
+        //사원의 스케줄, 참석 정보, 예약, 로케이션을 테이블마다 한 번의 DELETE 로 삭제
+        List<Long> meetingRoomIds = userRepository.findReservedMeetingRoomIds(userId);
+        userRepository.deleteAllActivitiesByUserId(userId);
+        meetingRoomIds.forEach(reservationIndex::evictRoom);
 
         //회원 삭제
         userRepository.delete(getUser);
+        userSearchIndex.remove(getUser);
         return "사원 삭제 성공";
     }
 
 
+    /* 퇴사자의 자리 비우기 - 이동과 같은 방식으로 착석 인원, 캐시, 구독자에 반영 */
+    private void leaveLocation(User getUser) {
+        userLocationRepository.findByUserId(getUser.getId()).ifPresent(userLocation -> {
+            String companyName = getUser.getCompanies().getCompanyName();
+            Location location = userLocation.getLocation();
+            occupancyCounter.move(companyName, location, null);
+            spaceCacheEvictor.evictOccupancy(companyName, location);
+            eventPublisher.publishEvent(new LocationChangedEvent(companyName, getUser.getId(), getUser.getUsername(),
+                    location.getSpace() != null ? location.getSpace().getId() : null, location.getId(),
+                    null, null));
+        });
+    }
+
     /* 캐시 삭제용 메서드 */
     @CacheEvict(cacheNames = "UserDetails", key = "#email")
     public void evictCacheByEmail(String email) {
@@ -0,0 +1,87 @@
+package com.example.chillisauce.users.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.dto.export.ExportRecord;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.exception.UserErrorCode;
+import com.example.chillisauce.users.exception.UserException;
+import com.example.chillisauce.users.repository.CompanyExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 회사 데이터 NDJSON 내보내기
+ * 층 -> 공간 -> 로케이션 -> 유저 -> 예약 -> 스케줄 순서로 한 줄에 하나씩 쓴다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompanyExportService {
+
+    private final CompanyExportRepository companyExportRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 권한 확인 - 관리자만 가능, 내보낼 회사 이름 반환
+     * 응답 스트리밍은 요청 스레드 밖에서 실행되므로 권한 확인은 먼저 따로 한다
+     */
+    public String checkExportable(UserDetailsImpl userDetails) {
+        User user = userDetails.getUser();
+        if (!user.getRole().equals(UserRoleEnum.ADMIN)) {
+            throw new UserException(UserErrorCode.NOT_HAVE_PERMISSION);
+        }
+        return user.getCompanies().getCompanyName();
+    }
+
+    @Transactional(readOnly = true)
+    public void export(String companyName, OutputStream out) throws IOException {
+        List<Function<String, Stream<? extends ExportRecord>>> sections = List.of(
+                companyExportRepository::streamFloors,
+                companyExportRepository::streamSpaces,
+                companyExportRepository::streamBoxes,
+                companyExportRepository::streamMeetingRooms,
+                companyExportRepository::streamMultiBoxes,
+                companyExportRepository::streamUsers,
+                companyExportRepository::streamReservations,
+                companyExportRepository::streamSchedules);
+
+        // 스트림을 닫지 않도록 설정한 writer 로 한 줄씩 기록
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long lines = 0;
+        try {
+            for (Function<String, Stream<? extends ExportRecord>> section : sections) {
+                try (Stream<? extends ExportRecord> records = section.apply(companyName)) {
+                    lines += records.mapToLong(x -> writeLine(writer, out, x)).sum();
+                }
+                out.flush();
+            }
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우
+            throw e.getCause();
+        }
+        log.info("company {} exported {} lines", companyName, lines);
+    }
+
+    private long writeLine(ObjectWriter writer, OutputStream out, ExportRecord record) {
+        try {
+            writer.writeValue(out, record);
+            out.write('\n');
+            return 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -5,7 +5,8 @@ import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.exception.UserErrorCode;
 import com.example.chillisauce.users.exception.UserException;
-import com.example.chillisauce.users.repository.UserRepository;
+import com.example.chillisauce.users.index.UserSearchIndex;
+import com.example.chillisauce.users.index.UserSearchMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,16 +17,27 @@ import java.util.List;
 @Slf4j
 @RequiredArgsConstructor
 public class SearchService {
-    private final UserRepository userRepository;
+    public static final int DEFAULT_LIMIT = 5;
+    public static final int MAX_LIMIT = 50;
 
-    public List<UserDetailResponseDto> searchUser(String name, UserDetailsImpl userDetails) {
+    private final UserSearchIndex userSearchIndex;
+
+    /**
+     * 유저 검색 - 같은 회사 유저를 순위순으로 조회
+     * KEYWORD : 이름 또는 이메일에 검색어 포함, INITIAL : 이름이 초성 검색어로 시작
+     */
+    public List<UserDetailResponseDto> searchUser(String name, Integer limit, UserSearchMode mode,
+                                                  UserDetailsImpl userDetails) {
         User finder = userDetails.getUser();
         String companyName = finder.getCompanies().getCompanyName();
-        List<User> users = userRepository.findAllByUsernameContainingAndCompanies(name, companyName);
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<UserDetailResponseDto> users = mode == UserSearchMode.INITIAL
+                ? userSearchIndex.searchInitials(companyName, name, size)
+                : userSearchIndex.search(companyName, name, size);
 
         if (users.isEmpty()) {
             throw new UserException(UserErrorCode.USER_NOT_FOUND);
         }
-        return users.stream().map(UserDetailResponseDto::new).toList();
+        return users;
     }
 }
@@ -11,6 +11,7 @@ import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.exception.UserErrorCode;
 import com.example.chillisauce.users.exception.UserException;
+import com.example.chillisauce.users.index.UserSearchIndex;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import com.example.chillisauce.users.repository.UserRepository;
 import com.example.chillisauce.users.util.BaseUserFactory;
@@ -31,6 +32,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final BaseUserFactory baseUserFactory;
+    private final UserSearchIndex userSearchIndex;
 
     /* 관리자 회원 가입 */
     @Transactional
@@ -57,6 +59,8 @@ public class UserService {
         userRepository.save(new User(adminSignupRequestDto, passwordEncoder.encode(password), role, company));
 
         baseUserFactory.makeBaseUser(company.getCompanyName());
+        // 관리자와 기본 유저를 한 번에 반영하도록 회사 검색 인덱스를 다시 읽게 함
+        userSearchIndex.evictCompany(company.getCompanyName());
 
         return new AdminSignupResponseDto(company.getCertification());
     }
@@ -75,7 +79,9 @@ public class UserService {
         Companies company = companyRepository.findByCertification(userSignupRequestDto.getCertification()).orElseThrow(
                 () -> new UserException(UserErrorCode.INVALID_CERTIFICATION));
 
-        userRepository.save(new User(userSignupRequestDto, passwordEncoder.encode(password), role, company));
+        User user = new User(userSignupRequestDto, passwordEncoder.encode(password), role, company);
+        userRepository.save(user);
+        userSearchIndex.put(user);
         return "일반 회원 가입 성공";
     }
 
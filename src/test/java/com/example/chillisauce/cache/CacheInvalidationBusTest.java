@@ -0,0 +1,85 @@
+package com.example.chillisauce.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus 클래스")
+class CacheInvalidationBusTest {
+    @Mock
+    StringRedisTemplate redisTemplate;
+    @InjectMocks
+    CacheInvalidationBus invalidationBus;
+
+    @Nested
+    @DisplayName("publish 메서드는")
+    class PublishTestCase {
+        @Test
+        void 무효화_메시지를_토픽으로_발행한다() {
+            // when
+            invalidationBus.publish("UserDetails", "test@test.com");
+
+            // then
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.TOPIC), payload.capture());
+            assertThat(payload.getValue()).contains("UserDetails", "test@test.com");
+        }
+
+        @Test
+        void 발행에_실패해도_예외를_던지지_않는다() {
+            // given
+            doThrow(new IllegalStateException()).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+            // when, then
+            invalidationBus.publish("UserDetails", null);
+        }
+    }
+
+    @Nested
+    @DisplayName("decode 메서드는")
+    class DecodeTestCase {
+        @Test
+        void 자신이_보낸_메시지면_null_반환한다() {
+            // given
+            invalidationBus.publish("UserDetails", "test@test.com");
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.TOPIC), payload.capture());
+
+            // when, then
+            assertThat(invalidationBus.decode(payload.getValue().getBytes(StandardCharsets.UTF_8))).isNull();
+        }
+
+        @Test
+        void 다른_노드가_보낸_메시지를_해석한다() {
+            // given
+            String payload = "{\"origin\":\"other\",\"cacheName\":\"UserDetails\",\"key\":\"test@test.com\"}";
+
+            // when
+            CacheInvalidationMessage result = invalidationBus.decode(payload.getBytes(StandardCharsets.UTF_8));
+
+            // then
+            assertThat(result.getCacheName()).isEqualTo("UserDetails");
+            assertThat(result.getKey()).isEqualTo("test@test.com");
+        }
+
+        @Test
+        void 해석할_수_없으면_null_반환한다() {
+            assertThat(invalidationBus.decode("invalid".getBytes(StandardCharsets.UTF_8))).isNull();
+        }
+    }
+}
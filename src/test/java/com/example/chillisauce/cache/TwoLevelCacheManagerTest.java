@@ -0,0 +1,102 @@
+package com.example.chillisauce.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCacheManager 클래스")
+class TwoLevelCacheManagerTest {
+    @Mock
+    CacheInvalidationBus invalidationBus;
+
+    ConcurrentMapCacheManager remoteCacheManager;
+    TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setup() {
+        remoteCacheManager = new ConcurrentMapCacheManager("UserDetails");
+        remoteCacheManager.setAllowNullValues(false);
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, Caffeine.newBuilder().maximumSize(10), invalidationBus);
+    }
+
+    @Nested
+    @DisplayName("getCache 메서드는")
+    class GetCacheTestCase {
+        @Test
+        void 같은_이름이면_같은_캐시를_반환한다() {
+            // when
+            Cache first = cacheManager.getCache("UserDetails");
+            Cache second = cacheManager.getCache("UserDetails");
+
+            // then
+            assertThat(first).isInstanceOf(TwoLevelCache.class);
+            assertThat(first).isSameAs(second);
+            assertThat(cacheManager.getCacheNames()).containsExactly("UserDetails");
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드는")
+    class OnMessageTestCase {
+        @Test
+        void 다른_노드의_무효화_메시지를_받으면_로컬_캐시만_지운다() {
+            // given
+            Cache cache = cacheManager.getCache("UserDetails");
+            cache.put("test@test.com", "value");
+            when(invalidationBus.decode(any()))
+                    .thenReturn(new CacheInvalidationMessage("other", "UserDetails", "test@test.com"));
+
+            // when
+            cacheManager.onMessage(new DefaultMessage(new byte[0], new byte[0]), null);
+
+            // then
+            TwoLevelCache twoLevelCache = (TwoLevelCache) cache;
+            assertThat(((com.github.benmanes.caffeine.cache.Cache<?, ?>) twoLevelCache.getNativeCache())
+                    .getIfPresent("test@test.com")).isNull();
+            assertThat(remoteCacheManager.getCache("UserDetails").get("test@test.com").get()).isEqualTo("value");
+        }
+
+        @Test
+        void 키가_없는_메시지를_받으면_로컬_캐시를_비운다() {
+            // given
+            Cache cache = cacheManager.getCache("UserDetails");
+            cache.put(1L, "a");
+            cache.put(2L, "b");
+            when(invalidationBus.decode(any()))
+                    .thenReturn(new CacheInvalidationMessage("other", "UserDetails", null));
+
+            // when
+            cacheManager.onMessage(new DefaultMessage(new byte[0], new byte[0]), null);
+
+            // then
+            assertThat(((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).estimatedSize()).isZero();
+        }
+
+        @Test
+        void 자신이_보낸_메시지는_무시한다() {
+            // given
+            Cache cache = cacheManager.getCache("UserDetails");
+            cache.put(1L, "a");
+            when(invalidationBus.decode(any())).thenReturn(null);
+
+            // when
+            cacheManager.onMessage(new DefaultMessage(new byte[0], new byte[0]), null);
+
+            // then
+            assertThat(((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).getIfPresent("1")).isEqualTo("a");
+        }
+    }
+}
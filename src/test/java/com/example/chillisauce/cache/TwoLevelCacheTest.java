@@ -0,0 +1,131 @@
+package com.example.chillisauce.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache 클래스")
+class TwoLevelCacheTest {
+    @Mock
+    CacheInvalidationBus invalidationBus;
+
+    Cache<String, Object> local;
+    ConcurrentMapCache remote;
+    TwoLevelCache cache;
+
+    @BeforeEach
+    void setup() {
+        local = Caffeine.newBuilder().maximumSize(10).build();
+        remote = new ConcurrentMapCache("UserDetails", false);
+        cache = new TwoLevelCache("UserDetails", local, remote, invalidationBus);
+    }
+
+    @Nested
+    @DisplayName("get 메서드는")
+    class GetTestCase {
+        @Test
+        void 로컬_캐시에_있으면_원격_캐시를_조회하지_않는다() {
+            // given
+            local.put("test@test.com", "local");
+            remote.put("test@test.com", "remote");
+
+            // when, then
+            assertThat(cache.get("test@test.com").get()).isEqualTo("local");
+        }
+
+        @Test
+        void 로컬_캐시에_없으면_원격_캐시를_조회하고_로컬에_저장한다() {
+            // given
+            remote.put("test@test.com", "remote");
+
+            // when
+            Object result = cache.get("test@test.com").get();
+
+            // then
+            assertThat(result).isEqualTo("remote");
+            assertThat(local.getIfPresent("test@test.com")).isEqualTo("remote");
+        }
+
+        @Test
+        void 어디에도_없으면_null_반환한다() {
+            assertThat(cache.get("test@test.com")).isNull();
+        }
+
+        @Test
+        void 로더로_읽은_값을_두_캐시에_저장한다() {
+            // when
+            String result = cache.get(1L, () -> "loaded");
+
+            // then
+            assertThat(result).isEqualTo("loaded");
+            assertThat(local.getIfPresent("1")).isEqualTo("loaded");
+            assertThat(remote.get(1L).get()).isEqualTo("loaded");
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 메서드는")
+    class ModifyTestCase {
+        @Test
+        void put_하면_두_캐시에_저장하고_무효화를_발행한다() {
+            // when
+            cache.put(1L, "value");
+
+            // then
+            assertThat(local.getIfPresent("1")).isEqualTo("value");
+            assertThat(remote.get(1L).get()).isEqualTo("value");
+            verify(invalidationBus).publish("UserDetails", "1");
+        }
+
+        @Test
+        void putIfAbsent_는_이미_있으면_기존_값을_반환한다() {
+            // given
+            remote.put(1L, "old");
+
+            // when
+            assertThat(cache.putIfAbsent(1L, "new").get()).isEqualTo("old");
+
+            // then
+            assertThat(local.getIfPresent("1")).isNull();
+        }
+
+        @Test
+        void evict_하면_두_캐시에서_지우고_무효화를_발행한다() {
+            // given
+            cache.put(1L, "value");
+
+            // when
+            cache.evict(1L);
+
+            // then
+            assertThat(local.getIfPresent("1")).isNull();
+            assertThat(remote.get(1L)).isNull();
+            verify(invalidationBus).publish("UserDetails", "1");
+        }
+
+        @Test
+        void clear_하면_두_캐시를_비우고_전체_무효화를_발행한다() {
+            // given
+            cache.put(1L, "value");
+
+            // when
+            cache.clear();
+
+            // then
+            assertThat(local.estimatedSize()).isZero();
+            assertThat(remote.get(1L)).isNull();
+            verify(invalidationBus).publish("UserDetails", null);
+        }
+    }
+}
@@ -1,10 +1,88 @@
 package com.example.chillisauce.jwt;
 
+import com.example.chillisauce.security.UserDetailsServiceImpl;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import static com.example.chillisauce.fixture.FixtureFactory.Company_생성;
+import static com.example.chillisauce.fixture.FixtureFactory.User_USER권한_생성_아이디지정;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("JwtAuthFilter 클래스")
 class JwtAuthFilterTest {
+    private final String secretKey = "22be42acccf5c7637400829e6dc8b4e1a0572955db912d7a972f4e614bc574956acebbb9bd88c38038c05493bf3978c3abe45c3646b2bbd0d217e0c907e311f6";
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+    private JwtUtil jwtUtil;
+    private JwtAuthFilter jwtAuthFilter;
 
-}
\ No newline at end of file
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        jwtUtil = new JwtUtil(secretKey, userDetailsService, AuthenticationMode.CLAIMS);
+        jwtAuthFilter = new JwtAuthFilter(jwtUtil);
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("doFilterInternal 메서드는")
+    class DoFilterInternalTestCase {
+        // given
+        Companies company = Company_생성();
+        User user = User_USER권한_생성_아이디지정(1L, company);
+
+        @Test
+        void 유효한_토큰이면_인증객체를_설정하고_다음_필터로_넘긴다() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(JwtUtil.AUTHORIZATION_HEADER, jwtUtil.createToken(user));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain filterChain = new MockFilterChain();
+
+            // when
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+            assertThat(filterChain.getRequest()).isNotNull();
+            verify(userDetailsService, never()).loadUserByUsername(anyString());
+        }
+
+        @Test
+        void 유효하지_않은_토큰이면_401을_반환한다() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + "12345");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain filterChain = new MockFilterChain();
+
+            // when
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+            assertThat(filterChain.getRequest()).isNull();
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.security.UserDetailsServiceImpl;
 import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -22,6 +23,9 @@ import java.util.Date;
 import static com.example.chillisauce.fixture.FixtureFactory.Company_생성;
 import static com.example.chillisauce.fixture.FixtureFactory.User_USER권한_생성_아이디지정;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("JwtUtil 클래스")
@@ -240,6 +244,99 @@ class JwtUtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("parseClaims 메서드는")
+    class ParseClaimsTestCase {
+        // given
+        Companies company = Company_생성();
+        User user = User_USER권한_생성_아이디지정(1L, company);
+
+        @Test
+        void 유효한_토큰이면_클레임을_반환한다() {
+            // given
+            String token = jwtUtil.createToken(user).substring(JwtUtil.BEARER_PREFIX.length());
+
+            // when
+            Claims result = jwtUtil.parseClaims(token);
+
+            // then
+            assertThat(result.getSubject()).isEqualTo(user.getEmail());
+            assertThat(result.get("userId", Long.class)).isEqualTo(user.getId());
+            assertThat(result.get("companyName", String.class)).isEqualTo(company.getCompanyName());
+        }
+
+        @Test
+        void 유효하지_않은_토큰이면_null_반환한다() {
+            assertThat(jwtUtil.parseClaims("12345")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("클레임으로 createAuthentication 메서드는")
+    class CreateAuthenticationFromClaimsTestCase {
+        // given
+        Companies company = Company_생성();
+        User user = User_USER권한_생성_아이디지정(1L, company);
+
+        @Test
+        void CLAIMS_모드이면_조회없이_클레임으로_인증객체를_생성한다() {
+            // given
+            JwtUtil claimsJwtUtil = new JwtUtil(secretKey, userDetailsService, AuthenticationMode.CLAIMS);
+            String token = claimsJwtUtil.createToken(user).substring(JwtUtil.BEARER_PREFIX.length());
+            Claims claims = claimsJwtUtil.parseClaims(token);
+
+            // when
+            Authentication result = claimsJwtUtil.createAuthentication(claims);
+
+            // then
+            UserDetailsImpl principal = (UserDetailsImpl) result.getPrincipal();
+            assertThat(result.isAuthenticated()).isTrue();
+            assertThat(principal.getUser().getId()).isEqualTo(user.getId());
+            assertThat(principal.getUser().getEmail()).isEqualTo(user.getEmail());
+            assertThat(principal.getUser().getRole()).isEqualTo(user.getRole());
+            assertThat(principal.getUser().getCompanies().getCompanyName()).isEqualTo(company.getCompanyName());
+            assertThat(principal.getUsername()).isEqualTo(user.getUsername());
+            verify(userDetailsService, never()).loadUserByUsername(anyString());
+        }
+
+        @Test
+        void CLAIMS_모드라도_클레임이_부족하면_유저를_조회한다() {
+            // given
+            JwtUtil claimsJwtUtil = new JwtUtil(secretKey, userDetailsService, AuthenticationMode.CLAIMS);
+            Date date = new Date();
+            String token = Jwts.builder()
+                    .setSubject(user.getEmail())
+                    .setExpiration(new Date(date.getTime() + jwtUtil.getAccessTime()))
+                    .setIssuedAt(date)
+                    .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)), SignatureAlgorithm.HS256)
+                    .compact();
+            when(userDetailsService.loadUserByUsername(user.getEmail()))
+                    .thenReturn(new UserDetailsImpl(user, user.getUsername()));
+
+            // when
+            Authentication result = claimsJwtUtil.createAuthentication(claimsJwtUtil.parseClaims(token));
+
+            // then
+            assertThat(result.isAuthenticated()).isTrue();
+            verify(userDetailsService).loadUserByUsername(user.getEmail());
+        }
+
+        @Test
+        void LOOKUP_모드이면_유저를_조회한다() {
+            // given
+            String token = jwtUtil.createToken(user).substring(JwtUtil.BEARER_PREFIX.length());
+            when(userDetailsService.loadUserByUsername(user.getEmail()))
+                    .thenReturn(new UserDetailsImpl(user, user.getUsername()));
+
+            // when
+            Authentication result = jwtUtil.createAuthentication(jwtUtil.parseClaims(token));
+
+            // then
+            assertThat(result.isAuthenticated()).isTrue();
+            verify(userDetailsService).loadUserByUsername(user.getEmail());
+        }
+    }
+
     @Nested
     @DisplayName("getAccessTime 메서드는")
     class getAccessTime {
@@ -0,0 +1,82 @@
+package com.example.chillisauce.paging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorRequest 클래스")
+class CursorRequestTest {
+
+    @Nested
+    @DisplayName("of 메서드는")
+    class OfTestCase {
+        @Test
+        void 커서가_없으면_첫_페이지를_요청한다() {
+            // when
+            CursorRequest result = CursorRequest.of(null, null);
+
+            // then
+            assertThat(result.isFirstPage()).isTrue();
+            assertThat(result.isDefaultFirstPage()).isTrue();
+            assertThat(result.getLastId()).isEqualTo(0L);
+            assertThat(result.getLimit()).isEqualTo(CursorRequest.DEFAULT_LIMIT);
+        }
+
+        @Test
+        void 인코딩된_커서를_마지막_id로_복원한다() {
+            // when
+            CursorRequest result = CursorRequest.of(CursorRequest.encode(42L), 10);
+
+            // then
+            assertThat(result.getLastId()).isEqualTo(42L);
+            assertThat(result.getLimit()).isEqualTo(10);
+            assertThat(result.getFetchSize()).isEqualTo(11);
+            assertThat(result.isDefaultFirstPage()).isFalse();
+        }
+
+        @Test
+        void limit은_1과_최대값_사이로_제한한다() {
+            assertThat(CursorRequest.of(null, 0).getLimit()).isEqualTo(1);
+            assertThat(CursorRequest.of(null, 10_000).getLimit()).isEqualTo(CursorRequest.MAX_LIMIT);
+        }
+
+        @Test
+        void 잘못된_커서면_예외가_발생한다() {
+            assertThatThrownBy(() -> CursorRequest.of("!!not-base64!!", null))
+                    .isInstanceOf(CursorException.class).hasMessage("유효하지 않은 커서입니다.");
+            assertThatThrownBy(() -> CursorRequest.of(CursorRequest.encode(-1L), null))
+                    .isInstanceOf(CursorException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("slice 메서드는")
+    class SliceTestCase {
+        @Test
+        void limit_이하로_조회되면_다음_커서가_없다() {
+            // when
+            CursorSlice<Long> result = CursorRequest.of(null, 3).slice(List.of(1L, 2L), id -> id);
+
+            // then
+            assertThat(result.getContent()).containsExactly(1L, 2L);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        void limit_보다_많이_조회되면_잘라내고_다음_커서를_만든다() {
+            // when
+            CursorSlice<Long> result = CursorRequest.of(null, 2).slice(List.of(1L, 2L, 3L), id -> id);
+
+            // then
+            assertThat(result.getContent()).containsExactly(1L, 2L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(CursorRequest.of(result.getNextCursor(), 2).getLastId()).isEqualTo(2L);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.chillisauce.reservations.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.reservations.dto.request.ReservationRequest;
 import com.example.chillisauce.reservations.dto.request.ReservationTime;
 import com.example.chillisauce.reservations.dto.request.ReservationAttendee;
@@ -43,6 +44,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
@@ -81,7 +83,7 @@ class ReservationControllerTest {
         void 전체_회의실_예약내역을_반환한다() throws Exception {
             // given
             ReservationListResponse all = getAllReservationResponse();
-            when(reservationService.getAllReservations(eq(companyName), eq(page - 1), any())).thenReturn(all);
+            when(reservationService.getAllReservations(eq(companyName), eq(page - 1), any(), any())).thenReturn(all);
 
             // when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
@@ -105,11 +107,32 @@ class ReservationControllerTest {
                                     fieldWithPath("data.reservationList[].mrName").type(JsonFieldType.STRING).description("회의실 이름"),
                                     fieldWithPath("data.reservationList[].username").type(JsonFieldType.STRING).description("예약자 이름"),
                                     fieldWithPath("data.reservationList[].start").type(JsonFieldType.STRING).description("예약 시작 시각"),
-                                    fieldWithPath("data.reservationList[].end").type(JsonFieldType.STRING).description("예약 종료 시각")
+                                    fieldWithPath("data.reservationList[].end").type(JsonFieldType.STRING).description("예약 종료 시각"),
+                                    fieldWithPath("data.nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서").optional()
                             )
                     ));
         }
 
+        @Test
+        @WithMockUser
+        void cursor_지정시_커서_페이지로_조회한다() throws Exception {
+            // given
+            ReservationListResponse all = getAllReservationResponse();
+            when(reservationService.getAllReservations(eq(companyName), isNull(), any(), any())).thenReturn(all);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header("Authorization", "Bearer Token")
+                    .param("cursor", CursorRequest.encode(20L))
+                    .param("limit", "2")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.nextCursor").value(CursorRequest.encode(2L)));
+        }
+
         private ReservationListResponse getAllReservationResponse() {
             List<ReservationDetailResponse> responseList = new ArrayList<>();
             ReservationDetailResponse reservationOne = ReservationDetailResponse.builder()
@@ -132,7 +155,7 @@ class ReservationControllerTest {
 
             responseList.add(reservationOne);
             responseList.add(reservationTwo);
-            return new ReservationListResponse(responseList);
+            return new ReservationListResponse(responseList, CursorRequest.encode(2L));
         }
 
         @Test
@@ -205,6 +228,98 @@ class ReservationControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("공간 예약 타임테이블 GET 요청 시")
+    class GetReservationTimeTablesTestCase {
+        // given
+        String url = "/reservations/timetables";
+
+        @Test
+        @WithMockUser
+        void 공간의_모든_회의실_예약테이블을_반환한다() throws Exception {
+            // given
+            ReservationTimeResponse time = ReservationTimeResponse.builder().isCheckOut(true)
+                    .start(LocalTime.of(8, 0))
+                    .end(LocalTime.of(8, 59))
+                    .build();
+            ReservationTimetableListResponse timetables = new ReservationTimetableListResponse(List.of(
+                    new ReservationTimetableResponse(1L, "회의실1", List.of(time)),
+                    new ReservationTimetableResponse(2L, "회의실2", List.of(time))));
+            when(reservationService.getReservationTimetables(any(), eq(1L), isNull(), any())).thenReturn(timetables);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("selDate", "2023-04-13")
+                    .param("spaceId", "1")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-reservation-timetables",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.timetableList").type(JsonFieldType.ARRAY).description("회의실별 타임테이블"),
+                                    fieldWithPath("data.timetableList[].mrId").type(JsonFieldType.NUMBER).description("회의실 id"),
+                                    fieldWithPath("data.timetableList[].mrName").type(JsonFieldType.STRING).description("회의실 이름"),
+                                    fieldWithPath("data.timetableList[].timeList").type(JsonFieldType.ARRAY).description("타임테이블"),
+                                    fieldWithPath("data.timetableList[].timeList[].isCheckOut").type(JsonFieldType.BOOLEAN).description("예약 여부"),
+                                    fieldWithPath("data.timetableList[].timeList[].start").type(JsonFieldType.STRING).description("시작시각"),
+                                    fieldWithPath("data.timetableList[].timeList[].end").type(JsonFieldType.STRING).description("종료시각")
+                            )
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 가능 회의실 GET 요청 시")
+    class GetAvailableMeetingRoomsTestCase {
+        // given
+        String url = "/reservations/available";
+
+        @Test
+        @WithMockUser
+        void 시간_범위에_비어있는_회의실을_반환한다() throws Exception {
+            // given
+            AvailableMeetingRoomListResponse response = new AvailableMeetingRoomListResponse(List.of(
+                    new AvailableMeetingRoomResponse(1L, "회의실1", 1L, "공간1"),
+                    new AvailableMeetingRoomResponse(3L, "회의실3", 2L, "공간2")));
+            when(reservationService.getAvailableMeetingRooms(
+                    eq(LocalDateTime.of(2023, 4, 13, 14, 0)), eq(LocalDateTime.of(2023, 4, 13, 14, 59)),
+                    isNull(), isNull(), any())).thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("start", "2023-04-13T14:00:00")
+                    .param("end", "2023-04-13T14:59:00")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-available-meeting-rooms",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.meetingRoomList").type(JsonFieldType.ARRAY).description("예약 가능 회의실"),
+                                    fieldWithPath("data.meetingRoomList[].mrId").type(JsonFieldType.NUMBER).description("회의실 id"),
+                                    fieldWithPath("data.meetingRoomList[].mrName").type(JsonFieldType.STRING).description("회의실 이름"),
+                                    fieldWithPath("data.meetingRoomList[].spaceId").type(JsonFieldType.NUMBER).description("공간 id"),
+                                    fieldWithPath("data.meetingRoomList[].spaceName").type(JsonFieldType.STRING).description("공간 이름")
+                            )
+                    ));
+        }
+    }
+
     @Nested
     @DisplayName("예약 POST 요청 시")
     class AddReservationTestCase {
@@ -1,5 +1,6 @@
 package com.example.chillisauce.reservations.controller;
 
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.reservations.dto.response.UserReservationListResponse;
 import com.example.chillisauce.reservations.dto.response.UserReservationResponse;
 import com.example.chillisauce.reservations.dto.response.UsernameResponse;
@@ -25,6 +26,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -90,12 +92,17 @@ class UserReservationControllerTest {
         @WithMockUser
         void 회원의_회의실_예약내역을_반환한다() throws Exception {
             // given
-            UserReservationListResponse response = new UserReservationListResponse(List.of(reservationOne, reservationTwo));
-            when(userReservationService.getUserReservations(any())).thenReturn(response);
+            UserReservationListResponse response = new UserReservationListResponse(List.of(reservationOne, reservationTwo),
+                    CursorRequest.encode(2L));
+            when(userReservationService.getUserReservations(eq(LocalDate.of(2023, 4, 1)), eq(LocalDate.of(2023, 4, 30)), any(), any()))
+                    .thenReturn(response);
 
             // when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
                     .header("Authorization", "Bearer Token")
+                    .param("from", "2023-04-01")
+                    .param("to", "2023-04-30")
+                    .param("limit", "2")
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON));
 
@@ -116,7 +123,8 @@ class UserReservationControllerTest {
                                     fieldWithPath("data.reservationList[].start").type(JsonFieldType.STRING).description("예약 시작 시각"),
                                     fieldWithPath("data.reservationList[].end").type(JsonFieldType.STRING).description("예약 종료 시각"),
                                     fieldWithPath("data.reservationList[].userList").type(JsonFieldType.ARRAY).description("참석자 목록"),
-                                    fieldWithPath("data.reservationList[].userList[].username").type(JsonFieldType.STRING).description("참석자 이름")
+                                    fieldWithPath("data.reservationList[].userList[].username").type(JsonFieldType.STRING).description("참석자 이름"),
+                                    fieldWithPath("data.nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서").optional()
                             )
                     ));
         }
@@ -0,0 +1,207 @@
+package com.example.chillisauce.reservations.index;
+
+import com.example.chillisauce.cache.CacheInvalidationBus;
+import com.example.chillisauce.cache.CacheInvalidationMessage;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeetingRoomReservationIndex 클래스")
+class MeetingRoomReservationIndexTest {
+    @Mock
+    ReservationRepository reservationRepository;
+    @Mock
+    CacheInvalidationBus invalidationBus;
+    @InjectMocks
+    MeetingRoomReservationIndex reservationIndex;
+
+    Companies company = Company_생성();
+    User user = User_USER권한_생성(company);
+    Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
+    LocalDate day = LocalDate.now().plusDays(1L);
+    Reservation reservation = Reservation_생성_아이디_지정(1L, user, meetingRoom,
+            LocalDateTime.of(day, LocalTime.of(12, 0)),
+            LocalDateTime.of(day, LocalTime.of(12, 59)));
+
+    @Nested
+    @DisplayName("hasOverlap 메서드는")
+    class HasOverlapTestCase {
+        @Test
+        void 겹치는_예약이_있으면_true를_반환한다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of(reservation));
+
+            // when, then
+            assertThat(reservationIndex.hasOverlap(meetingRoom.getId(),
+                    LocalDateTime.of(day, LocalTime.of(12, 0)),
+                    LocalDateTime.of(day, LocalTime.of(12, 59)))).isTrue();
+            assertThat(reservationIndex.hasOverlap(meetingRoom.getId(),
+                    LocalDateTime.of(day, LocalTime.of(11, 0)),
+                    LocalDateTime.of(day, LocalTime.of(12, 59)))).isTrue();
+        }
+
+        @Test
+        void 앞뒤로_붙어있는_시간은_겹치지_않는다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of(reservation));
+
+            // when, then
+            assertThat(reservationIndex.hasOverlap(meetingRoom.getId(),
+                    LocalDateTime.of(day, LocalTime.of(11, 0)),
+                    LocalDateTime.of(day, LocalTime.of(11, 59)))).isFalse();
+            assertThat(reservationIndex.hasOverlap(meetingRoom.getId(),
+                    LocalDateTime.of(day, LocalTime.of(13, 0)),
+                    LocalDateTime.of(day, LocalTime.of(13, 59)))).isFalse();
+        }
+
+        @Test
+        void 수정_대상_예약은_제외하고_검사한다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of(reservation));
+
+            // when, then
+            assertThat(reservationIndex.hasOverlap(meetingRoom.getId(), reservation.getId(),
+                    LocalDateTime.of(day, LocalTime.of(12, 0)),
+                    LocalDateTime.of(day, LocalTime.of(13, 59)))).isFalse();
+        }
+
+        @Test
+        void 한번_적재한_회의실은_DB를_다시_조회하지_않는다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of());
+
+            // when
+            reservationIndex.hasOverlap(meetingRoom.getId(),
+                    LocalDateTime.of(day, LocalTime.of(12, 0)), LocalDateTime.of(day, LocalTime.of(12, 59)));
+            reservationIndex.hasOverlap(meetingRoom.getId(),
+                    LocalDateTime.of(day, LocalTime.of(14, 0)), LocalDateTime.of(day, LocalTime.of(14, 59)));
+
+            // then
+            verify(reservationRepository, times(1))
+                    .findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("put, remove, evictRoom 메서드는")
+    class UpdateTestCase {
+        @Test
+        void 등록된_예약을_인덱스에_반영한다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of());
+            LocalDateTime start = reservation.getStartTime();
+            LocalDateTime end = reservation.getEndTime();
+            reservationIndex.hasOverlap(meetingRoom.getId(), start, end);
+
+            // when
+            reservationIndex.put(reservation);
+
+            // then
+            assertThat(reservationIndex.hasOverlap(meetingRoom.getId(), start, end)).isTrue();
+            verify(invalidationBus).publish(MeetingRoomReservationIndex.CACHE_NAME, String.valueOf(meetingRoom.getId()));
+        }
+
+        @Test
+        void 삭제된_예약을_인덱스에서_제거한다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of(reservation));
+            LocalDateTime start = reservation.getStartTime();
+            LocalDateTime end = reservation.getEndTime();
+            reservationIndex.hasOverlap(meetingRoom.getId(), start, end);
+
+            // when
+            reservationIndex.remove(reservation);
+
+            // then
+            assertThat(reservationIndex.hasOverlap(meetingRoom.getId(), start, end)).isFalse();
+            verify(invalidationBus).publish(MeetingRoomReservationIndex.CACHE_NAME, String.valueOf(meetingRoom.getId()));
+        }
+
+        @Test
+        void 회의실을_무효화하면_다음_조회때_다시_적재한다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of());
+            reservationIndex.hasOverlap(meetingRoom.getId(), reservation.getStartTime(), reservation.getEndTime());
+
+            // when
+            reservationIndex.evictRoom(meetingRoom.getId());
+            reservationIndex.hasOverlap(meetingRoom.getId(), reservation.getStartTime(), reservation.getEndTime());
+
+            // then
+            verify(reservationRepository, times(2))
+                    .findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드는")
+    class OnMessageTestCase {
+        DefaultMessage message = new DefaultMessage(new byte[0], new byte[0]);
+
+        @Test
+        void 다른_인스턴스에서_바뀐_회의실은_다음_조회때_다시_적재한다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of(reservation), List.of());
+            reservationIndex.hasOverlap(meetingRoom.getId(), reservation.getStartTime(), reservation.getEndTime());
+            when(invalidationBus.decode(any())).thenReturn(new CacheInvalidationMessage("other",
+                    MeetingRoomReservationIndex.CACHE_NAME, String.valueOf(meetingRoom.getId())));
+
+            // when
+            reservationIndex.onMessage(message, null);
+
+            // then
+            assertThat(reservationIndex.hasOverlap(meetingRoom.getId(),
+                    reservation.getStartTime(), reservation.getEndTime())).isFalse();
+            verify(reservationRepository, times(2))
+                    .findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any());
+        }
+
+        @Test
+        void 다른_캐시의_메시지는_무시한다() {
+            // given
+            when(reservationRepository.findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any()))
+                    .thenReturn(List.of(reservation));
+            reservationIndex.hasOverlap(meetingRoom.getId(), reservation.getStartTime(), reservation.getEndTime());
+            when(invalidationBus.decode(any()))
+                    .thenReturn(new CacheInvalidationMessage("other", "UserDetails", String.valueOf(meetingRoom.getId())));
+
+            // when
+            reservationIndex.onMessage(message, null);
+            reservationIndex.hasOverlap(meetingRoom.getId(), reservation.getStartTime(), reservation.getEndTime());
+
+            // then
+            verify(reservationRepository, times(1))
+                    .findAllByMeetingRoomIdAndEndTimeAfter(eq(meetingRoom.getId()), any());
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.chillisauce.reservations.repository;
 
 import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.dto.response.ReservationDetailResponse;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.spaces.entity.Floor;
+import com.example.chillisauce.spaces.repository.FloorRepository;
 import com.example.chillisauce.spaces.repository.MrRepository;
 import com.example.chillisauce.spaces.repository.SpaceRepository;
 import com.example.chillisauce.spaces.entity.Mr;
@@ -11,6 +14,7 @@ import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,11 +22,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -51,6 +59,9 @@ class ReservationRepositoryTest {
     @Autowired
     private MrRepository meetingRoomRepository;
 
+    @Autowired
+    private FloorRepository floorRepository;
+
     @Nested
     @DisplayName("save 메서드는")
     class SaveTestCase {
@@ -159,4 +170,158 @@ class ReservationRepositoryTest {
             assertThat(reservationRepository.findAll().size()).isEqualTo(1);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("findAllDetailsByCompanyName 메서드는")
+    class FindAllDetailsByCompanyNameTestCase {
+        Companies company;
+        Companies otherCompany;
+        Mr meetingRoom;
+
+        @BeforeEach
+        void setup() {
+            company = companyRepository.save(Companies.builder()
+                    .companyName("detailCompany").certification("cert").build());
+            otherCompany = companyRepository.save(Companies.builder()
+                    .companyName("otherDetailCompany").certification("cert").build());
+            User user = userRepository.save(User.builder()
+                    .companies(company).email("detail@test.com").username("detailUser")
+                    .password("12345678").role(UserRoleEnum.USER).build());
+            User otherUser = userRepository.save(User.builder()
+                    .companies(otherCompany).email("other@test.com").username("otherUser")
+                    .password("12345678").role(UserRoleEnum.USER).build());
+            meetingRoom = meetingRoomRepository.save(Mr.builder()
+                    .x("100").y("100").locationName("detailRoom").build());
+
+            for (int i = 0; i < 3; i++) {
+                reservationRepository.save(Reservation.builder()
+                        .user(user).meetingRoom(i == 2 ? null : meetingRoom)
+                        .startTime(LocalDateTime.of(2023, 4, 5, 10 + i, 0))
+                        .endTime(LocalDateTime.of(2023, 4, 5, 10 + i, 59))
+                        .build());
+            }
+            reservationRepository.save(Reservation.builder()
+                    .user(otherUser).meetingRoom(meetingRoom)
+                    .startTime(LocalDateTime.of(2023, 4, 6, 10, 0))
+                    .endTime(LocalDateTime.of(2023, 4, 6, 10, 59))
+                    .build());
+        }
+
+        @Test
+        @Transactional
+        void 회사_예약만_DTO로_조회하고_회사_범위로_카운트한다() {
+            // when
+            Page<ReservationDetailResponse> result = reservationRepository
+                    .findAllDetailsByCompanyName("detailCompany", PageRequest.of(0, 2, Sort.by("id")));
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getContent()).extracting("username").containsOnly("detailUser");
+            assertThat(result.getContent()).extracting("mrName").containsOnly("detailRoom");
+        }
+
+        @Test
+        @Transactional
+        void 삭제된_회의실은_기본값으로_채운다() {
+            // when
+            List<ReservationDetailResponse> result = reservationRepository
+                    .findAllDetailsByCompanyName("detailCompany", PageRequest.of(0, 20, Sort.by("id")))
+                    .getContent();
+
+            // then
+            ReservationDetailResponse last = result.get(result.size() - 1);
+            assertThat(last.getMrId()).isEqualTo(0L);
+            assertThat(last.getMrName()).isEqualTo("삭제된 회의실");
+        }
+
+        @Test
+        @Transactional
+        void lastId_이후의_예약을_키셋으로_조회한다() {
+            // given
+            List<ReservationDetailResponse> first = reservationRepository
+                    .findAllDetailsByCompanyNameAfter("detailCompany", 0L, PageRequest.of(0, 2));
+
+            // when
+            List<ReservationDetailResponse> next = reservationRepository
+                    .findAllDetailsByCompanyNameAfter("detailCompany",
+                            first.get(first.size() - 1).getReservationId(), PageRequest.of(0, 2));
+
+            // then
+            assertThat(first).hasSize(2);
+            assertThat(next).hasSize(1);
+            assertThat(next.get(0).getReservationId()).isGreaterThan(first.get(1).getReservationId());
+        }
+    }
+
+    @Nested
+    @DisplayName("MrRepository.findAllAvailable 메서드는")
+    class FindAllAvailableTestCase {
+        Space spaceOne;
+        Space spaceTwo;
+        Mr busyRoom;
+        Mr freeRoom;
+        Mr otherSpaceRoom;
+        LocalDateTime start = LocalDateTime.of(2023, 4, 5, 14, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 4, 5, 14, 59);
+
+        @BeforeEach
+        void setup() {
+            Companies company = companyRepository.save(Companies.builder()
+                    .companyName("availableCompany").certification("cert").build());
+            Companies otherCompany = companyRepository.save(Companies.builder()
+                    .companyName("otherAvailableCompany").certification("cert").build());
+            User user = userRepository.save(User.builder()
+                    .companies(company).email("available@test.com").username("availableUser")
+                    .password("12345678").role(UserRoleEnum.USER).build());
+            Floor floor = floorRepository.save(Floor.builder()
+                    .floorName("1층").companies(company).build());
+            spaceOne = spaceRepository.save(Space.builder()
+                    .spaceName("공간1").companies(company).floor(floor).build());
+            spaceTwo = spaceRepository.save(Space.builder()
+                    .spaceName("공간2").companies(company).build());
+            Space otherSpace = spaceRepository.save(Space.builder()
+                    .spaceName("다른 회사 공간").companies(otherCompany).build());
+
+            busyRoom = meetingRoomRepository.save(new Mr("회의실1", "100", "100", spaceOne));
+            freeRoom = meetingRoomRepository.save(new Mr("회의실2", "100", "100", spaceOne));
+            otherSpaceRoom = meetingRoomRepository.save(new Mr("회의실3", "100", "100", spaceTwo));
+            meetingRoomRepository.save(new Mr("다른 회사 회의실", "100", "100", otherSpace));
+
+            // 회의실2 는 앞뒤 시간에만 예약이 있어 겹치지 않음
+            reservationRepository.save(Reservation.builder()
+                    .user(user).meetingRoom(busyRoom)
+                    .startTime(start).endTime(end).build());
+            reservationRepository.save(Reservation.builder()
+                    .user(user).meetingRoom(freeRoom)
+                    .startTime(start.minusHours(1)).endTime(start.minusMinutes(1)).build());
+            reservationRepository.save(Reservation.builder()
+                    .user(user).meetingRoom(freeRoom)
+                    .startTime(end.plusMinutes(1)).endTime(end.plusHours(1)).build());
+        }
+
+        @Test
+        @Transactional
+        void 회사_전체에서_겹치는_예약이_없는_회의실만_조회한다() {
+            // when
+            List<Mr> result = meetingRoomRepository.findAllAvailable("availableCompany", null, null, start, end);
+
+            // then
+            assertThat(result).extracting("id").containsExactly(freeRoom.getId(), otherSpaceRoom.getId());
+        }
+
+        @Test
+        @Transactional
+        void 공간과_층_조건으로_범위를_좁힌다() {
+            // when
+            List<Mr> bySpace = meetingRoomRepository
+                    .findAllAvailable("availableCompany", spaceTwo.getId(), null, start, end);
+            List<Mr> byFloor = meetingRoomRepository
+                    .findAllAvailable("availableCompany", null, spaceOne.getFloor().getId(), start, end);
+
+            // then
+            assertThat(bySpace).extracting("id").containsExactly(otherSpaceRoom.getId());
+            assertThat(byFloor).extracting("id").containsExactly(freeRoom.getId());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Import(TestConfig.class)
+@DisplayName("ReservationSlotRepository 클래스")
+class ReservationSlotRepositoryTest {
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Nested
+    @DisplayName("saveAllAndFlush 메서드는")
+    class SaveTestCase {
+        @Test
+        @Transactional
+        public void 같은_회의실_같은_타임은_한번만_점유할_수_있다() {
+            // given
+            Companies company = companyRepository.save(Companies.builder()
+                    .companyName("slotCompany")
+                    .certification("cert")
+                    .build());
+
+            User user = userRepository.save(User.builder()
+                    .companies(company)
+                    .email("slot@test.com")
+                    .username("tester")
+                    .password("12345678")
+                    .role(UserRoleEnum.USER)
+                    .build());
+
+            Mr mr = meetingRoomRepository.save(Mr.builder()
+                    .x("100").y("150").locationName("testMeetingRoom")
+                    .build());
+
+            LocalDateTime slotTime = LocalDateTime.of(2023, 4, 5, 10, 0);
+            Reservation first = reservationRepository.save(Reservation.builder()
+                    .user(user).meetingRoom(mr)
+                    .startTime(slotTime).endTime(slotTime.plusMinutes(59))
+                    .build());
+            Reservation second = reservationRepository.save(Reservation.builder()
+                    .user(user).meetingRoom(mr)
+                    .startTime(slotTime).endTime(slotTime.plusMinutes(59))
+                    .build());
+
+            reservationSlotRepository.saveAllAndFlush(List.of(new ReservationSlot(mr.getId(), slotTime, first)));
+
+            // when, then
+            assertThatThrownBy(() -> reservationSlotRepository
+                    .saveAllAndFlush(List.of(new ReservationSlot(mr.getId(), slotTime, second))))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @Transactional
+        public void 예약을_지우면_점유가_해제된다() {
+            // given
+            Companies company = companyRepository.save(Companies.builder()
+                    .companyName("slotCompany2")
+                    .certification("cert")
+                    .build());
+
+            User user = userRepository.save(User.builder()
+                    .companies(company)
+                    .email("slot2@test.com")
+                    .username("tester")
+                    .password("12345678")
+                    .role(UserRoleEnum.USER)
+                    .build());
+
+            Mr mr = meetingRoomRepository.save(Mr.builder()
+                    .x("100").y("150").locationName("testMeetingRoom")
+                    .build());
+
+            LocalDateTime slotTime = LocalDateTime.of(2023, 4, 5, 10, 0);
+            Reservation reservation = reservationRepository.save(Reservation.builder()
+                    .user(user).meetingRoom(mr)
+                    .startTime(slotTime).endTime(slotTime.plusMinutes(59))
+                    .build());
+            reservationSlotRepository.saveAllAndFlush(List.of(new ReservationSlot(mr.getId(), slotTime, reservation)));
+
+            // when
+            reservationSlotRepository.deleteAllByReservationId(reservation.getId());
+
+            // then
+            assertThat(reservationSlotRepository.findAll())
+                    .noneMatch(x -> x.getMeetingRoomId().equals(mr.getId()));
+        }
+    }
+}
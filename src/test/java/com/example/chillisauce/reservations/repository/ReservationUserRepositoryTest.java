@@ -0,0 +1,95 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.dto.ReservationUserWrapper;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Import(TestConfig.class)
+@DisplayName("ReservationUserRepository 클래스")
+class ReservationUserRepositoryTest {
+    @Autowired
+    private ReservationUserRepository reservationUserRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Nested
+    @DisplayName("batchInsert 메서드는")
+    class BatchInsertTestCase {
+        @Test
+        @Transactional
+        public void 참석자를_한번에_저장한다() {
+            // given
+            Companies company = companyRepository.save(Companies.builder()
+                    .companyName("attendeeCompany")
+                    .certification("cert")
+                    .build());
+            User organizer = userRepository.save(User.builder()
+                    .companies(company)
+                    .email("organizer@test.com")
+                    .username("organizer")
+                    .password("12345678")
+                    .role(UserRoleEnum.USER)
+                    .build());
+            User attendee = userRepository.save(User.builder()
+                    .companies(company)
+                    .email("attendee@test.com")
+                    .username("attendee")
+                    .password("12345678")
+                    .role(UserRoleEnum.USER)
+                    .build());
+            Mr mr = meetingRoomRepository.save(Mr.builder()
+                    .x("100").y("150").locationName("testMeetingRoom")
+                    .build());
+            LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+            Reservation reservation = reservationRepository.save(Reservation.builder()
+                    .user(organizer).meetingRoom(mr)
+                    .startTime(start).endTime(start.plusMinutes(59))
+                    .build());
+
+            // when
+            reservationUserRepository.batchInsert(List.of(
+                    new ReservationUser(organizer, reservation),
+                    new ReservationUser(attendee, reservation)));
+
+            // then
+            List<ReservationUserWrapper> result = reservationUserRepository
+                    .findReservationUserByReservationIdIn(List.of(reservation.getId()));
+            assertThat(result).extracting(ReservationUserWrapper::getUsername)
+                    .containsExactlyInAnyOrder("organizer", "attendee");
+        }
+    }
+}
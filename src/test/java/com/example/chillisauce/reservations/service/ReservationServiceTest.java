@@ -1,23 +1,35 @@
 package com.example.chillisauce.reservations.service;
 
 import com.example.chillisauce.fixture.FixtureFactory;
+import com.example.chillisauce.paging.CursorException;
+import com.example.chillisauce.paging.CursorRequest;
+import com.example.chillisauce.reservations.dto.ReservationSlotWrapper;
 import com.example.chillisauce.reservations.dto.request.ReservationAttendee;
 import com.example.chillisauce.reservations.dto.request.ReservationRequest;
 import com.example.chillisauce.reservations.dto.request.ReservationTime;
+import com.example.chillisauce.reservations.dto.response.AvailableMeetingRoomListResponse;
+import com.example.chillisauce.reservations.dto.response.ReservationDetailResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationListResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationResponse;
+import com.example.chillisauce.reservations.dto.response.ReservationTimetableListResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationTimetableResponse;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
 import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.index.MeetingRoomReservationIndex;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
 import com.example.chillisauce.reservations.repository.ReservationUserRepository;
 import com.example.chillisauce.reservations.vo.ReservationTimetable;
+import com.example.chillisauce.schedules.entity.Schedule;
 import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.schedules.service.ScheduleFanoutService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.entity.Box;
 import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.Space;
 import com.example.chillisauce.spaces.repository.LocationRepository;
 import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.spaces.service.SpaceCacheEvictor;
 import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.repository.CompanyRepository;
@@ -31,8 +43,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.NestedTestConfiguration;
 
 import java.time.LocalDate;
@@ -47,6 +57,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,11 +76,19 @@ class ReservationServiceTest {
     @InjectMocks
     ReservationService reservationService;
     @Mock
+    SpaceCacheEvictor spaceCacheEvictor;
+    @Mock
     ScheduleRepository scheduleRepository;
     @Mock
+    ScheduleFanoutService scheduleFanoutService;
+    @Mock
     ReservationUserRepository reservationUserRepository;
     @Mock
     private CompanyRepository companyRepository;
+    @Mock
+    MeetingRoomReservationIndex reservationIndex;
+    @Mock
+    ReservationSlotService reservationSlotService;
 
     @Nested
     @DisplayName("getAllReservations 메서드는")
@@ -78,33 +99,80 @@ class ReservationServiceTest {
         Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
         User user = User_USER권한_생성(company);
         UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
-        Reservation reservationOne = Reservation_생성_아이디_지정(1L, user, meetingRoom,
+        ReservationDetailResponse reservationOne = new ReservationDetailResponse(1L, meetingRoom.getId(),
+                meetingRoom.getLocationName(), user.getUsername(),
                 LocalDateTime.of(2023, 4, 11, 15, 0),
                 LocalDateTime.of(2023, 4, 11, 15, 59));
 
-        Reservation reservationTwo = Reservation_생성_아이디_지정(2L, user, meetingRoom,
+        ReservationDetailResponse reservationTwo = new ReservationDetailResponse(2L, meetingRoom.getId(),
+                meetingRoom.getLocationName(), user.getUsername(),
                 LocalDateTime.of(2023, 4, 11, 17, 0),
                 LocalDateTime.of(2023, 4, 11, 17, 59));
 
-        List<Reservation> reservations = List.of(reservationOne, reservationTwo);
-        Page<Reservation> reservationPage = new PageImpl<>(reservations);
+        List<ReservationDetailResponse> reservations = List.of(reservationOne, reservationTwo);
+        Page<ReservationDetailResponse> reservationPage = new PageImpl<>(reservations);
 
         @Test
         void 회사_전체_예약내역을_조회한다() {
             // given
-            Pageable pageable = PageRequest.of(offset, 20);
-
             when(reservationRepository
-                    .findAllByCompanyName(eq(company.getCompanyName()), any()))
+                    .findAllDetailsByCompanyName(eq(company.getCompanyName()), any()))
                     .thenReturn(reservationPage);
 
             // when
             ReservationListResponse result = reservationService
-                    .getAllReservations(company.getCompanyName(), offset, userDetails);
+                    .getAllReservations(company.getCompanyName(), offset, CursorRequest.first(), userDetails);
 
             // then
             assertThat(result.getReservationList().size()).isEqualTo(2);
             assertThat(result.getReservationList()).extracting("reservationId", Long.class).contains(1L, 2L);
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        void page를_지정하면_limit_크기로_조회한다() {
+            // given
+            when(reservationRepository
+                    .findAllDetailsByCompanyName(eq(company.getCompanyName()), any()))
+                    .thenReturn(reservationPage);
+
+            // when
+            reservationService.getAllReservations(company.getCompanyName(), 2, CursorRequest.of(null, 50), userDetails);
+
+            // then
+            verify(reservationRepository).findAllDetailsByCompanyName(eq(company.getCompanyName()),
+                    argThat(x -> x.getPageNumber() == 2 && x.getPageSize() == 50));
+        }
+
+        @Test
+        void page가_1보다_작으면_예외가_발생한다() {
+            // when, then
+            assertThatThrownBy(() -> reservationService
+                    .getAllReservations(company.getCompanyName(), -1, CursorRequest.first(), userDetails))
+                    .isInstanceOf(CursorException.class).hasMessage("페이지 번호는 1 이상이어야 합니다.");
+            verify(reservationRepository, never()).findAllDetailsByCompanyName(any(), any());
+        }
+
+        @Test
+        void page가_없으면_커서_페이지로_조회한다() {
+            // given
+            CursorRequest cursorRequest = CursorRequest.of(CursorRequest.encode(1L), 1);
+            ReservationDetailResponse reservationThree = new ReservationDetailResponse(3L, meetingRoom.getId(),
+                    meetingRoom.getLocationName(), user.getUsername(),
+                    LocalDateTime.of(2023, 4, 11, 18, 0),
+                    LocalDateTime.of(2023, 4, 11, 18, 59));
+            when(reservationRepository
+                    .findAllDetailsByCompanyNameAfter(eq(company.getCompanyName()), eq(1L), any()))
+                    .thenReturn(List.of(reservationTwo, reservationThree));
+
+            // when
+            ReservationListResponse result = reservationService
+                    .getAllReservations(company.getCompanyName(), null, cursorRequest, userDetails);
+
+            // then
+            assertThat(result.getReservationList()).extracting("reservationId", Long.class).containsExactly(2L);
+            assertThat(result.getNextCursor()).isEqualTo(CursorRequest.encode(2L));
+            verify(reservationRepository, never()).findAllDetailsByCompanyName(any(), any());
         }
 
         @Nested
@@ -117,7 +185,7 @@ class ReservationServiceTest {
             @Test
             void 접근_불가_예외를_반환한다(){
                 // when, then
-                assertThatThrownBy(()-> reservationService.getAllReservations(company.getCompanyName(), offset, userDetails))
+                assertThatThrownBy(()-> reservationService.getAllReservations(company.getCompanyName(), offset, CursorRequest.first(), userDetails))
                         .isInstanceOf(ReservationException.class).hasMessage("예약에 접근할 수 없는 유저입니다.");
             }
         }
@@ -218,6 +286,134 @@ class ReservationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getReservationTimetables 메서드는")
+    class GetReservationTimetablesTestCase {
+        // given
+        Companies company = Company_생성();
+        Mr meetingRoomOne = MeetingRoom_생성_아이디_지정(1L);
+        Mr meetingRoomTwo = MeetingRoom_생성_아이디_지정(2L);
+        User user = User_USER권한_생성(company);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getUsername());
+        Long spaceId = 1L;
+
+        @Test
+        void 공간의_모든_회의실_타임테이블을_한번에_조회한다() {
+            // given
+            LocalDate selDate = LocalDate.now().plusDays(1L);
+            ReservationSlotWrapper slotOne = slot(meetingRoomOne.getId(),
+                    LocalDateTime.of(selDate, LocalTime.of(15, 0)), LocalDateTime.of(selDate, LocalTime.of(15, 59)));
+            ReservationSlotWrapper slotTwo = slot(meetingRoomTwo.getId(),
+                    LocalDateTime.of(selDate, LocalTime.of(9, 0)), LocalDateTime.of(selDate, LocalTime.of(10, 59)));
+
+            when(meetingRoomRepository.findAllBySpaceIdAndCompanyName(spaceId, company.getCompanyName()))
+                    .thenReturn(List.of(meetingRoomOne, meetingRoomTwo));
+            when(reservationRepository.findAllSlotsByMeetingRoomIdInAndStartTimeBetween(
+                    anyList(), eq(selDate.atStartOfDay()), eq(selDate.atTime(LocalTime.MAX))))
+                    .thenReturn(List.of(slotOne, slotTwo));
+
+            // when
+            ReservationTimetableListResponse result =
+                    reservationService.getReservationTimetables(selDate, spaceId, null, userDetails);
+
+            // then
+            assertThat(result.getTimetableList()).hasSize(2);
+            assertThat(result.getTimetableList().get(0).getMrId()).isEqualTo(meetingRoomOne.getId());
+            assertThat(result.getTimetableList().get(0).getTimeList())
+                    .hasSize(ReservationTimetable.CLOSE_HOUR - ReservationTimetable.OPEN_HOUR + 1)
+                    .filteredOn(x -> x.getIsCheckOut().equals(true))
+                    .hasSize(1);
+            assertThat(result.getTimetableList().get(1).getTimeList())
+                    .filteredOn(x -> x.getIsCheckOut().equals(true))
+                    .hasSize(2);
+        }
+
+        @Test
+        void 회의실이_없으면_예약을_조회하지_않는다() {
+            // given
+            Long floorId = 1L;
+            when(meetingRoomRepository.findAllByFloorIdAndCompanyName(floorId, company.getCompanyName()))
+                    .thenReturn(List.of());
+
+            // when
+            ReservationTimetableListResponse result =
+                    reservationService.getReservationTimetables(LocalDate.now(), null, floorId, userDetails);
+
+            // then
+            assertThat(result.getTimetableList()).isEmpty();
+            verify(reservationRepository, never())
+                    .findAllSlotsByMeetingRoomIdInAndStartTimeBetween(any(), any(), any());
+        }
+
+        @Test
+        void 공간과_층을_모두_지정하거나_지정하지_않으면_예외가_발생한다() {
+            // when, then
+            assertThatThrownBy(() -> reservationService.getReservationTimetables(LocalDate.now(), 1L, 1L, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("공간 id 또는 층 id 중 하나만 지정해야 합니다.");
+            assertThatThrownBy(() -> reservationService.getReservationTimetables(LocalDate.now(), null, null, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("공간 id 또는 층 id 중 하나만 지정해야 합니다.");
+        }
+
+        private ReservationSlotWrapper slot(Long meetingRoomId, LocalDateTime start, LocalDateTime end) {
+            return new ReservationSlotWrapper() {
+                @Override
+                public Long getMeetingRoomId() {
+                    return meetingRoomId;
+                }
+
+                @Override
+                public LocalDateTime getStartTime() {
+                    return start;
+                }
+
+                @Override
+                public LocalDateTime getEndTime() {
+                    return end;
+                }
+            };
+        }
+    }
+
+    @Nested
+    @DisplayName("getAvailableMeetingRooms 메서드는")
+    class GetAvailableMeetingRoomsTestCase {
+        // given
+        Companies company = Company_생성();
+        User user = User_USER권한_생성(company);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getUsername());
+        LocalDateTime start = LocalDateTime.of(LocalDate.now().plusDays(1L), LocalTime.of(14, 0));
+        LocalDateTime end = start.plusMinutes(59);
+
+        @Test
+        void 겹치는_예약이_없는_회의실을_쿼리_한번으로_조회한다() {
+            // given
+            Space space = Space_생성_아이디_지정(1L);
+            Mr meetingRoom = MeetingRoom_생성_아이디_지정(3L);
+            meetingRoom.setSpace(space);
+            when(meetingRoomRepository.findAllAvailable(company.getCompanyName(), null, null, start, end))
+                    .thenReturn(List.of(meetingRoom));
+
+            // when
+            AvailableMeetingRoomListResponse result =
+                    reservationService.getAvailableMeetingRooms(start, end, null, null, userDetails);
+
+            // then
+            assertThat(result.getMeetingRoomList()).hasSize(1);
+            assertThat(result.getMeetingRoomList().get(0).getMrId()).isEqualTo(3L);
+            assertThat(result.getMeetingRoomList().get(0).getSpaceId()).isEqualTo(1L);
+            assertThat(result.getMeetingRoomList().get(0).getSpaceName()).isEqualTo(space.getSpaceName());
+            verify(reservationRepository, never()).findAllByMeetingRoomIdAndStartTimeBetween(any(), any(), any());
+        }
+
+        @Test
+        void 시작_시각이_종료_시각보다_늦으면_예외가_발생한다() {
+            // when, then
+            assertThatThrownBy(() -> reservationService.getAvailableMeetingRooms(end, start, null, null, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("유효한 시간 범위가 아닙니다.");
+            verify(meetingRoomRepository, never()).findAllAvailable(any(), any(), any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("addReservation 메서드는")
     class AddReservationTestCase {
@@ -248,6 +444,24 @@ class ReservationServiceTest {
         }
 
 
+        @Test
+        void 참석자는_배치로_저장하고_참석자_스케줄은_아웃박스에_맡긴다() {
+            // given
+            when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
+                    .thenReturn(Optional.of(meetingRoom));
+            when(userRepository.findAllByIdInAndCompanies_CompanyName(eq(List.of(organizer.getId(), attendee.getId())),
+                    eq(company.getCompanyName()))).thenReturn(List.of(organizer, attendee));
+
+            // when
+            ReservationResponse result = reservationService.addReservation(meetingRoom.getId(), requestDto, userDetails);
+
+            // then
+            assertThat(result.getUserList()).hasSize(2);
+            verify(reservationUserRepository).batchInsert(argThat(x -> x.size() == 2));
+            verify(reservationUserRepository, never()).saveAll(anyList());
+            verify(scheduleFanoutService).enqueue(argThat(x -> x.getStartTime().equals(selectTime.getStart())));
+        }
+
         @Test
         void 중복되는_시간이_있으면_예외가_발생한다() {
             // given
@@ -261,6 +475,8 @@ class ReservationServiceTest {
             when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
                     .thenReturn(Optional.of(meetingRoom));
 
+            when(reservationIndex.hasOverlap(meetingRoom.getId(),
+                    selectTime.getStart(), selectTime.getStart().plusMinutes(59))).thenReturn(true);
             doReturn(Optional.of(firstReservation)).when(reservationRepository)
                     .findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(meetingRoom.getId(),
                             selectTime.getStart(), selectTime.getStart().plusMinutes(59));
@@ -274,6 +490,42 @@ class ReservationServiceTest {
             assertThat(exception.getMessage()).isEqualTo("해당 시간대에 이미 등록된 예약이 있습니다.");
         }
 
+        @Test
+        void 인덱스에만_남은_예약으로는_거절하지_않고_인덱스를_무효화한다() {
+            // given
+            LocalDateTime start = selectTime.getStart();
+            LocalDateTime end = start.plusMinutes(59);
+            when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
+                    .thenReturn(Optional.of(meetingRoom));
+            when(reservationRepository.findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(
+                    meetingRoom.getId(), start, end)).thenReturn(Optional.empty());
+            when(reservationIndex.hasOverlap(meetingRoom.getId(), start, end)).thenReturn(true);
+
+            // when
+            ReservationResponse result = reservationService.addReservation(meetingRoom.getId(), requestDto, userDetails);
+
+            // then
+            assertThat(result).isNotNull();
+            verify(reservationIndex).evictRoom(meetingRoom.getId());
+            verify(reservationSlotService).claim(any(Reservation.class));
+        }
+
+        @Test
+        void 인덱스가_비어있다고_하면_DB_조회없이_타임_점유로_검증한다() {
+            // given
+            when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
+                    .thenReturn(Optional.of(meetingRoom));
+            doThrow(new ReservationException(ReservationErrorCode.DUPLICATED_TIME))
+                    .when(reservationSlotService).claim(any(Reservation.class));
+
+            // when, then
+            assertThatThrownBy(() -> reservationService.addReservation(meetingRoom.getId(), requestDto, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("해당 시간대에 이미 등록된 예약이 있습니다.");
+            verify(reservationRepository, never())
+                    .findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(any(), any(), any());
+            verify(reservationIndex, never()).put(any(Reservation.class));
+        }
+
         @Nested
         @DisplayName("해당하는 회의실이 없으면")
         class NotFoundCase{
@@ -340,6 +592,29 @@ class ReservationServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getStart()).isEqualTo(selectTime.getStart());
             assertThat(result.getEnd()).isEqualTo(selectTime.getStart().plusMinutes(59));
+            verify(scheduleRepository).updateTimeByReservationId(before.getId(),
+                    selectTime.getStart(), selectTime.getStart().plusMinutes(59));
+            verify(reservationRepository, never())
+                    .findAllByMeetingRoomIdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThan(any(), any(), any(), any());
+        }
+
+        @Test
+        void 인덱스_적중이_DB에서_확인되면_예외가_발생한다() {
+            // given
+            LocalDateTime start = LocalDateTime.of(2023, 4, 8, 12, 0);
+            LocalDateTime end = start.plusMinutes(59);
+            ReservationRequest request = new ReservationRequest(List.of(new ReservationTime(start)),
+                    List.of(new ReservationAttendee(1L)));
+            Reservation other = Reservation_생성_아이디_지정(2L, user, meetingRoom, start, end);
+            when(reservationRepository.findById(eq(before.getId()))).thenReturn(Optional.of(before));
+            when(reservationIndex.hasOverlap(meetingRoom.getId(), before.getId(), start, end)).thenReturn(true);
+            when(reservationRepository.findAllByMeetingRoomIdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThan(
+                    meetingRoom.getId(), before.getId(), start, end)).thenReturn(List.of(other));
+
+            // when, then
+            assertThatThrownBy(() -> reservationService.editReservation(before.getId(), request, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("해당 시간대에 이미 등록된 예약이 있습니다.");
+            verify(reservationSlotService, never()).reclaim(any(Reservation.class));
         }
     }
 
@@ -364,6 +639,7 @@ class ReservationServiceTest {
 
             // then
             assertThat(result).isEqualTo("success");
+            verify(scheduleRepository).deleteAllByReservationId(target.getId());
         }
 
         @Test
@@ -388,4 +664,24 @@ class ReservationServiceTest {
                     .isInstanceOf(ReservationException.class).hasMessage("예약을 찾을 수 없습니다.");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("deleteMeetingRoomInReservations 메서드는")
+    class DeleteMeetingRoomInReservationsTestCase {
+        Long meetingRoomId = 1L;
+
+        @Test
+        void 예약을_불러오지_않고_스케줄과_예약을_일괄_변경한다() {
+            // when
+            String result = reservationService.deleteMeetingRoomInReservations(meetingRoomId, null);
+
+            // then
+            assertThat(result).isEqualTo("success");
+            verify(scheduleRepository).updateCommentByMeetingRoomId(meetingRoomId, Schedule.DELETED_MEETING_ROOM);
+            verify(reservationRepository).detachMeetingRoom(meetingRoomId);
+            verify(reservationSlotService).releaseMeetingRoom(meetingRoomId);
+            verify(reservationIndex).evictRoom(meetingRoomId);
+            verify(reservationRepository, never()).findAllByMeetingRoomId(any());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationSlotService 클래스")
+class ReservationSlotServiceTest {
+    @Mock
+    ReservationSlotRepository reservationSlotRepository;
+    @InjectMocks
+    ReservationSlotService reservationSlotService;
+    @Captor
+    ArgumentCaptor<List<ReservationSlot>> slotCaptor;
+
+    Companies company = Company_생성();
+    User user = User_USER권한_생성(company);
+    Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
+    Reservation reservation = Reservation_생성_아이디_지정(1L, user, meetingRoom,
+            LocalDateTime.of(2023, 4, 8, 12, 0),
+            LocalDateTime.of(2023, 4, 8, 13, 59));
+
+    @Nested
+    @DisplayName("claim 메서드는")
+    class ClaimTestCase {
+        @Test
+        void 예약이_걸친_정각_타임마다_점유한다() {
+            // when
+            reservationSlotService.claim(reservation);
+
+            // then
+            verify(reservationSlotRepository).saveAllAndFlush(slotCaptor.capture());
+            assertThat(slotCaptor.getValue()).extracting("slotTime").containsExactly(
+                    LocalDateTime.of(2023, 4, 8, 12, 0),
+                    LocalDateTime.of(2023, 4, 8, 13, 0));
+            assertThat(slotCaptor.getValue()).extracting("meetingRoomId").containsOnly(meetingRoom.getId());
+        }
+
+        @Test
+        void 이미_점유된_타임이면_예외가_발생한다() {
+            // given
+            when(reservationSlotRepository.saveAllAndFlush(anyList()))
+                    .thenThrow(new DataIntegrityViolationException("duplicated"));
+
+            // when, then
+            assertThatThrownBy(() -> reservationSlotService.claim(reservation))
+                    .isInstanceOf(ReservationException.class).hasMessage("해당 시간대에 이미 등록된 예약이 있습니다.");
+        }
+    }
+
+    @Test
+    void reclaim_메서드는_기존_점유를_해제한_뒤_다시_점유한다() {
+        // when
+        reservationSlotService.reclaim(reservation);
+
+        // then
+        InOrder inOrder = inOrder(reservationSlotRepository);
+        inOrder.verify(reservationSlotRepository).deleteAllByReservationId(reservation.getId());
+        inOrder.verify(reservationSlotRepository).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void slotTimesOf_메서드는_구간에_걸친_정각_시각을_반환한다() {
+        // when
+        List<LocalDateTime> result = ReservationSlotService.slotTimesOf(
+                LocalDateTime.of(2023, 4, 8, 9, 30), LocalDateTime.of(2023, 4, 8, 11, 0));
+
+        // then
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2023, 4, 8, 9, 0),
+                LocalDateTime.of(2023, 4, 8, 10, 0));
+    }
+}
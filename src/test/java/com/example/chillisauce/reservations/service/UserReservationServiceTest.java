@@ -1,8 +1,11 @@
 package com.example.chillisauce.reservations.service;
 
+import com.example.chillisauce.paging.CursorRequest;
+import com.example.chillisauce.reservations.dto.ReservationUserWrapper;
 import com.example.chillisauce.reservations.dto.response.UserReservationListResponse;
 import com.example.chillisauce.reservations.entity.Reservation;
 import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.reservations.exception.ReservationException;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
 import com.example.chillisauce.reservations.repository.ReservationUserRepository;
 import com.example.chillisauce.security.UserDetailsImpl;
@@ -17,12 +20,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 import static com.example.chillisauce.fixture.FixtureFactory.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,14 +73,107 @@ class UserReservationServiceTest {
         @Test
         void 유저의_예약내역을_반환한다() {
             // given
-            when(reservationRepository.findAllByUserId(eq(organizer.getId())))
+            when(reservationRepository.findAllByUserIdAfter(eq(organizer.getId()), eq(0L), any()))
                     .thenReturn(List.of(reservationOne, reservationTwo));
 
             // when
-            UserReservationListResponse result = userReservationService.getUserReservations(userDetails);
+            UserReservationListResponse result = userReservationService
+                    .getUserReservations(null, null, CursorRequest.first(), userDetails);
 
             // then
             assertThat(result.getReservationList().size()).isEqualTo(2);
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        void limit보다_많으면_잘라서_다음_커서를_반환한다() {
+            // given
+            when(reservationRepository.findAllByUserIdAfter(eq(organizer.getId()), eq(0L), any()))
+                    .thenReturn(List.of(reservationOne, reservationTwo));
+
+            // when
+            UserReservationListResponse result = userReservationService
+                    .getUserReservations(null, null, CursorRequest.of(null, 1), userDetails);
+
+            // then
+            assertThat(result.getReservationList()).extracting("reservationId").containsExactly(1L);
+            assertThat(result.getNextCursor()).isEqualTo(CursorRequest.encode(1L));
+        }
+
+        @Test
+        void 참석자를_예약별로_묶어서_반환한다() {
+            // given
+            when(reservationRepository.findAllByUserIdAfter(eq(organizer.getId()), eq(0L), any()))
+                    .thenReturn(List.of(reservationOne, reservationTwo));
+            when(reservationUserRepository.findReservationUserByReservationIdIn(List.of(1L, 2L)))
+                    .thenReturn(List.of(
+                            attendee(1L, organizer.getUsername()),
+                            attendee(2L, attendeeOne.getUsername()),
+                            attendee(1L, attendeeTwo.getUsername())));
+
+            // when
+            UserReservationListResponse result = userReservationService
+                    .getUserReservations(null, null, CursorRequest.first(), userDetails);
+
+            // then
+            assertThat(result.getReservationList().get(0).getUserList()).extracting("username")
+                    .containsExactly(organizer.getUsername(), attendeeTwo.getUsername());
+            assertThat(result.getReservationList().get(1).getUserList()).extracting("username")
+                    .containsExactly(attendeeOne.getUsername());
+        }
+
+        @Test
+        void 기간을_지정하면_기간_내_예약만_조회한다() {
+            // given
+            LocalDate from = LocalDate.of(2023, 5, 1);
+            LocalDate to = LocalDate.of(2023, 5, 3);
+            when(reservationRepository.findAllByUserIdAndStartTimeBetweenAfter(eq(organizer.getId()),
+                    eq(from.atStartOfDay()), eq(to.atTime(LocalTime.MAX)), eq(0L), any()))
+                    .thenReturn(List.of(reservationOne));
+
+            // when
+            UserReservationListResponse result = userReservationService
+                    .getUserReservations(from, to, CursorRequest.first(), userDetails);
+
+            // then
+            assertThat(result.getReservationList()).extracting("reservationId").containsExactly(1L);
+            verify(reservationRepository, never()).findAllByUserIdAfter(any(), any(), any());
+        }
+
+        @Test
+        void 예약이_없으면_참석자를_조회하지_않는다() {
+            // given
+            when(reservationRepository.findAllByUserIdAfter(eq(organizer.getId()), eq(0L), any()))
+                    .thenReturn(List.of());
+
+            // when
+            UserReservationListResponse result = userReservationService
+                    .getUserReservations(null, null, CursorRequest.first(), userDetails);
+
+            // then
+            assertThat(result.getReservationList()).isEmpty();
+            verify(reservationUserRepository, never()).findReservationUserByReservationIdIn(any());
+        }
+
+        @Test
+        void 시작_날짜가_종료_날짜보다_늦으면_예외가_발생한다() {
+            assertThatThrownBy(() -> userReservationService.getUserReservations(LocalDate.of(2023, 5, 3),
+                    LocalDate.of(2023, 5, 1), CursorRequest.first(), userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("유효한 시간 범위가 아닙니다.");
+        }
+
+        private ReservationUserWrapper attendee(Long reservationId, String username) {
+            return new ReservationUserWrapper() {
+                @Override
+                public String getUsername() {
+                    return username;
+                }
+
+                @Override
+                public Long getReservationId() {
+                    return reservationId;
+                }
+            };
         }
     }
 
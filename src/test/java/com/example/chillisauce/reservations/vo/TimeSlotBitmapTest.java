@@ -0,0 +1,101 @@
+package com.example.chillisauce.reservations.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.stream.IntStream;
+
+import static com.example.chillisauce.reservations.vo.ReservationTimetable.CLOSE_HOUR;
+import static com.example.chillisauce.reservations.vo.ReservationTimetable.OPEN_HOUR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimeSlotBitmap 클래스")
+class TimeSlotBitmapTest {
+    LocalDate date = LocalDate.of(2023, 4, 8);
+
+    @Nested
+    @DisplayName("mark 메서드는")
+    class MarkTestCase {
+        @Test
+        void 예약_구간에_시작_시각이_포함되는_타임만_표시한다() {
+            // given
+            TimeSlotBitmap bitmap = new TimeSlotBitmap(date);
+
+            // when
+            bitmap.mark(LocalDateTime.of(date, LocalTime.of(12, 0)), LocalDateTime.of(date, LocalTime.of(13, 59)));
+
+            // then
+            assertThat(bitmap.isOccupied(11)).isFalse();
+            assertThat(bitmap.isOccupied(12)).isTrue();
+            assertThat(bitmap.isOccupied(13)).isTrue();
+            assertThat(bitmap.isOccupied(14)).isFalse();
+            assertThat(bitmap.occupiedCount()).isEqualTo(2);
+        }
+
+        @Test
+        void 정각이_아닌_시각은_다음_정각부터_표시한다() {
+            // given
+            TimeSlotBitmap bitmap = new TimeSlotBitmap(date);
+
+            // when
+            bitmap.mark(LocalDateTime.of(date, LocalTime.of(9, 30)), LocalDateTime.of(date, LocalTime.of(11, 0)));
+
+            // then
+            assertThat(bitmap.isOccupied(9)).isFalse();
+            assertThat(bitmap.isOccupied(10)).isTrue();
+            assertThat(bitmap.isOccupied(11)).isFalse();
+        }
+
+        @Test
+        void 날짜를_넘는_예약은_운영시간_범위로_자른다() {
+            // given
+            TimeSlotBitmap bitmap = new TimeSlotBitmap(date);
+
+            // when
+            bitmap.mark(LocalDateTime.of(date.minusDays(1), LocalTime.of(20, 0)),
+                    LocalDateTime.of(date, LocalTime.of(8, 30)));
+            bitmap.mark(LocalDateTime.of(date, LocalTime.of(21, 0)),
+                    LocalDateTime.of(date.plusDays(1), LocalTime.of(1, 0)));
+
+            // then
+            assertThat(bitmap.isOccupied(OPEN_HOUR)).isTrue();
+            assertThat(bitmap.isOccupied(8)).isTrue();
+            assertThat(bitmap.isOccupied(9)).isFalse();
+            assertThat(bitmap.isOccupied(21)).isTrue();
+            assertThat(bitmap.isOccupied(CLOSE_HOUR)).isTrue();
+            assertThat(bitmap.occupiedCount()).isEqualTo(4);
+        }
+
+        @Test
+        void 다른_날짜의_예약은_표시하지_않는다() {
+            // given
+            TimeSlotBitmap bitmap = new TimeSlotBitmap(date);
+
+            // when
+            bitmap.mark(LocalDateTime.of(date.plusDays(1), LocalTime.of(12, 0)),
+                    LocalDateTime.of(date.plusDays(1), LocalTime.of(12, 59)));
+            bitmap.mark(null, null);
+
+            // then
+            assertThat(bitmap.occupiedCount()).isZero();
+        }
+    }
+
+    @Test
+    void markAll_메서드는_모든_타임을_표시한다() {
+        // given
+        TimeSlotBitmap bitmap = new TimeSlotBitmap(date);
+
+        // when
+        bitmap.markAll();
+
+        // then
+        assertThat(bitmap.occupiedCount()).isEqualTo(TimeSlotBitmap.SLOT_COUNT);
+        assertThat(IntStream.rangeClosed(OPEN_HOUR, CLOSE_HOUR).allMatch(bitmap::isOccupied)).isTrue();
+        assertThat(bitmap.isOccupied(CLOSE_HOUR + 1)).isFalse();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.chillisauce.schedules.controller;
 
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.schedules.dto.*;
 import com.example.chillisauce.schedules.exception.ScheduleExceptionHandler;
 import com.example.chillisauce.schedules.service.ScheduleService;
@@ -73,7 +74,7 @@ class ScheduleControllerTest {
         @Test
         @WithMockUser
         void 회원의_전체_스케줄을_응답한다() throws Exception {
-            when(scheduleService.getAllSchedules(any())).thenReturn(all);
+            when(scheduleService.getAllSchedules(any(), any())).thenReturn(all);
 
             // when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
@@ -95,7 +96,8 @@ class ScheduleControllerTest {
                                     fieldWithPath("data.scList[].scTitle").type(JsonFieldType.STRING).description("일정 제목"),
                                     fieldWithPath("data.scList[].scComment").type(JsonFieldType.STRING).description("일정 세부내용"),
                                     fieldWithPath("data.scList[].scStart").type(JsonFieldType.STRING).description("일정 시작 시각"),
-                                    fieldWithPath("data.scList[].scEnd").type(JsonFieldType.STRING).description("일정 종료 시각")
+                                    fieldWithPath("data.scList[].scEnd").type(JsonFieldType.STRING).description("일정 종료 시각"),
+                                    fieldWithPath("data.nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서").optional()
                             )
                     ));
         }
@@ -120,7 +122,7 @@ class ScheduleControllerTest {
 
             responseList.add(scheduleOne);
             responseList.add(scheduleTwo);
-            return new ScheduleListResponseDto(responseList);
+            return new ScheduleListResponseDto(responseList, CursorRequest.encode(2L));
         }
     }
 
@@ -183,6 +185,56 @@ class ScheduleControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("주간 스케줄 GET 요청이 들어올 때")
+    class GetWeekSchedulesTestCase {
+        // given
+        String url = "/schedules/week";
+        LocalDate selDate = LocalDate.of(2023, 4, 13);
+
+        @Test
+        @WithMockUser
+        void 요일별_스케줄_타임테이블을_응답한다() throws Exception {
+            // given
+            LocalDate monday = LocalDate.of(2023, 4, 10);
+            List<ScheduleDayResponseDto> dayList = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                ScheduleTimeResponseDto time = ScheduleTimeResponseDto.builder()
+                        .isCheckOut(i == 3)
+                        .start(LocalTime.of(7, 0))
+                        .end(LocalTime.of(7, 59))
+                        .build();
+                dayList.add(new ScheduleDayResponseDto(monday.plusDays(i), List.of(time)));
+            }
+            when(scheduleService.getWeekSchedules(eq(selDate), any())).thenReturn(new ScheduleWeekResponseDto(dayList));
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("selDate", "2023-04-13")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-week-schedules",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.dayList").type(JsonFieldType.ARRAY).description("월요일부터 일요일까지 요일별 타임테이블"),
+                                    fieldWithPath("data.dayList[].date").type(JsonFieldType.STRING).description("날짜"),
+                                    fieldWithPath("data.dayList[].timeList").type(JsonFieldType.ARRAY).description("타임테이블"),
+                                    fieldWithPath("data.dayList[].timeList[].isCheckOut").type(JsonFieldType.BOOLEAN).description("일정 등록 여부"),
+                                    fieldWithPath("data.dayList[].timeList[].start").type(JsonFieldType.STRING).description("시작시각"),
+                                    fieldWithPath("data.dayList[].timeList[].end").type(JsonFieldType.STRING).description("종료시각")
+                            )
+                    ));
+        }
+    }
+
     @Nested
     @DisplayName("스케줄 POST 요청이 들어올 때")
     class AddSchedulesTestCase {
@@ -0,0 +1,62 @@
+package com.example.chillisauce.schedules.repository;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.schedules.entity.ScheduleOutbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Import(TestConfig.class)
+@DisplayName("ScheduleOutboxRepository 클래스")
+class ScheduleOutboxRepositoryTest {
+    @Autowired
+    private ScheduleOutboxRepository scheduleOutboxRepository;
+
+    @Nested
+    @DisplayName("claim 메서드는")
+    class ClaimTestCase {
+        @Test
+        @Transactional
+        public void 같은_작업은_한번만_임대된다() {
+            // given
+            ScheduleOutbox outbox = scheduleOutboxRepository.saveAndFlush(new ScheduleOutbox(1L));
+            LocalDateTime now = outbox.getNextAttemptAt().plusSeconds(1);
+            LocalDateTime leaseUntil = now.plusSeconds(60);
+
+            // when
+            int first = scheduleOutboxRepository.claim(outbox.getId(), now, leaseUntil);
+            int second = scheduleOutboxRepository.claim(outbox.getId(), now, leaseUntil);
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+        }
+
+        @Test
+        @Transactional
+        public void 임대가_끝나면_다시_임대할_수_있다() {
+            // given
+            ScheduleOutbox outbox = scheduleOutboxRepository.saveAndFlush(new ScheduleOutbox(1L));
+            LocalDateTime now = outbox.getNextAttemptAt().plusSeconds(1);
+            scheduleOutboxRepository.claim(outbox.getId(), now, now.plusSeconds(60));
+
+            // when
+            int result = scheduleOutboxRepository.claim(outbox.getId(), now.plusSeconds(61), now.plusSeconds(121));
+
+            // then
+            assertThat(result).isEqualTo(1);
+        }
+    }
+}
@@ -1,10 +1,186 @@
 package com.example.chillisauce.schedules.repository;
 
-import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.schedules.entity.Schedule;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
 
-import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
-@DataJpaTest
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Import(TestConfig.class)
+@DisplayName("ScheduleRepository 클래스")
 class ScheduleRepositoryTest {
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Nested
+    @DisplayName("batchInsert 메서드는")
+    class BatchInsertTestCase {
+        @Test
+        @Transactional
+        public void 배치_크기를_넘는_스케줄도_모두_저장한다() {
+            // given
+            Companies company = companyRepository.save(Companies.builder()
+                    .companyName("batchCompany")
+                    .certification("cert")
+                    .build());
+            LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+
+            List<User> users = new ArrayList<>();
+            List<Schedule> schedules = new ArrayList<>();
+            for (int i = 0; i < 150; i++) {
+                User user = userRepository.save(User.builder()
+                        .companies(company)
+                        .email("batch" + i + "@test.com")
+                        .username("tester" + i)
+                        .password("12345678")
+                        .role(UserRoleEnum.USER)
+                        .build());
+                users.add(user);
+                schedules.add(Schedule.builder()
+                        .user(user)
+                        .title("회의")
+                        .comment("testMeetingRoom")
+                        .startTime(start)
+                        .endTime(start.plusMinutes(59))
+                        .build());
+            }
+
+            // when
+            scheduleRepository.batchInsert(schedules);
+
+            // then
+            List<Schedule> first = scheduleRepository.findAllByUserId(users.get(0).getId());
+            List<Schedule> last = scheduleRepository.findAllByUserId(users.get(149).getId());
+            assertThat(first).hasSize(1);
+            assertThat(first.get(0).getStartTime()).isEqualTo(start);
+            assertThat(first.get(0).getEndTime()).isEqualTo(start.plusMinutes(59));
+            assertThat(last).hasSize(1);
+            assertThat(last.get(0).getComment()).isEqualTo("testMeetingRoom");
+        }
+
+        @Test
+        @Transactional
+        public void 빈_리스트는_무시한다() {
+            // when
+            long before = scheduleRepository.count();
+            scheduleRepository.batchInsert(List.of());
+
+            // then
+            assertThat(scheduleRepository.count()).isEqualTo(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 기준 일괄 변경 메서드는")
+    class BulkUpdateByReservationTestCase {
+        LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+        User attendee;
+        Mr mr;
+        Reservation reservation;
+
+        @BeforeEach
+        void setup() {
+            Companies company = companyRepository.save(Companies.builder()
+                    .companyName("bulkCompany")
+                    .certification("cert")
+                    .build());
+            attendee = userRepository.save(User.builder()
+                    .companies(company)
+                    .email("bulk@test.com")
+                    .username("attendee")
+                    .password("12345678")
+                    .role(UserRoleEnum.USER)
+                    .build());
+            mr = meetingRoomRepository.save(Mr.builder()
+                    .x("100").y("150").locationName("testMeetingRoom")
+                    .build());
+            reservation = reservationRepository.save(Reservation.builder()
+                    .user(attendee).meetingRoom(mr)
+                    .startTime(start).endTime(start.plusMinutes(59))
+                    .build());
+            // 영속성 컨텍스트를 거치지 않고 저장해 일괄 변경 결과를 그대로 조회
+            scheduleRepository.batchInsert(List.of(new Schedule(reservation, attendee),
+                    Schedule.builder().user(attendee).title("개인").comment("개인 일정")
+                            .startTime(start).endTime(start.plusMinutes(59)).build()));
+        }
+
+        @Test
+        @Transactional
+        public void 예약_시간을_회의_스케줄에만_반영한다() {
+            // when
+            int updated = scheduleRepository.updateTimeByReservationId(reservation.getId(),
+                    start.plusHours(2), start.plusHours(2).plusMinutes(59));
+
+            // then
+            assertThat(updated).isEqualTo(1);
+            assertThat(scheduleRepository.findAllByUserId(attendee.getId()))
+                    .extracting(Schedule::getTitle, Schedule::getStartTime)
+                    .containsExactlyInAnyOrder(
+                            tuple("회의", start.plusHours(2)),
+                            tuple("개인", start));
+        }
+
+        @Test
+        @Transactional
+        public void 회의실_삭제를_회의_스케줄_장소에_반영한다() {
+            // when
+            int updated = scheduleRepository.updateCommentByMeetingRoomId(mr.getId(), Schedule.DELETED_MEETING_ROOM);
+
+            // then
+            assertThat(updated).isEqualTo(1);
+            assertThat(scheduleRepository.findAllByUserId(attendee.getId()))
+                    .extracting(Schedule::getComment)
+                    .containsExactlyInAnyOrder(Schedule.DELETED_MEETING_ROOM, "개인 일정");
+        }
+
+        @Test
+        @Transactional
+        public void 예약의_회의_스케줄만_삭제한다() {
+            // when
+            int deleted = scheduleRepository.deleteAllByReservationId(reservation.getId());
 
-}
\ No newline at end of file
+            // then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(scheduleRepository.findAllByUserId(attendee.getId()))
+                    .extracting(Schedule::getTitle)
+                    .containsExactly("개인");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.schedules.entity.Schedule;
+import com.example.chillisauce.schedules.entity.ScheduleOutbox;
+import com.example.chillisauce.schedules.repository.ScheduleOutboxRepository;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleFanoutService 클래스")
+class ScheduleFanoutServiceTest {
+    @InjectMocks
+    private ScheduleFanoutService scheduleFanoutService;
+
+    @Mock
+    private ScheduleOutboxRepository scheduleOutboxRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationUserRepository reservationUserRepository;
+
+    Companies company = Company_생성();
+    User organizer = User_USER권한_생성_아이디지정(1L, company);
+    User attendee = User_USER권한_생성_아이디_이메일_지정(2L, company, "test2@test.com");
+    Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
+    LocalDateTime start = LocalDateTime.of(2023, 4, 8, 12, 0);
+    Reservation reservation = Reservation_생성_아이디_지정(10L, organizer, meetingRoom, start, start.plusMinutes(59));
+
+    @Nested
+    @DisplayName("enqueue 메서드는")
+    class EnqueueTestCase {
+        @Test
+        void 예약_id로_작업을_저장한다() {
+            // when
+            scheduleFanoutService.enqueue(reservation);
+
+            // then
+            ArgumentCaptor<ScheduleOutbox> captor = ArgumentCaptor.forClass(ScheduleOutbox.class);
+            verify(scheduleOutboxRepository).save(captor.capture());
+            assertThat(captor.getValue().getReservationId()).isEqualTo(reservation.getId());
+            assertThat(captor.getValue().getAttempts()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("fanOut 메서드는")
+    class FanOutTestCase {
+        ScheduleOutbox outbox = ScheduleOutbox.builder()
+                .id(100L)
+                .reservationId(reservation.getId())
+                .nextAttemptAt(start)
+                .build();
+
+        @Test
+        void 스케줄이_없는_참석자에게만_스케줄을_만들고_작업을_삭제한다() {
+            // given
+            when(scheduleOutboxRepository.findById(outbox.getId())).thenReturn(Optional.of(outbox));
+            when(reservationRepository.findById(reservation.getId())).thenReturn(Optional.of(reservation));
+            when(scheduleRepository.findUserIdsByReservationId(reservation.getId())).thenReturn(List.of(organizer.getId()));
+            when(reservationUserRepository.findAttendeesByReservationId(reservation.getId()))
+                    .thenReturn(List.of(organizer, attendee));
+
+            // when
+            scheduleFanoutService.fanOut(outbox.getId());
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Schedule>> captor = ArgumentCaptor.forClass(List.class);
+            verify(scheduleRepository).batchInsert(captor.capture());
+            assertThat(captor.getValue()).hasSize(1);
+            assertThat(captor.getValue().get(0).getUser()).isEqualTo(attendee);
+            assertThat(captor.getValue().get(0).getReservationId()).isEqualTo(reservation.getId());
+            assertThat(captor.getValue().get(0).getStartTime()).isEqualTo(start);
+            verify(scheduleOutboxRepository).delete(outbox);
+        }
+
+        @Test
+        void 예약이_삭제되었으면_스케줄없이_작업만_삭제한다() {
+            // given
+            when(scheduleOutboxRepository.findById(outbox.getId())).thenReturn(Optional.of(outbox));
+            when(reservationRepository.findById(reservation.getId())).thenReturn(Optional.empty());
+
+            // when
+            scheduleFanoutService.fanOut(outbox.getId());
+
+            // then
+            verify(scheduleRepository, never()).batchInsert(any());
+            verify(scheduleOutboxRepository).delete(outbox);
+        }
+
+        @Test
+        void 이미_처리된_작업이면_아무것도_하지_않는다() {
+            // given
+            when(scheduleOutboxRepository.findById(outbox.getId())).thenReturn(Optional.empty());
+
+            // when
+            scheduleFanoutService.fanOut(outbox.getId());
+
+            // then
+            verify(reservationRepository, never()).findById(any());
+            verify(scheduleOutboxRepository, never()).delete(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("claim 메서드는")
+    class ClaimTestCase {
+        @Test
+        void 재시도_시각을_임대_기한으로_미룬다() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2023, 4, 8, 12, 0);
+            when(scheduleOutboxRepository.claim(1L, now, now.plusSeconds(ScheduleFanoutService.LEASE_SECONDS)))
+                    .thenReturn(1);
+
+            // when
+            boolean result = scheduleFanoutService.claim(1L, now);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        void 다른_인스턴스가_먼저_임대했으면_실패한다() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2023, 4, 8, 12, 0);
+            when(scheduleOutboxRepository.claim(1L, now, now.plusSeconds(ScheduleFanoutService.LEASE_SECONDS)))
+                    .thenReturn(0);
+
+            // when
+            boolean result = scheduleFanoutService.claim(1L, now);
+
+            // then
+            assertThat(result).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("markFailed 메서드는")
+    class MarkFailedTestCase {
+        @Test
+        void 시도_횟수를_늘리고_재시도를_미룬다() {
+            // given
+            ScheduleOutbox outbox = new ScheduleOutbox(reservation.getId());
+            LocalDateTime before = outbox.getNextAttemptAt();
+            when(scheduleOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+            // when
+            scheduleFanoutService.markFailed(1L, "deadlock");
+
+            // then
+            assertThat(outbox.getAttempts()).isEqualTo(1);
+            assertThat(outbox.getLastError()).isEqualTo("deadlock");
+            assertThat(outbox.getNextAttemptAt()).isAfter(before);
+        }
+    }
+}
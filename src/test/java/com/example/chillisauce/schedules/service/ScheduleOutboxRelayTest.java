@@ -0,0 +1,85 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.schedules.repository.ScheduleOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleOutboxRelay 클래스")
+class ScheduleOutboxRelayTest {
+    @InjectMocks
+    private ScheduleOutboxRelay scheduleOutboxRelay;
+
+    @Mock
+    private ScheduleOutboxRepository scheduleOutboxRepository;
+
+    @Mock
+    private ScheduleFanoutService scheduleFanoutService;
+
+    @Nested
+    @DisplayName("relay 메서드는")
+    class RelayTestCase {
+        @Test
+        void 처리할_작업을_하나씩_처리한다() {
+            // given
+            when(scheduleOutboxRepository.findReadyIds(any(), eq(ScheduleOutboxRelay.MAX_ATTEMPTS), any()))
+                    .thenReturn(List.of(1L, 2L));
+            when(scheduleFanoutService.claim(any(), any())).thenReturn(true);
+
+            // when
+            scheduleOutboxRelay.relay();
+
+            // then
+            verify(scheduleFanoutService).fanOut(1L);
+            verify(scheduleFanoutService).fanOut(2L);
+            verify(scheduleFanoutService, never()).markFailed(any(), any());
+        }
+
+        @Test
+        void 실패한_작업은_실패로_기록하고_다음_작업을_계속한다() {
+            // given
+            when(scheduleOutboxRepository.findReadyIds(any(), eq(ScheduleOutboxRelay.MAX_ATTEMPTS), any()))
+                    .thenReturn(List.of(1L, 2L));
+            when(scheduleFanoutService.claim(any(), any())).thenReturn(true);
+            doThrow(new IllegalStateException("deadlock")).when(scheduleFanoutService).fanOut(1L);
+
+            // when
+            scheduleOutboxRelay.relay();
+
+            // then
+            verify(scheduleFanoutService).markFailed(eq(1L), anyString());
+            verify(scheduleFanoutService).fanOut(2L);
+        }
+
+        @Test
+        void 다른_인스턴스가_임대한_작업은_건너뛴다() {
+            // given
+            when(scheduleOutboxRepository.findReadyIds(any(), eq(ScheduleOutboxRelay.MAX_ATTEMPTS), any()))
+                    .thenReturn(List.of(1L, 2L));
+            when(scheduleFanoutService.claim(eq(1L), any())).thenReturn(false);
+            when(scheduleFanoutService.claim(eq(2L), any())).thenReturn(true);
+
+            // when
+            scheduleOutboxRelay.relay();
+
+            // then
+            verify(scheduleFanoutService, never()).fanOut(1L);
+            verify(scheduleFanoutService).fanOut(2L);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.chillisauce.schedules.service;
 
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.fixture.FixtureFactory;
 import com.example.chillisauce.reservations.exception.ReservationException;
 import com.example.chillisauce.reservations.vo.ReservationTimetable;
@@ -22,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,15 +74,32 @@ class ScheduleServiceTest {
         @Test
         void 회원의_전체_스케줄을_조회한다() {
             // given
-            when(scheduleRepository.findAllByUserId(eq(user.getId()))).thenReturn(schedules);
+            when(scheduleRepository.findAllByUserIdAndIdGreaterThanOrderByIdAsc(eq(user.getId()), eq(0L), any()))
+                    .thenReturn(schedules);
 
             // when
-            ScheduleListResponseDto result = scheduleService.getAllSchedules(userDetails);
+            ScheduleListResponseDto result = scheduleService.getAllSchedules(CursorRequest.first(), userDetails);
 
             // then
             assertThat(result.getScList().size()).isEqualTo(2);
             assertThat(result.getScList()).extracting("scId", Long.class)
                     .contains(1L, 2L);
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        void 커서_이후의_스케줄을_limit_만큼_조회한다() {
+            // given
+            when(scheduleRepository.findAllByUserIdAndIdGreaterThanOrderByIdAsc(eq(user.getId()), eq(1L), any()))
+                    .thenReturn(List.of(scheduleTwo));
+
+            // when
+            ScheduleListResponseDto result = scheduleService
+                    .getAllSchedules(CursorRequest.of(CursorRequest.encode(1L), 1), userDetails);
+
+            // then
+            assertThat(result.getScList()).extracting("scId", Long.class).containsExactly(2L);
+            assertThat(result.getNextCursor()).isNull();
         }
     }
 
@@ -116,7 +135,8 @@ class ScheduleServiceTest {
         @Test
         void 당일_스케줄을_조회한다() {
             // given
-            when(scheduleRepository.findAllByUserIdAndStartTimeBetween(eq(1L), any(), any())).thenReturn(schedules);
+            when(scheduleRepository.findAllOverlappingByUserId(eq(1L),
+                    eq(selDate.atStartOfDay()), eq(selDate.plusDays(1).atStartOfDay()))).thenReturn(schedules);
 
             // when
             ScheduleTimetableResponseDto result = scheduleService.getDaySchedules(selDate, userDetails);
@@ -127,6 +147,89 @@ class ScheduleServiceTest {
                     .hasSize(ReservationTimetable.CLOSE_HOUR - ReservationTimetable.OPEN_HOUR + 1)
                     .filteredOn(x -> x.getIsCheckOut().equals(true))
                     .hasSize(2);
+            assertThat(result.getTimeList()).extracting("start")
+                    .isSorted()
+                    .startsWith(LocalTime.of(ReservationTimetable.OPEN_HOUR, 0));
+        }
+
+        @Test
+        void 전날부터_이어지는_스케줄도_표시한다() {
+            // given
+            Schedule overnight = Schedule.builder()
+                    .id(3L)
+                    .startTime(LocalDateTime.of(2023, 4, 25, 20, 0))
+                    .endTime(LocalDateTime.of(2023, 4, 26, 9, 0))
+                    .user(user)
+                    .title("overnight")
+                    .build();
+            when(scheduleRepository.findAllOverlappingByUserId(eq(1L), any(), any())).thenReturn(List.of(overnight));
+
+            // when
+            ScheduleTimetableResponseDto result = scheduleService.getDaySchedules(selDate, userDetails);
+
+            // then
+            assertThat(result.getTimeList())
+                    .filteredOn(x -> x.getIsCheckOut().equals(true))
+                    .extracting("start")
+                    .containsExactly(LocalTime.of(7, 0), LocalTime.of(8, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("getWeekSchedules 메서드는")
+    class GetWeekSchedulesTestCase {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .username("testUser")
+                .role(UserRoleEnum.USER)
+                .build();
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getUsername());
+        // 2023-04-26 은 수요일
+        LocalDate selDate = LocalDate.of(2023, 4, 26);
+        LocalDate monday = LocalDate.of(2023, 4, 24);
+
+        @Test
+        void 한_번의_조회로_월요일부터_일요일까지_타임테이블을_만든다() {
+            // given
+            Schedule twoDays = Schedule.builder()
+                    .id(1L)
+                    .startTime(LocalDateTime.of(2023, 4, 24, 22, 0))
+                    .endTime(LocalDateTime.of(2023, 4, 25, 7, 59))
+                    .user(user)
+                    .title("twoDays")
+                    .build();
+            Schedule sunday = Schedule.builder()
+                    .id(2L)
+                    .startTime(LocalDateTime.of(2023, 4, 30, 10, 0))
+                    .endTime(LocalDateTime.of(2023, 4, 30, 11, 59))
+                    .user(user)
+                    .title("sunday")
+                    .build();
+            when(scheduleRepository.findAllOverlappingByUserId(eq(1L),
+                    eq(monday.atStartOfDay()), eq(monday.plusDays(7).atStartOfDay())))
+                    .thenReturn(List.of(twoDays, sunday));
+
+            // when
+            ScheduleWeekResponseDto result = scheduleService.getWeekSchedules(selDate, userDetails);
+
+            // then
+            assertThat(result.getDayList()).extracting("date")
+                    .containsExactly(monday, monday.plusDays(1), monday.plusDays(2), monday.plusDays(3),
+                            monday.plusDays(4), monday.plusDays(5), monday.plusDays(6));
+            assertThat(occupiedHours(result.getDayList().get(0))).containsExactly(LocalTime.of(22, 0));
+            assertThat(occupiedHours(result.getDayList().get(1))).containsExactly(LocalTime.of(7, 0));
+            assertThat(occupiedHours(result.getDayList().get(2))).isEmpty();
+            assertThat(occupiedHours(result.getDayList().get(6)))
+                    .containsExactly(LocalTime.of(10, 0), LocalTime.of(11, 0));
+        }
+
+        private List<LocalTime> occupiedHours(ScheduleDayResponseDto day) {
+            return day.getTimeList().stream()
+                    .filter(ScheduleTimeResponseDto::getIsCheckOut)
+                    .map(ScheduleTimeResponseDto::getStart)
+                    .toList();
         }
     }
 
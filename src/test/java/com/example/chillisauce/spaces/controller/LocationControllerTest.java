@@ -2,6 +2,7 @@ package com.example.chillisauce.spaces.controller;
 
 import com.example.chillisauce.spaces.dto.request.BoxRequestDto;
 import com.example.chillisauce.spaces.dto.response.LocationDto;
+import com.example.chillisauce.spaces.dto.response.OccupancyCountResponseDto;
 import com.example.chillisauce.spaces.service.LocationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
 import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
@@ -29,6 +31,7 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 @ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
 public class LocationControllerTest {
@@ -89,6 +92,61 @@ public class LocationControllerTest {
                         )
                 ));
     }
-}
 
+    @Test
+    @WithMockUser
+    void 공간_유저_이동_구독_성공() throws Exception {
+        //given
+        String companyName = "test";
+        Long spaceId = 1L;
+        String url = "/spaces/" + companyName + "/" + spaceId + "/events";
+        when(locationService.subscribe(eq(companyName), eq(spaceId), any())).thenReturn(new SseEmitter());
 
+        //when
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .header("Authorization", "Bearer Token")
+                .accept(MediaType.TEXT_EVENT_STREAM));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andDo(document("get-location-events",
+                        getDocumentRequest(),
+                        getDocumentResponse()
+                ));
+    }
+
+    @Test
+    @WithMockUser
+    void 착석_인원_수_조회_성공() throws Exception {
+        //given
+        String companyName = "test";
+        String url = "/spaces/" + companyName + "/occupancy";
+        OccupancyCountResponseDto counts = new OccupancyCountResponseDto();
+        counts.getFloors().put(1L, 9L);
+        counts.getSpaces().put(2L, 9L);
+        counts.getLocations().put(10L, 7L);
+        counts.getLocations().put(11L, 2L);
+        when(locationService.getOccupancyCounts(eq(companyName), any())).thenReturn(counts);
+
+        //when
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                .header("Authorization", "Bearer Token")
+                .accept(MediaType.APPLICATION_JSON));
+
+        //then
+        result.andExpect(status().isOk())
+                .andDo(document("get-occupancy-counts",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        responseFields(
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                subsectionWithPath("data.floors").type(JsonFieldType.OBJECT).description("층 id 별 인원 수"),
+                                subsectionWithPath("data.spaces").type(JsonFieldType.OBJECT).description("공간 id 별 인원 수"),
+                                subsectionWithPath("data.locations").type(JsonFieldType.OBJECT).description("로케이션 id 별 인원 수")
+                        )
+                ));
+    }
+}
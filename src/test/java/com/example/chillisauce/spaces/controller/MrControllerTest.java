@@ -1,7 +1,9 @@
 package com.example.chillisauce.spaces.controller;
 
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.reservations.dto.response.ReservationResponse;
 import com.example.chillisauce.spaces.dto.request.MrRequestDto;
+import com.example.chillisauce.spaces.dto.response.MrListResponseDto;
 import com.example.chillisauce.spaces.dto.response.MrResponseDto;
 import com.example.chillisauce.spaces.service.MrService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -179,7 +181,8 @@ public class MrControllerTest {
             List<ReservationResponse> reservationList = new ArrayList<>();
             mrResponseDtoList.add(new MrResponseDto(1L,"Mr 테스트 생성", "777" , "888", reservationList));
 
-            when(mrService.mrlist(eq(companyName), any())).thenReturn(mrResponseDtoList);
+            when(mrService.mrlist(eq(companyName), any(), any()))
+                    .thenReturn(new MrListResponseDto(mrResponseDtoList, CursorRequest.encode(1L)));
 
             //when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
@@ -195,12 +198,14 @@ public class MrControllerTest {
                             responseFields(
                                     fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
                                     fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
-                                    fieldWithPath("data[]").type(JsonFieldType.ARRAY).description("결과값"),
-                                    fieldWithPath("data[].mrId").type(JsonFieldType.NUMBER).description("mr id"),
-                                    fieldWithPath("data[].mrName").type(JsonFieldType.STRING).description("mr 이름"),
-                                    fieldWithPath("data[].x").type(JsonFieldType.STRING).description("Mr X값 좌표"),
-                                    fieldWithPath("data[].y").type(JsonFieldType.STRING).description("Mr Y값 좌표"),
-                                    fieldWithPath("data[].reservationList[]").type(JsonFieldType.ARRAY).description("예약 리스트")
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.mrList[]").type(JsonFieldType.ARRAY).description("회의실 리스트"),
+                                    fieldWithPath("data.mrList[].mrId").type(JsonFieldType.NUMBER).description("mr id"),
+                                    fieldWithPath("data.mrList[].mrName").type(JsonFieldType.STRING).description("mr 이름"),
+                                    fieldWithPath("data.mrList[].x").type(JsonFieldType.STRING).description("Mr X값 좌표"),
+                                    fieldWithPath("data.mrList[].y").type(JsonFieldType.STRING).description("Mr Y값 좌표"),
+                                    fieldWithPath("data.mrList[].reservationList[]").type(JsonFieldType.ARRAY).description("예약 리스트"),
+                                    fieldWithPath("data.nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서").optional()
                             )
                     ));
         }
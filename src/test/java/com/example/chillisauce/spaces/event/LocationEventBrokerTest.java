@@ -0,0 +1,120 @@
+package com.example.chillisauce.spaces.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationEventBroker 클래스")
+class LocationEventBrokerTest {
+    @Mock
+    StringRedisTemplate redisTemplate;
+
+    LocationEventBroker locationEventBroker;
+
+    LocationChangedEvent event = new LocationChangedEvent("testCompany", 1L, "user", 1L, 10L, 2L, 20L);
+
+    @BeforeEach
+    void setup() {
+        locationEventBroker = new LocationEventBroker(redisTemplate, 60_000L);
+    }
+
+    @Nested
+    @DisplayName("subscribe 메서드는")
+    class SubscribeTestCase {
+        @Test
+        void 회사_공간별로_구독자를_등록한다() {
+            // when
+            locationEventBroker.subscribe("testCompany", 1L);
+            locationEventBroker.subscribe("testCompany", 1L);
+            locationEventBroker.subscribe("testCompany", 2L);
+
+            // then
+            assertThat(locationEventBroker.subscriberCount("testCompany", 1L)).isEqualTo(2);
+            assertThat(locationEventBroker.subscriberCount("testCompany", 2L)).isEqualTo(1);
+            assertThat(locationEventBroker.subscriberCount("otherCompany", 1L)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("publish 메서드는")
+    class PublishTestCase {
+        @Test
+        void 이벤트를_토픽으로_발행한다() {
+            // when
+            locationEventBroker.publish(event);
+
+            // then
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(LocationEventBroker.TOPIC), payload.capture());
+            assertThat(payload.getValue()).contains("\"toLocationId\":20", "\"companyName\":\"testCompany\"");
+        }
+
+        @Test
+        void 발행에_실패하면_로컬_구독자에게_전달한다() {
+            // given
+            SseEmitter emitter = locationEventBroker.subscribe("testCompany", 2L);
+            emitter.complete();
+            doThrow(new IllegalStateException()).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+            // when
+            locationEventBroker.publish(event);
+
+            // then 끊어진 구독자는 전송 실패로 정리됨
+            assertThat(locationEventBroker.subscriberCount("testCompany", 2L)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드는")
+    class OnMessageTestCase {
+        @Test
+        void 떠난_공간과_들어간_공간의_구독자에게_전송한다() {
+            // given
+            SseEmitter from = locationEventBroker.subscribe("testCompany", 1L);
+            SseEmitter to = locationEventBroker.subscribe("testCompany", 2L);
+            locationEventBroker.subscribe("testCompany", 3L);
+            from.complete();
+            to.complete();
+            byte[] body = ("{\"companyName\":\"testCompany\",\"userId\":1,\"username\":\"user\","
+                    + "\"fromSpaceId\":1,\"fromLocationId\":10,\"toSpaceId\":2,\"toLocationId\":20}")
+                    .getBytes(StandardCharsets.UTF_8);
+
+            // when
+            locationEventBroker.onMessage(new DefaultMessage(LocationEventBroker.TOPIC.getBytes(), body), null);
+
+            // then 전송을 시도한 구독자만 완료된 연결로 정리되고 다른 공간 구독자는 유지
+            assertThat(locationEventBroker.subscriberCount("testCompany", 1L)).isZero();
+            assertThat(locationEventBroker.subscriberCount("testCompany", 2L)).isZero();
+            assertThat(locationEventBroker.subscriberCount("testCompany", 3L)).isEqualTo(1);
+        }
+
+        @Test
+        void 해석할_수_없는_메시지는_무시한다() {
+            // given
+            locationEventBroker.subscribe("testCompany", 1L);
+
+            // when
+            locationEventBroker.onMessage(new DefaultMessage(new byte[0], "invalid".getBytes(StandardCharsets.UTF_8)), null);
+
+            // then
+            assertThat(locationEventBroker.subscriberCount("testCompany", 1L)).isEqualTo(1);
+        }
+    }
+}
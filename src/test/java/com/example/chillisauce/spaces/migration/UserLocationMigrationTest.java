@@ -0,0 +1,112 @@
+package com.example.chillisauce.spaces.migration;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.spaces.entity.Box;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.entity.MultiBox;
+import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.repository.BoxRepository;
+import com.example.chillisauce.spaces.repository.MultiBoxRepository;
+import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManager;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({TestConfig.class, UserLocationMigration.class})
+@DisplayName("UserLocationMigration 클래스")
+class UserLocationMigrationTest {
+    @Autowired
+    private UserLocationMigration migration;
+    @Autowired
+    private UserLocationRepository userLocationRepository;
+    @Autowired
+    private BoxRepository boxRepository;
+    @Autowired
+    private MultiBoxRepository multiBoxRepository;
+    @Autowired
+    private EntityManager em;
+
+    private final Companies company = Company_생성();
+    private final User userOne = User_USER권한_생성_아이디지정(1L, company);
+    private final User userTwo = User_USER권한_생성_아이디지정(2L, company);
+
+    // 유니크 제약 도입 전처럼 box_id 없이 저장된 착석 행
+    private UserLocation legacy(Location location, User user) {
+        return userLocationRepository.saveAndFlush(UserLocation.builder()
+                .userId(user.getId()).username(user.getUsername()).location(location).build());
+    }
+
+    @Nested
+    @DisplayName("backfill 메서드는")
+    class BackfillTestCase {
+        @Test
+        void 이전_박스_착석_행의_box_id를_채워_유니크_제약이_적용된다() {
+            //given
+            Box box = boxRepository.save(Box_생성());
+            MultiBox multiBox = multiBoxRepository.save(MultiBox_생성());
+            legacy(box, userOne);
+            legacy(multiBox, userTwo);
+
+            //when
+            int rows = migration.backfill();
+            em.clear();
+
+            //then
+            assertThat(rows).isEqualTo(1);
+            assertThat(userLocationRepository.existsByBoxId(box.getId())).isTrue();
+            assertThat(userLocationRepository.findByUserId(userTwo.getId()).get().getBoxId()).isNull();
+            assertThrows(DataIntegrityViolationException.class, () -> userLocationRepository
+                    .saveAndFlush(new UserLocation(box, User_USER권한_생성_아이디지정(3L, company))));
+        }
+
+        @Test
+        void 이미_채워진_행은_바꾸지_않는다() {
+            //given
+            Box box = boxRepository.save(Box_생성());
+            userLocationRepository.saveAndFlush(new UserLocation(box, userOne));
+
+            //when
+            int rows = migration.backfill();
+
+            //then
+            assertThat(rows).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("dedupe 메서드는")
+    class DedupeTestCase {
+        @Test
+        void 같은_박스의_이전_착석_행은_가장_최근_행만_남긴다() {
+            //given
+            Box box = boxRepository.save(Box_생성());
+            legacy(box, userOne);
+            UserLocation latest = legacy(box, userTwo);
+
+            //when
+            int rows = migration.dedupe();
+            em.clear();
+
+            //then
+            assertThat(rows).isEqualTo(1);
+            assertThat(userLocationRepository.findAll()).extracting(UserLocation::getId)
+                    .containsExactly(latest.getId());
+        }
+    }
+}
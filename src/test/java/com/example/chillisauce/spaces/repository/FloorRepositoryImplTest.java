@@ -3,11 +3,14 @@ package com.example.chillisauce.spaces.repository;
 import com.example.chillisauce.config.TestConfig;
 import com.example.chillisauce.reservations.entity.Reservation;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.schedules.entity.Schedule;
 import com.example.chillisauce.spaces.dto.response.FloorResponseDto;
 import com.example.chillisauce.spaces.entity.Floor;
+import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.spaces.entity.Space;
 import com.example.chillisauce.spaces.service.SpaceService;
 import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import com.example.chillisauce.users.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +24,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
 import static com.example.chillisauce.fixture.FixtureFactory.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,6 +45,8 @@ public class FloorRepositoryImplTest {
     FloorRepositoryImpl floorRepositoryImpl;
     @Autowired
     ReservationRepository reservationRepository;
+    @Autowired
+    EntityManager em;
 
 
     @Nested
@@ -106,9 +113,33 @@ public class FloorRepositoryImplTest {
                 assertNull(res.getMeetingRoom());
             }
         }
-    }
-
-
-
-
 
+    @DisplayName("clearAllReservationsForFloor")
+    @Test
+    void floor_삭제시_회의_스케줄의_장소를_삭제된_회의실로_변경한다() {
+        // given
+        Companies companies = companyRepository.save(Company_생성_이름_지정("floorCompany"));
+        Floor floor = floorRepository.save(Floor.builder().companies(companies).floorName("testFloor").build());
+        Space space = spaceRepository.save(Space.builder().companies(companies).floor(floor).spaceName("testSpace").build());
+        Mr mr = new Mr("testMeetingRoom", "100", "150", space);
+        em.persist(mr);
+        User user = User_USER권한_생성(companies);
+        em.persist(user);
+        LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+        Reservation reservation = Reservation_생성(user, mr, start, start.plusMinutes(59));
+        em.persist(reservation);
+        em.persist(new Schedule(reservation, user));
+        em.persist(Schedule.builder().user(user).title("개인").comment("개인 일정")
+                .startTime(start).endTime(start.plusMinutes(59)).build());
+        em.flush();
+
+        // when
+        floorRepositoryImpl.clearAllReservationsForFloor(floor.getId());
+        em.clear();
+
+        // then
+        List<String> comments = em.createQuery("select s.comment from Schedule s", String.class).getResultList();
+        assertThat(comments).containsExactlyInAnyOrder(Schedule.DELETED_MEETING_ROOM, "개인 일정");
+        assertNull(reservationRepository.findById(reservation.getId()).get().getMeetingRoom());
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -54,6 +55,8 @@ public class SpaceRepositoryImplTest {
     MultiBoxRepository multiBoxRepository;
     @Autowired
     FloorRepository floorRepository;
+    @Autowired
+    UserLocationRepository userLocationRepository;
 
 
     @Nested
@@ -97,6 +100,60 @@ public class SpaceRepositoryImplTest {
         }
 
 
+        @DisplayName("getSpaceLayout")
+        @Test
+        void Space_배치도_조회() {
+            //given
+            companyRepository.save(companies);
+            userRepository.save(user);
+            spaceRepository.save(space);
+            Box box = Box_생성();
+            space.addLocation(box);
+            boxRepository.save(box);
+            Mr location = new Mr("testlocation", "150", "200", space);
+            locationRepository.save(location);
+            userLocationRepository.save(new UserLocation(box, user));
+
+            //when
+            List<SpaceResponseDto> spaceList = spaceRepositoryImpl.getSpaceLayout(space.getId());
+
+            //then
+            assertEquals(1, spaceList.size());
+            assertThat(spaceList.get(0).getBoxList()).extracting("boxName").containsExactly(box.getLocationName());
+            assertThat(spaceList.get(0).getBoxList().get(0).getUsername()).isNull();
+            assertThat(spaceList.get(0).getMrList()).extracting("mrName").containsExactly("testlocation");
+        }
+
+        @DisplayName("getSpaceOccupancy")
+        @Test
+        void Space_점유_정보_조회() {
+            //given
+            companyRepository.save(companies);
+            userRepository.save(user);
+            spaceRepository.save(space);
+            Box box = Box_생성();
+            space.addLocation(box);
+            boxRepository.save(box);
+            Mr location = new Mr("testlocation", "150", "200", space);
+            locationRepository.save(location);
+            userLocationRepository.save(new UserLocation(box, user));
+            LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+            reservationRepository.save(Reservation.builder()
+                    .user(user)
+                    .meetingRoom(location)
+                    .startTime(start)
+                    .endTime(start.plusMinutes(59))
+                    .build());
+
+            //when
+            SpaceOccupancyDto occupancy = spaceRepositoryImpl.getSpaceOccupancy(space.getId());
+
+            //then
+            assertThat(occupancy.getUserLocations(box.getId())).extracting("username").containsExactly(user.getUsername());
+            assertThat(occupancy.getReservations(location.getId())).hasSize(1);
+            assertThat(occupancy.getReservations(location.getId()).get(0).getStart()).isEqualTo(start);
+        }
+
         @DisplayName("getSpaceAllList")
         @Test
         void Space_전체_조회() {
@@ -0,0 +1,169 @@
+package com.example.chillisauce.spaces.repository;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.spaces.dto.OccupancyCountWrapper;
+import com.example.chillisauce.spaces.entity.Box;
+import com.example.chillisauce.spaces.entity.Floor;
+import com.example.chillisauce.spaces.entity.MultiBox;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import(TestConfig.class)
+class UserLocationRepositoryTest {
+    @Autowired
+    private UserLocationRepository userLocationRepository;
+    @Autowired
+    private BoxRepository boxRepository;
+    @Autowired
+    private MultiBoxRepository multiBoxRepository;
+    @Autowired
+    private CompanyRepository companyRepository;
+    @Autowired
+    private FloorRepository floorRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    private final Companies company = Company_생성();
+    private final User userOne = User_USER권한_생성_아이디지정(1L, company);
+    private final User userTwo = User_USER권한_생성_아이디지정(2L, company);
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCases {
+        @Test
+        void 멀티박스에는_여러_명이_앉을_수_있다() {
+            //given
+            MultiBox multiBox = multiBoxRepository.save(MultiBox_생성());
+
+            //when
+            userLocationRepository.saveAndFlush(new UserLocation(multiBox, userOne));
+            userLocationRepository.saveAndFlush(new UserLocation(multiBox, userTwo));
+
+            //then
+            assertThat(userLocationRepository.findAll()).hasSize(2);
+        }
+
+        @Test
+        void 박스에_앉으면_박스_id로_점유를_확인한다() {
+            //given
+            Box box = boxRepository.save(Box_생성());
+
+            //when
+            UserLocation result = userLocationRepository.saveAndFlush(new UserLocation(box, userOne));
+
+            //then
+            assertThat(result.getBoxId()).isEqualTo(box.getId());
+            assertThat(userLocationRepository.existsByBoxId(box.getId())).isTrue();
+        }
+
+        @Test
+        void 박스를_떠나면_점유가_풀린다() {
+            //given
+            Box box = boxRepository.save(Box_생성());
+            MultiBox multiBox = multiBoxRepository.save(MultiBox_생성());
+            UserLocation userLocation = userLocationRepository.saveAndFlush(new UserLocation(box, userOne));
+
+            //when
+            userLocationRepository.saveAndFlush(userLocation.update(multiBox, userOne));
+
+            //then
+            assertThat(userLocationRepository.existsByBoxId(box.getId())).isFalse();
+            assertThat(userLocationRepository.saveAndFlush(new UserLocation(box, userTwo)).getBoxId())
+                    .isEqualTo(box.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("existsByLocationId 메서드는")
+    class ExistsByLocationIdTestCase {
+        @Test
+        void box_id가_비어있는_이전_착석_행도_찾는다() {
+            //given
+            Box box = boxRepository.save(Box_생성());
+            userLocationRepository.saveAndFlush(UserLocation.builder()
+                    .userId(userOne.getId()).username(userOne.getUsername()).location(box).build());
+
+            //when, then
+            assertThat(userLocationRepository.existsByBoxId(box.getId())).isFalse();
+            assertThat(userLocationRepository.existsByLocationId(box.getId())).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("countAllByCompanyName 메서드는")
+    class CountAllByCompanyNameTestCase {
+        @Test
+        void 로케이션별_인원_수를_공간_층과_함께_조회한다() {
+            //given
+            Companies saved = companyRepository.save(Company_생성());
+            Floor floor = floorRepository.save(Floor.builder().floorName("1층").companies(saved).build());
+            Space space = spaceRepository.save(Space.builder().spaceName("공간").companies(saved).floor(floor).build());
+            MultiBox multiBox = MultiBox_생성();
+            multiBox.setSpace(space);
+            multiBoxRepository.save(multiBox);
+            Box box = Box_생성();
+            box.setSpace(space);
+            boxRepository.save(box);
+            userLocationRepository.save(new UserLocation(multiBox, userOne));
+            userLocationRepository.save(new UserLocation(box, userTwo));
+            userLocationRepository.saveAndFlush(new UserLocation(multiBox, User_USER권한_생성_아이디지정(3L, company)));
+
+            //when
+            List<OccupancyCountWrapper> result = userLocationRepository.countAllByCompanyName(saved.getCompanyName());
+
+            //then
+            assertThat(result).hasSize(2);
+            assertThat(result).extracting("locationId", "spaceId", "floorId", "count")
+                    .containsExactlyInAnyOrder(
+                            tuple(multiBox.getId(), space.getId(), floor.getId(), 2L),
+                            tuple(box.getId(), space.getId(), floor.getId(), 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCases {
+        @Test
+        void 같은_박스에_두_명이_앉을_수_없다() {
+            //given
+            Box box = boxRepository.save(Box_생성());
+            userLocationRepository.saveAndFlush(new UserLocation(box, userOne));
+
+            //when, then
+            assertThrows(DataIntegrityViolationException.class,
+                    () -> userLocationRepository.saveAndFlush(new UserLocation(box, userTwo)));
+        }
+
+        @Test
+        void 한_유저가_두_자리를_가질_수_없다() {
+            //given
+            MultiBox multiBox = multiBoxRepository.save(MultiBox_생성());
+            userLocationRepository.saveAndFlush(new UserLocation(multiBox, userOne));
+
+            //when, then
+            assertThrows(DataIntegrityViolationException.class,
+                    () -> userLocationRepository.saveAndFlush(new UserLocation(multiBox, userOne)));
+        }
+    }
+}
@@ -25,6 +25,7 @@ import static com.example.chillisauce.fixture.FixtureFactory.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -39,6 +40,8 @@ class BoxServiceTest {
     private SpaceService spaceService;
     @InjectMocks
     private BoxService boxService;
+    @Mock
+    private SpaceCacheEvictor spaceCacheEvictor;
 
     @Nested
     @DisplayName("성공케이스")
@@ -62,6 +65,7 @@ class BoxServiceTest {
             assertEquals("이민재자리", boxResponseDto.getBoxName());
             assertEquals("777", boxResponseDto.getX());
             assertEquals("777", boxResponseDto.getY());
+            verify(spaceCacheEvictor).evictSpace(companies.getCompanyName(), space.getId());
         }
 
         @Test
@@ -92,6 +96,7 @@ class BoxServiceTest {
             //when
             BoxResponseDto boxResponseDto = boxService.deleteBox(companies.getCompanyName(), box.getId(), details);
             //then
+            verify(spaceCacheEvictor).evictLocation(companies.getCompanyName(), box);
             assertNotNull(boxResponseDto);
             assertEquals("testBox", boxResponseDto.getBoxName());
             assertEquals("777", boxResponseDto.getX());
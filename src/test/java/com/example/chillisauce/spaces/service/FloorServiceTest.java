@@ -48,6 +48,8 @@ public class FloorServiceTest {
     @InjectMocks
     private FloorService floorService;
     @Mock
+    private SpaceCacheEvictor spaceCacheEvictor;
+    @Mock
     private SpaceRepository spaceRepository;
 
     @Nested
@@ -2,10 +2,15 @@ package com.example.chillisauce.spaces.service;
 
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.response.LocationDto;
+import com.example.chillisauce.spaces.dto.response.OccupancyCountResponseDto;
 import com.example.chillisauce.spaces.entity.Box;
 import com.example.chillisauce.spaces.entity.Location;
 import com.example.chillisauce.spaces.entity.MultiBox;
 import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.event.LocationChangedEvent;
+import com.example.chillisauce.spaces.event.LocationEventBroker;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
 import com.example.chillisauce.spaces.repository.LocationRepository;
 import com.example.chillisauce.spaces.repository.UserLocationRepository;
 import com.example.chillisauce.users.entity.Companies;
@@ -18,16 +23,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import static com.example.chillisauce.fixture.FixtureFactory.*;
 import java.util.Optional;
 
 import static com.example.chillisauce.spaces.entity.QBox.box;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -35,6 +48,8 @@ import static org.mockito.Mockito.when;
 public class LocationServiceTest {
     @InjectMocks
     private LocationService locationService;
+    @Mock
+    private SpaceCacheEvictor spaceCacheEvictor;
 
     @Mock
     private LocationRepository locationRepository;
@@ -45,6 +60,12 @@ public class LocationServiceTest {
     private UserLocationRepository userLocationRepository;
     @Mock
     private CompanyRepository companyRepository;
+    @Mock
+    private LocationEventBroker locationEventBroker;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private OccupancyCounter occupancyCounter;
 
 
     @Nested
@@ -72,6 +93,118 @@ public class LocationServiceTest {
             assertEquals(locationDto.getLocationName(), differentLocation.getLocationName());
             assertEquals(locationDto.getX(), differentLocation.getX());
             assertEquals(locationDto.getY(), differentLocation.getY());
+
+            ArgumentCaptor<LocationChangedEvent> event = ArgumentCaptor.forClass(LocationChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertEquals(prev.getId(), event.getValue().getFromLocationId());
+            assertEquals(next.getId(), event.getValue().getToLocationId());
+            assertEquals(details.getUser().getId(), event.getValue().getUserId());
+            verify(occupancyCounter).move(company.getCompanyName(), prev, next);
+        }
+
+        @Test
+        void 같은_회사이면_착석_인원_수를_조회한다() {
+            // given
+            Companies company = Company_생성();
+            UserDetailsImpl details = details_권한_USER(company);
+            OccupancyCountResponseDto counts = new OccupancyCountResponseDto();
+            counts.getSpaces().put(1L, 7L);
+            when(occupancyCounter.counts(company.getCompanyName())).thenReturn(counts);
+
+            // when
+            OccupancyCountResponseDto result = locationService.getOccupancyCounts(company.getCompanyName(), details);
+
+            // then
+            assertEquals(7L, result.getSpaces().get(1L));
+        }
+
+        @Test
+        void 같은_회사이면_공간_이동을_구독한다() {
+            // given
+            Companies company = Company_생성();
+            UserDetailsImpl details = details_권한_USER(company);
+            SseEmitter emitter = new SseEmitter();
+            when(locationEventBroker.subscribe(company.getCompanyName(), 1L)).thenReturn(emitter);
+
+            // when
+            SseEmitter result = locationService.subscribe(company.getCompanyName(), 1L, details);
+
+            // then
+            assertSame(emitter, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("실패케이스")
+    class FailCase {
+        @Test
+        void 박스에_이미_사용자가_있으면_예외() {
+            // given
+            Companies company = Company_생성();
+            UserDetailsImpl details = details_권한_USER(company);
+            Location box = Box_생성_아이디_지정(2L);
+            when(locationRepository.findByIdAndCompanyName(eq(2L), any())).thenReturn(Optional.of(box));
+            when(userLocationRepository.existsByLocationId(2L)).thenReturn(true);
+
+            // when
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> locationService.moveWithUser(company.getCompanyName(), 2L, details));
+
+            // then
+            assertEquals(SpaceErrorCode.BOX_ALREADY_IN_USER, exception.getErrorCode());
+            verify(userLocationRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        void 같은_박스를_동시에_점유하면_유니크_제약으로_거절() {
+            // given
+            Companies company = Company_생성();
+            UserDetailsImpl details = details_권한_USER(company);
+            Location box = Box_생성_아이디_지정(2L);
+            when(locationRepository.findByIdAndCompanyName(eq(2L), any())).thenReturn(Optional.of(box));
+            when(userLocationRepository.findByUserId(details.getUser().getId())).thenReturn(Optional.empty());
+            when(userLocationRepository.saveAndFlush(any(UserLocation.class)))
+                    .thenThrow(new DataIntegrityViolationException("uk_user_location_box"));
+
+            // when
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> locationService.moveWithUser(company.getCompanyName(), 2L, details));
+
+            // then
+            assertEquals(SpaceErrorCode.BOX_ALREADY_IN_USER, exception.getErrorCode());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void 같은_유저의_첫_착석이_겹치면_충돌() {
+            // given
+            Companies company = Company_생성();
+            UserDetailsImpl details = details_권한_USER(company);
+            Location multiBox = MultiBox_생성_아이디_지정(1L);
+            when(locationRepository.findByIdAndCompanyName(eq(1L), any())).thenReturn(Optional.of(multiBox));
+            when(userLocationRepository.findByUserId(details.getUser().getId())).thenReturn(Optional.empty());
+            when(userLocationRepository.saveAndFlush(any(UserLocation.class)))
+                    .thenThrow(new DataIntegrityViolationException("uk_user_location_user"));
+
+            // when
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> locationService.moveWithUser(company.getCompanyName(), 1L, details));
+
+            // then
+            assertEquals(SpaceErrorCode.USER_LOCATION_CONFLICT, exception.getErrorCode());
+        }
+
+        @Test
+        void 다른_회사의_공간은_구독할_수_없다() {
+            // given
+            UserDetailsImpl details = details_권한_USER(Company_생성());
+
+            // when
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> locationService.subscribe(Different_Company_생성().getCompanyName(), 1L, details));
+
+            // then
+            assertEquals(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES, exception.getErrorCode());
         }
     }
 }
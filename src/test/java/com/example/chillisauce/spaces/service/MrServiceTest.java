@@ -1,9 +1,11 @@
 package com.example.chillisauce.spaces.service;
 
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.reservations.entity.Reservation;
 import com.example.chillisauce.reservations.service.ReservationService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.MrRequestDto;
+import com.example.chillisauce.spaces.dto.response.MrListResponseDto;
 import com.example.chillisauce.spaces.dto.response.MrResponseDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
 import com.example.chillisauce.spaces.entity.Mr;
@@ -33,9 +35,14 @@ import static com.example.chillisauce.fixture.FixtureFactory.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +55,8 @@ public class MrServiceTest {
     @InjectMocks
     private MrService mrService;
     @Mock
+    private SpaceCacheEvictor spaceCacheEvictor;
+    @Mock
     private SpaceService spaceService;
     @Mock
     private ReservationService reservationService;
@@ -87,17 +96,45 @@ public class MrServiceTest {
             List<Mr> mrList = Collections.singletonList(mr);
             List<MrResponseDto> responseDto = mrList.stream().map(MrResponseDto::new).toList();
             when(companyRepository.findByCompanyName(companies.getCompanyName())).thenReturn(Optional.of(companies));
-            when(mrRepository.findAllByCompaniesId(companies.getId())).thenReturn(mrList);
+            when(mrRepository.findIdsByCompaniesIdAfter(eq(companies.getId()), eq(0L), any())).thenReturn(List.of(1L));
+            when(mrRepository.findAllWithReservationsByIdIn(List.of(1L))).thenReturn(mrList);
             //when
-            List<MrResponseDto> result = mrService.mrlist(companies.getCompanyName(), details);
+            MrListResponseDto result = mrService.mrlist(companies.getCompanyName(), CursorRequest.first(), details);
             //then
             assertNotNull(result);
-            assertEquals(responseDto.size(), result.size());
-            assertThat(result).allSatisfy(responseSpace -> {
+            assertEquals(responseDto.size(), result.getMrList().size());
+            assertNull(result.getNextCursor());
+            assertThat(result.getMrList()).allSatisfy(responseSpace -> {
                 assertThat(responseSpace.getMrName()).isEqualTo("testMr");
             });
         }
 
+        @Test
+        void 미팅룸_커서_조회_다음_페이지_있음() {
+            //given
+            Mr mr = Mr_생성_예약_추가(reservation);
+            when(companyRepository.findByCompanyName(companies.getCompanyName())).thenReturn(Optional.of(companies));
+            when(mrRepository.findIdsByCompaniesIdAfter(eq(companies.getId()), eq(0L), any())).thenReturn(List.of(1L, 2L));
+            when(mrRepository.findAllWithReservationsByIdIn(List.of(1L))).thenReturn(List.of(mr));
+            //when
+            MrListResponseDto result = mrService.mrlist(companies.getCompanyName(), CursorRequest.of(null, 1), details);
+            //then
+            assertEquals(1, result.getMrList().size());
+            assertEquals(CursorRequest.encode(1L), result.getNextCursor());
+        }
+
+        @Test
+        void 미팅룸_커서_조회_결과_없음() {
+            //given
+            when(companyRepository.findByCompanyName(companies.getCompanyName())).thenReturn(Optional.of(companies));
+            when(mrRepository.findIdsByCompaniesIdAfter(eq(companies.getId()), eq(0L), any())).thenReturn(List.of());
+            //when
+            MrListResponseDto result = mrService.mrlist(companies.getCompanyName(), CursorRequest.first(), details);
+            //then
+            assertTrue(result.getMrList().isEmpty());
+            verify(mrRepository, never()).findAllWithReservationsByIdIn(any());
+        }
+
         @Test
         void Mr_수정() {
             //given
@@ -225,7 +262,7 @@ public class MrServiceTest {
         void 전체_회의실_조회_해당_회사_권한_없음() {
             // when & then
             CompanyNotPermissionExceptionCase.COMPANIES_NOT_PERMISSION_EXCEPTION(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES, () -> {
-                mrService.mrlist(differentCompanyName.getCompanyName(), details);
+                mrService.mrlist(differentCompanyName.getCompanyName(), CursorRequest.first(), details);
             });
         }
     }
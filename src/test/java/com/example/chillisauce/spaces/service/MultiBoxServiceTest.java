@@ -37,6 +37,8 @@ public class MultiBoxServiceTest {
     @InjectMocks
     private MultiBoxService multiBoxService;
     @Mock
+    private SpaceCacheEvictor spaceCacheEvictor;
+    @Mock
     private SpaceService spaceService;
 
 
@@ -0,0 +1,230 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.dto.OccupancyCountWrapper;
+import com.example.chillisauce.spaces.dto.response.OccupancyCountResponseDto;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OccupancyCounter 클래스")
+class OccupancyCounterTest {
+    @Mock
+    StringRedisTemplate redisTemplate;
+    @Mock
+    HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+    @Mock
+    UserLocationRepository userLocationRepository;
+
+    OccupancyCounter occupancyCounter;
+
+    String companyName = "testCompany";
+    String key = OccupancyCounter.KEY_PREFIX + companyName;
+    String generationKey = OccupancyCounter.GENERATION_KEY_PREFIX + companyName;
+    Location multiBox = MultiBox_생성_아이디_지정(10L);
+    Location box = Box_생성_아이디_지정(20L);
+
+    @BeforeEach
+    void setup() {
+        occupancyCounter = new OccupancyCounter(redisTemplate, userLocationRepository);
+        Space spaceOne = Space_생성_아이디_지정(1L);
+        spaceOne.setFloor(Floor_생성_아이디_지정(1L));
+        multiBox.setSpace(spaceOne);
+        box.setSpace(Space_생성_아이디_지정(2L));
+    }
+
+    @Nested
+    @DisplayName("flush 메서드는")
+    class FlushTestCase {
+        @Test
+        void 쌓인_증감을_해시에_한번씩_반영한다() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(generationKey)).thenReturn("1");
+            when(redisTemplate.execute(eq(OccupancyCounter.INCREMENT_SCRIPT), eq(List.of(key)), any())).thenReturn(1L);
+            occupancyCounter.move(companyName, multiBox, box);
+
+            // when
+            occupancyCounter.flush();
+            occupancyCounter.flush();
+
+            // then
+            verify(redisTemplate).execute(OccupancyCounter.INCREMENT_SCRIPT, List.of(key), "1", "location:10", "-1");
+            verify(redisTemplate).execute(OccupancyCounter.INCREMENT_SCRIPT, List.of(key), "1", "space:1", "-1");
+            verify(redisTemplate).execute(OccupancyCounter.INCREMENT_SCRIPT, List.of(key), "1", "floor:1", "-1");
+            verify(redisTemplate).execute(OccupancyCounter.INCREMENT_SCRIPT, List.of(key), "1", "location:20", "1");
+            verify(redisTemplate).execute(OccupancyCounter.INCREMENT_SCRIPT, List.of(key), "1", "space:2", "1");
+        }
+
+        @Test
+        void 재집계로_세대가_지난_증감은_버린다() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(generationKey)).thenReturn("1");
+            when(redisTemplate.execute(eq(OccupancyCounter.INCREMENT_SCRIPT), eq(List.of(key)), any())).thenReturn(2L);
+            occupancyCounter.move(companyName, multiBox, box);
+
+            // when
+            occupancyCounter.flush();
+            occupancyCounter.flush();
+
+            // then
+            verify(redisTemplate, times(1)).execute(eq(OccupancyCounter.INCREMENT_SCRIPT), eq(List.of(key)), any());
+        }
+
+        @Test
+        void 해시가_없거나_재집계_중이면_다음_주기에_다시_보낸다() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(generationKey)).thenReturn("1");
+            when(redisTemplate.execute(eq(OccupancyCounter.INCREMENT_SCRIPT), eq(List.of(key)), any()))
+                    .thenReturn(-1L, -1L, 1L, 1L);
+            occupancyCounter.move(companyName, null, box);
+
+            // when
+            occupancyCounter.flush();
+            occupancyCounter.flush();
+            occupancyCounter.flush();
+
+            // then
+            verify(redisTemplate, times(2))
+                    .execute(OccupancyCounter.INCREMENT_SCRIPT, List.of(key), "1", "location:20", "1");
+            verify(redisTemplate, times(2))
+                    .execute(OccupancyCounter.INCREMENT_SCRIPT, List.of(key), "1", "space:2", "1");
+        }
+    }
+
+    @Nested
+    @DisplayName("counts 메서드는")
+    class CountsTestCase {
+        @Test
+        void Redis_합계에_보내지_않은_같은_세대의_증감을_더한다() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(generationKey)).thenReturn("1");
+            when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(key)).thenReturn(Map.of(
+                    OccupancyCounter.GENERATION_FIELD, "1", "space:1", "3", "location:10", "3", "floor:1", "3"));
+            occupancyCounter.move(companyName, null, multiBox);
+
+            // when
+            OccupancyCountResponseDto result = occupancyCounter.counts(companyName);
+
+            // then
+            assertThat(result.getLocations()).containsEntry(10L, 4L);
+            assertThat(result.getSpaces()).containsEntry(1L, 4L);
+            assertThat(result.getFloors()).containsEntry(1L, 4L);
+        }
+
+        @Test
+        void 이전_세대의_증감은_더하지_않는다() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(generationKey)).thenReturn("1");
+            when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(key)).thenReturn(Map.of(
+                    OccupancyCounter.GENERATION_FIELD, "2", "location:10", "3"));
+            occupancyCounter.move(companyName, null, multiBox);
+
+            // when
+            OccupancyCountResponseDto result = occupancyCounter.counts(companyName);
+
+            // then
+            assertThat(result.getLocations()).containsExactlyEntriesOf(Map.of(10L, 3L));
+        }
+
+        @Test
+        void 해시가_없으면_세대를_올리고_DB_집계로_만든다() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.increment(generationKey)).thenReturn(3L);
+            when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(key)).thenReturn(Map.of());
+            when(userLocationRepository.countAllByCompanyName(companyName)).thenReturn(List.of(
+                    row(10L, 1L, 1L, 5L), row(11L, 1L, 1L, 2L), row(20L, 2L, null, 1L)));
+
+            // when
+            OccupancyCountResponseDto result = occupancyCounter.counts(companyName);
+
+            // then
+            assertThat(result.getFloors()).containsExactlyEntriesOf(Map.of(1L, 7L));
+            assertThat(result.getSpaces()).containsEntry(1L, 7L).containsEntry(2L, 1L);
+            assertThat(result.getLocations()).hasSize(3);
+
+            ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+            verify(redisTemplate).execute(eq(OccupancyCounter.REBUILD_SCRIPT), eq(List.of(key, generationKey)),
+                    args.capture());
+            assertThat(args.getAllValues()).startsWith("3", OccupancyCounter.GENERATION_FIELD, "3")
+                    .containsSequence("space:1", "7");
+        }
+
+        @Test
+        void Redis_조회에_실패하면_DB_집계로_응답한다() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(generationKey)).thenReturn("1");
+            when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(key)).thenThrow(new RedisConnectionFailureException("down"));
+            when(userLocationRepository.countAllByCompanyName(companyName)).thenReturn(List.of(row(20L, 2L, null, 1L)));
+            occupancyCounter.move(companyName, null, box);
+
+            // when
+            OccupancyCountResponseDto result = occupancyCounter.counts(companyName);
+
+            // then
+            assertThat(result.getLocations()).containsExactlyEntriesOf(Map.of(20L, 1L));
+            verify(redisTemplate, never()).execute(eq(OccupancyCounter.INCREMENT_SCRIPT), anyList(), any());
+        }
+    }
+
+    private OccupancyCountWrapper row(Long locationId, Long spaceId, Long floorId, Long count) {
+        return new OccupancyCountWrapper() {
+            @Override
+            public Long getLocationId() {
+                return locationId;
+            }
+
+            @Override
+            public Long getSpaceId() {
+                return spaceId;
+            }
+
+            @Override
+            public Long getFloorId() {
+                return floorId;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.entity.Box;
+import com.example.chillisauce.spaces.entity.Space;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.Box_생성;
+import static com.example.chillisauce.fixture.FixtureFactory.Space_생성_아이디_지정;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpaceCacheEvictor 클래스")
+class SpaceCacheEvictorTest {
+    ConcurrentMapCacheManager cacheManager;
+    SpaceCacheEvictor spaceCacheEvictor;
+    Cache spaceCache;
+    Cache floorCache;
+    Cache layoutCache;
+    Cache occupancyCache;
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new ConcurrentMapCacheManager(SpaceCacheEvictor.SPACE_CACHE, SpaceCacheEvictor.FLOOR_CACHE,
+                SpaceCacheEvictor.LAYOUT_CACHE, SpaceCacheEvictor.OCCUPANCY_CACHE);
+        spaceCacheEvictor = new SpaceCacheEvictor(cacheManager);
+        spaceCache = cacheManager.getCache(SpaceCacheEvictor.SPACE_CACHE);
+        floorCache = cacheManager.getCache(SpaceCacheEvictor.FLOOR_CACHE);
+        layoutCache = cacheManager.getCache(SpaceCacheEvictor.LAYOUT_CACHE);
+        occupancyCache = cacheManager.getCache(SpaceCacheEvictor.OCCUPANCY_CACHE);
+
+        spaceCache.put("A", "spaceList");
+        spaceCache.put("B", "spaceList");
+        floorCache.put("A", "floorList");
+        floorCache.put("B", "floorList");
+        for (String key : List.of("A_1", "A_2", "B_1")) {
+            layoutCache.put(key, "layout");
+            occupancyCache.put(key, "occupancy");
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 메서드는")
+    class EvictTestCase {
+        @Test
+        void 해당_공간의_배치도와_점유_정보만_삭제한다() {
+            // when
+            spaceCacheEvictor.evictSpace("A", 1L);
+
+            // then
+            assertThat(layoutCache.get("A_1")).isNull();
+            assertThat(occupancyCache.get("A_1")).isNull();
+            assertThat(layoutCache.get("A_2")).isNotNull();
+            assertThat(layoutCache.get("B_1")).isNotNull();
+            assertThat(spaceCache.get("A")).isNotNull();
+            assertThat(floorCache.get("A")).isNotNull();
+        }
+
+        @Test
+        void 점유_정보만_삭제하고_배치도는_유지한다() {
+            // given
+            Space space = Space_생성_아이디_지정(1L);
+            Box box = Box_생성();
+            space.addLocation(box);
+
+            // when
+            spaceCacheEvictor.evictOccupancy("A", box);
+
+            // then
+            assertThat(occupancyCache.get("A_1")).isNull();
+            assertThat(layoutCache.get("A_1")).isNotNull();
+            assertThat(occupancyCache.get("A_2")).isNotNull();
+        }
+
+        @Test
+        void 로케이션이_속한_공간_키를_삭제한다() {
+            // given
+            Space space = Space_생성_아이디_지정(2L);
+            Box box = Box_생성();
+            space.addLocation(box);
+
+            // when
+            spaceCacheEvictor.evictLocation("A", box);
+
+            // then
+            assertThat(layoutCache.get("A_2")).isNull();
+            assertThat(layoutCache.get("A_1")).isNotNull();
+        }
+
+        @Test
+        void 공간이_없는_로케이션은_무시한다() {
+            // when
+            spaceCacheEvictor.evictLocation("A", Box_생성());
+            spaceCacheEvictor.evictOccupancy("A", Box_생성());
+
+            // then
+            assertThat(layoutCache.get("A_1")).isNotNull();
+            assertThat(occupancyCache.get("A_2")).isNotNull();
+        }
+
+        @Test
+        void 회사의_공간_목록과_층_목록만_삭제한다() {
+            // when
+            spaceCacheEvictor.evictSpaceList("A");
+
+            // then
+            assertThat(spaceCache.get("A")).isNull();
+            assertThat(floorCache.get("A")).isNull();
+            assertThat(layoutCache.get("A_1")).isNotNull();
+            assertThat(spaceCache.get("B")).isNotNull();
+            assertThat(floorCache.get("B")).isNotNull();
+        }
+
+        @Test
+        void 회사의_층_목록만_삭제한다() {
+            // when
+            spaceCacheEvictor.evictFloorList("A");
+
+            // then
+            assertThat(floorCache.get("A")).isNull();
+            assertThat(spaceCache.get("A")).isNotNull();
+        }
+
+        @Test
+        void 트랜잭션_중이면_커밋_이후에_삭제한다() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            spaceCacheEvictor.evictSpace("A", 1L);
+
+            // then
+            assertThat(layoutCache.get("A_1")).isNotNull();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(layoutCache.get("A_1")).isNull();
+        }
+    }
+}
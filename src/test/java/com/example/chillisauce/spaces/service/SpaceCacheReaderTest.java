@@ -0,0 +1,95 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.dto.response.SpaceOccupancyDto;
+import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.repository.SpaceRepository;
+import com.example.chillisauce.users.entity.Companies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpaceCacheReader 클래스")
+class SpaceCacheReaderTest {
+    @Mock
+    SpaceRepository spaceRepository;
+    @InjectMocks
+    SpaceCacheReader spaceCacheReader;
+
+    Companies companies = Company_생성();
+    Space space = Space_생성_아이디_지정_회사_지정(1L, companies);
+
+    @Nested
+    @DisplayName("getLayout 메서드는")
+    class GetLayoutTestCase {
+        @Test
+        void 회사_소속_공간이면_배치도를_반환한다() {
+            // given
+            List<SpaceResponseDto> layout = List.of(new SpaceResponseDto(space));
+            when(spaceRepository.findById(space.getId())).thenReturn(Optional.of(space));
+            when(spaceRepository.getSpaceLayout(space.getId())).thenReturn(layout);
+
+            // when
+            List<SpaceResponseDto> result = spaceCacheReader.getLayout(companies.getCompanyName(), space.getId());
+
+            // then
+            assertThat(result).isSameAs(layout);
+        }
+
+        @Test
+        void 공간이_없으면_예외가_발생한다() {
+            // given
+            when(spaceRepository.findById(space.getId())).thenReturn(Optional.empty());
+
+            // when
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> spaceCacheReader.getLayout(companies.getCompanyName(), space.getId()));
+
+            // then
+            assertEquals(SpaceErrorCode.SPACE_NOT_FOUND, exception.getErrorCode());
+        }
+
+        @Test
+        void 다른_회사의_공간이면_예외가_발생한다() {
+            // given
+            when(spaceRepository.findById(space.getId())).thenReturn(Optional.of(space));
+
+            // when
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> spaceCacheReader.getLayout(Different_Company_생성().getCompanyName(), space.getId()));
+
+            // then
+            assertEquals(SpaceErrorCode.SPACE_DOES_NOT_BELONG_TO_COMPANY, exception.getErrorCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("getOccupancy 메서드는")
+    class GetOccupancyTestCase {
+        @Test
+        void 점유_정보를_반환한다() {
+            // given
+            SpaceOccupancyDto occupancy = new SpaceOccupancyDto();
+            when(spaceRepository.getSpaceOccupancy(space.getId())).thenReturn(occupancy);
+
+            // when, then
+            assertThat(spaceCacheReader.getOccupancy(companies.getCompanyName(), space.getId())).isSameAs(occupancy);
+        }
+    }
+}
@@ -2,10 +2,17 @@ package com.example.chillisauce.spaces.service;
 
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.SpaceRequestDto;
+import com.example.chillisauce.reservations.dto.response.ReservationResponse;
+import com.example.chillisauce.spaces.dto.response.BoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.MrResponseDto;
+import com.example.chillisauce.spaces.dto.response.MultiBoxResponseDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
+import com.example.chillisauce.spaces.dto.response.UserLocationResponseDto;
+import com.example.chillisauce.spaces.dto.response.SpaceOccupancyDto;
 import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
 import com.example.chillisauce.spaces.entity.Floor;
 import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.entity.UserLocation;
 import com.example.chillisauce.spaces.exception.SpaceErrorCode;
 import com.example.chillisauce.spaces.exception.SpaceException;
 import com.example.chillisauce.spaces.repository.FloorRepository;
@@ -22,8 +29,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -49,6 +58,10 @@ public class SpaceServiceTest {
     private FloorRepository floorRepository;
     @InjectMocks
     private SpaceService spaceService;
+    @Mock
+    private SpaceCacheEvictor spaceCacheEvictor;
+    @Mock
+    private SpaceCacheReader spaceCacheReader;
 
 
     @Nested
@@ -113,8 +126,8 @@ public class SpaceServiceTest {
         void Space_공간_선택_조회() {
             //given
             List<Space> spaceList = Collections.singletonList(space);
-            when(spaceRepository.getSpacesList(space.getId())).thenReturn(spaceList.stream().map(SpaceResponseDto::new).collect(Collectors.toList()));
-            when(spaceRepository.findById(eq(space.getId()))).thenReturn(Optional.of(space));
+            when(spaceCacheReader.getLayout(companies.getCompanyName(), space.getId())).thenReturn(spaceList.stream().map(SpaceResponseDto::new).collect(Collectors.toList()));
+            when(spaceCacheReader.getOccupancy(companies.getCompanyName(), space.getId())).thenReturn(new SpaceOccupancyDto());
             //when
             List<SpaceResponseDto> result = spaceService.getSpacelist(companies.getCompanyName(), space.getId(), details);
 
@@ -130,8 +143,8 @@ public class SpaceServiceTest {
         void Space_공간_선택_조회_Floor_null() {
             //given
             List<Space> spaceList = Collections.singletonList(space);
-            when(spaceRepository.getSpacesList(space.getId())).thenReturn(spaceList.stream().map(SpaceResponseDto::new).collect(Collectors.toList()));
-            when(spaceRepository.findById(space.getId())).thenReturn(Optional.of(space));
+            when(spaceCacheReader.getLayout(companies.getCompanyName(), space.getId())).thenReturn(spaceList.stream().map(SpaceResponseDto::new).collect(Collectors.toList()));
+            when(spaceCacheReader.getOccupancy(companies.getCompanyName(), space.getId())).thenReturn(new SpaceOccupancyDto());
             //when
             List<SpaceResponseDto> result = spaceService.getSpacelist(companies.getCompanyName(), space.getId(), details);
 
@@ -357,6 +370,41 @@ public class SpaceServiceTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("getSpacelist 메서드는")
+    class GetSpacelistTestCase {
+        Companies companies = Company_생성();
+        UserDetailsImpl details = details_권한_ADMIN_유저_네임_NULL(companies);
+
+        @Test
+        void 배치도에_점유_정보를_입힌_사본을_반환한다() {
+            // given
+            SpaceResponseDto layout = new SpaceResponseDto(1L, "testSpace", null, null,
+                    List.of(new BoxResponseDto(10L, "box", "1", "1", null)),
+                    List.of(new MrResponseDto(20L, "mr", "2", "2")),
+                    List.of(new MultiBoxResponseDto(30L, "multiBox", "3", "3", null)));
+            LocalDateTime start = LocalDateTime.of(2023, 4, 1, 10, 0);
+            SpaceOccupancyDto occupancy = new SpaceOccupancyDto(
+                    Map.of(10L, List.of(new UserLocationResponseDto(UserLocation.builder().username("user1").build())),
+                            30L, List.of(new UserLocationResponseDto(UserLocation.builder().username("user2").build()))),
+                    Map.of(20L, List.of(new ReservationResponse(start, start.plusMinutes(59), null))));
+            when(spaceCacheReader.getLayout(companies.getCompanyName(), 1L)).thenReturn(List.of(layout));
+            when(spaceCacheReader.getOccupancy(companies.getCompanyName(), 1L)).thenReturn(occupancy);
+
+            // when
+            List<SpaceResponseDto> result = spaceService.getSpacelist(companies.getCompanyName(), 1L, details);
+
+            // then
+            SpaceResponseDto space = result.get(0);
+            assertThat(space.getBoxList().get(0).getUsername()).isEqualTo("user1");
+            assertThat(space.getMrList().get(0).getReservationList()).hasSize(1);
+            assertThat(space.getMultiBoxList().get(0).getUserlist()).extracting("username").containsExactly("user2");
+            // 캐시된 배치도는 그대로 유지
+            assertThat(layout.getBoxList().get(0).getUsername()).isNull();
+            assertThat(layout.getMrList().get(0).getReservationList()).isNull();
+        }
+    }
 }
 
 
@@ -1,5 +1,6 @@
 package com.example.chillisauce.users.controller;
 
+import com.example.chillisauce.paging.CursorRequest;
 import com.example.chillisauce.users.dto.request.RoleDeptUpdateRequestDto;
 import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.dto.response.UserListResponseDto;
@@ -73,7 +74,7 @@ class AdminControllerTest {
         List<UserDetailResponseDto> response = new ArrayList<>();
         response.add(userOne);
         response.add(userTwo);
-        return new UserListResponseDto(response);
+        return new UserListResponseDto(response, CursorRequest.encode(1L));
     }
 
     @Nested
@@ -85,7 +86,7 @@ class AdminControllerTest {
         void success1() throws Exception {
             //given
             UserListResponseDto responseDto = getUserList();
-            Mockito.when(adminService.getAllUsers(any())).thenReturn(responseDto);
+            Mockito.when(adminService.getAllUsers(any(), any())).thenReturn(responseDto);
             //when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders
                     .get("/admin/users")
@@ -105,7 +106,8 @@ class AdminControllerTest {
                                     fieldWithPath("data.userList[].userId").type(JsonFieldType.NUMBER).description("유저 id"),
                                     fieldWithPath("data.userList[].email").type(JsonFieldType.STRING).description("유저 이메일"),
                                     fieldWithPath("data.userList[].username").type(JsonFieldType.STRING).description("유저 이름"),
-                                    fieldWithPath("data.userList[].role").type(JsonFieldType.STRING).description("유저 권한")
+                                    fieldWithPath("data.userList[].role").type(JsonFieldType.STRING).description("유저 권한"),
+                                    fieldWithPath("data.nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서").optional()
                             )
                     ));
         }
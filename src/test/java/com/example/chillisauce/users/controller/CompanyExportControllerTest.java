@@ -0,0 +1,80 @@
+package com.example.chillisauce.users.controller;
+
+import com.example.chillisauce.users.service.CompanyExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
+class CompanyExportControllerTest {
+    @InjectMocks
+    private CompanyExportController companyExportController;
+    @Mock
+    private CompanyExportService companyExportService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void init(RestDocumentationContextProvider restDocumentation) {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(companyExportController)
+                .apply(documentationConfiguration(restDocumentation))
+                .build();
+    }
+
+    @Test
+    @WithMockUser
+    void 회사_데이터_내보내기_성공() throws Exception {
+        //given
+        String companyName = "test";
+        String body = "{\"type\":\"floor\",\"floorId\":1,\"floorName\":\"1층\"}\n";
+        when(companyExportService.checkExportable(any())).thenReturn(companyName);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(companyExportService).export(eq(companyName), any());
+
+        //when
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/admin/export")
+                        .header("Authorization", "Bearer Token")
+                        .accept(CompanyExportController.NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"export.ndjson\""))
+                .andExpect(content().bytes(body.getBytes(StandardCharsets.UTF_8)))
+                .andDo(document("get-company-export",
+                        getDocumentRequest(),
+                        getDocumentResponse()
+                ));
+    }
+}
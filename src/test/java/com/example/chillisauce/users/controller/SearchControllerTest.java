@@ -72,11 +72,12 @@ class SearchControllerTest {
         @WithMockUser
         void 문자열을_포함하는_유저목록을_반환한다() throws Exception {
             // given
-            when(searchService.searchUser(any(), any())).thenReturn(response);
+            when(searchService.searchUser(any(), any(), any(), any())).thenReturn(response);
 
             // when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
                     .param("name", "홍")
+                    .param("limit", "5")
                     .header("Authorization", "Bearer Token")
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON));
@@ -98,6 +99,38 @@ class SearchControllerTest {
                     ));
         }
 
+        @Test
+        @WithMockUser
+        void 초성으로_시작하는_유저목록을_반환한다() throws Exception {
+            // given
+            when(searchService.searchUser(any(), any(), any(), any())).thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("name", "ㅎㄱ")
+                    .param("limit", "5")
+                    .param("mode", "INITIAL")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-user-initial-search-result",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과값"),
+                                    fieldWithPath("data[].userId").type(JsonFieldType.NUMBER).description("유저 id"),
+                                    fieldWithPath("data[].email").type(JsonFieldType.STRING).description("유저 이메일"),
+                                    fieldWithPath("data[].username").type(JsonFieldType.STRING).description("이름"),
+                                    fieldWithPath("data[].role").type(JsonFieldType.STRING).description("권한")
+                            )
+                    ));
+        }
+
         // 유저 검색 결과 반환
         private List<UserDetailResponseDto> getUserList() {
             UserDetailResponseDto userOne = UserDetailResponseDto.builder()
@@ -0,0 +1,57 @@
+package com.example.chillisauce.users.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChoseongTrie 클래스")
+class ChoseongTrieTest {
+    ChoseongTrie trie = new ChoseongTrie();
+
+    @Test
+    void 접두어로_시작하는_키의_id를_모두_반환한다() {
+        // given
+        trie.add("ㅎㄱㄷ", 1L);
+        trie.add("ㅎㄱㄷㅈ", 2L);
+        trie.add("ㅎㅅ", 3L);
+        trie.add("ㄱㅊㅅ", 4L);
+        trie.add("ㅎㄱㄷ", 1L);
+
+        // when, then
+        assertThat(trie.startsWith("ㅎ")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(trie.startsWith("ㅎㄱ")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(trie.startsWith("ㅎㄱㄷㅈ")).containsExactly(2L);
+        assertThat(trie.startsWith("ㅂ")).isEmpty();
+    }
+
+    @Test
+    void 삭제한_id는_반환하지_않는다() {
+        // given
+        trie.add("ㅎㄱㄷ", 1L);
+        trie.add("ㅎㄱㄷㅈ", 2L);
+        trie.add("ㅎㅅ", 3L);
+
+        // when
+        trie.remove("ㅎㄱㄷㅈ", 2L);
+        trie.remove("ㅎㅅ", 3L);
+        trie.remove("ㅂㅂ", 9L);
+
+        // then
+        assertThat(trie.startsWith("ㅎ")).containsExactly(1L);
+        assertThat(trie.startsWith("ㅎㄱㄷㅈ")).isEmpty();
+        assertThat(trie.startsWith("ㅎㅅ")).isEmpty();
+    }
+
+    @Test
+    void 초기화하면_비어있다() {
+        // given
+        trie.add("ㅎㄱㄷ", 1L);
+
+        // when
+        trie.clear();
+
+        // then
+        assertThat(trie.startsWith("")).isEmpty();
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.chillisauce.users.index;
+
+import com.example.chillisauce.cache.CacheInvalidationBus;
+import com.example.chillisauce.cache.CacheInvalidationMessage;
+import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSearchIndex 클래스")
+class UserSearchIndexTest {
+    @Mock
+    UserRepository userRepository;
+    @Mock
+    CompanyRepository companyRepository;
+    @Mock
+    CacheInvalidationBus invalidationBus;
+    @InjectMocks
+    UserSearchIndex userSearchIndex;
+
+    Companies company = Company_생성();
+    String companyName = company.getCompanyName();
+    UserDetailResponseDto hong = new UserDetailResponseDto(1L, "hong@test.com", "홍길동", UserRoleEnum.USER);
+    UserDetailResponseDto ahn = new UserDetailResponseDto(2L, "ahn@test.com", "안재홍", UserRoleEnum.USER);
+    UserDetailResponseDto hongA = new UserDetailResponseDto(3L, "gildong@test.com", "홍", UserRoleEnum.MANAGER);
+    UserDetailResponseDto kim = new UserDetailResponseDto(4L, "hongkim@test.com", "김철수", UserRoleEnum.USER);
+
+    @Nested
+    @DisplayName("search 메서드는")
+    class SearchTestCase {
+        @Test
+        void 이름_일치_접두_포함_이메일_순으로_반환한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(kim, ahn, hong, hongA));
+
+            // when
+            List<UserDetailResponseDto> result = userSearchIndex.search(companyName, "홍", 10);
+
+            // then
+            assertThat(result).extracting(UserDetailResponseDto::getUserId).containsExactly(3L, 1L, 2L);
+        }
+
+        @Test
+        void 세_글자보다_긴_검색어는_후보를_확인하여_반환한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(kim, ahn, hong, hongA));
+
+            // when
+            List<UserDetailResponseDto> result = userSearchIndex.search(companyName, " HONG@ ", 10);
+
+            // then
+            assertThat(result).extracting(UserDetailResponseDto::getUserId).containsExactly(1L);
+            assertThat(userSearchIndex.search(companyName, "hongk", 10))
+                    .extracting(UserDetailResponseDto::getUserId).containsExactly(4L);
+            assertThat(userSearchIndex.search(companyName, "hongx", 10)).isEmpty();
+        }
+
+        @Test
+        void 개수를_제한하고_한_번만_적재한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(kim, ahn, hong, hongA));
+
+            // when
+            List<UserDetailResponseDto> result = userSearchIndex.search(companyName, "홍", 2);
+            userSearchIndex.search(companyName, "길동", 2);
+
+            // then
+            assertThat(result).extracting(UserDetailResponseDto::getUserId).containsExactly(3L, 1L);
+            verify(userRepository, times(1)).findAllSearchEntriesByCompanyName(companyName);
+        }
+
+        @Test
+        void 빈_검색어는_빈_목록을_반환한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(hong));
+
+            // when, then
+            assertThat(userSearchIndex.search(companyName, " ", 5)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("searchInitials 메서드는")
+    class SearchInitialsTestCase {
+        UserDetailResponseDto hwang = new UserDetailResponseDto(5L, "hwang@test.com", "황교동", UserRoleEnum.USER);
+        UserDetailResponseDto hongGildongJr = new UserDetailResponseDto(6L, "jr@test.com", "홍길동주", UserRoleEnum.USER);
+
+        @Test
+        void 초성으로_시작하는_유저를_이름_길이가_같은_순으로_반환한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName))
+                    .thenReturn(List.of(hongGildongJr, kim, hwang, hong, ahn));
+
+            // when
+            List<UserDetailResponseDto> result = userSearchIndex.searchInitials(companyName, "ㅎㄱㄷ", 10);
+
+            // then
+            assertThat(result).extracting(UserDetailResponseDto::getUserId).containsExactly(1L, 5L, 6L);
+        }
+
+        @Test
+        void 초성과_음절을_섞은_검색어도_반환한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName))
+                    .thenReturn(List.of(hongGildongJr, kim, hwang, hong, ahn));
+
+            // when
+            List<UserDetailResponseDto> result = userSearchIndex.searchInitials(companyName, "홍ㄱ", 10);
+
+            // then
+            assertThat(result).extracting(UserDetailResponseDto::getUserId).containsExactly(1L, 6L);
+        }
+
+        @Test
+        void 입력_중인_마지막_음절은_받침_전까지_맞으면_반환한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName))
+                    .thenReturn(List.of(hongGildongJr, kim, hwang, hong, ahn));
+
+            // when
+            List<UserDetailResponseDto> typing = userSearchIndex.searchInitials(companyName, "호", 10);
+            List<UserDetailResponseDto> middle = userSearchIndex.searchInitials(companyName, "호ㄱ", 10);
+
+            // then
+            assertThat(typing).extracting(UserDetailResponseDto::getUserId).containsExactly(1L, 6L);
+            assertThat(middle).isEmpty();
+        }
+
+        @Test
+        void 가입과_삭제를_초성_검색에도_반영한다() {
+            // given
+            User user = User.builder().id(7L).companies(company).email("su@test.com").username("한수아")
+                    .role(UserRoleEnum.USER).build();
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(hong));
+            userSearchIndex.searchInitials(companyName, "ㅎ", 5);
+
+            // when
+            userSearchIndex.put(user);
+            List<UserDetailResponseDto> added = userSearchIndex.searchInitials(companyName, "ㅎㅅ", 5);
+            userSearchIndex.remove(user);
+            List<UserDetailResponseDto> removed = userSearchIndex.searchInitials(companyName, "ㅎ", 5);
+
+            // then
+            assertThat(added).extracting(UserDetailResponseDto::getUserId).containsExactly(7L);
+            assertThat(removed).extracting(UserDetailResponseDto::getUserId).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("put, remove 메서드는")
+    class PutRemoveTestCase {
+        User user = User.builder().id(5L).companies(company).email("new@test.com").username("홍수아")
+                .role(UserRoleEnum.USER).build();
+
+        @Test
+        void 적재된_인덱스에_가입과_삭제를_반영한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(hong));
+            userSearchIndex.search(companyName, "홍", 5);
+
+            // when
+            userSearchIndex.put(user);
+            List<UserDetailResponseDto> added = userSearchIndex.search(companyName, "홍수", 5);
+            userSearchIndex.remove(user);
+            List<UserDetailResponseDto> removed = userSearchIndex.search(companyName, "홍수", 5);
+
+            // then
+            assertThat(added).extracting(UserDetailResponseDto::getUsername).containsExactly("홍수아");
+            assertThat(removed).isEmpty();
+            verify(userRepository, times(1)).findAllSearchEntriesByCompanyName(companyName);
+            verify(invalidationBus, times(2)).publish(UserSearchIndex.CACHE_NAME, companyName);
+        }
+
+        @Test
+        void 회사_무효화_후에는_다시_적재한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(hong));
+            userSearchIndex.search(companyName, "홍", 5);
+
+            // when
+            userSearchIndex.evictCompany(companyName);
+            userSearchIndex.search(companyName, "홍", 5);
+
+            // then
+            verify(userRepository, times(2)).findAllSearchEntriesByCompanyName(companyName);
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드는")
+    class OnMessageTestCase {
+        DefaultMessage message = new DefaultMessage(new byte[0], new byte[0]);
+
+        @Test
+        void 다른_인스턴스에서_바뀐_회사는_다음_검색때_다시_적재한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName))
+                    .thenReturn(List.of(hong), List.of(hong, ahn));
+            userSearchIndex.search(companyName, "홍", 5);
+            when(invalidationBus.decode(any()))
+                    .thenReturn(new CacheInvalidationMessage("other", UserSearchIndex.CACHE_NAME, companyName));
+
+            // when
+            userSearchIndex.onMessage(message, null);
+            List<UserDetailResponseDto> result = userSearchIndex.search(companyName, "홍", 5);
+
+            // then
+            assertThat(result).extracting(UserDetailResponseDto::getUserId).containsExactly(1L, 2L);
+            verify(userRepository, times(2)).findAllSearchEntriesByCompanyName(companyName);
+        }
+
+        @Test
+        void 다른_캐시의_메시지는_무시한다() {
+            // given
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(hong));
+            userSearchIndex.search(companyName, "홍", 5);
+            when(invalidationBus.decode(any()))
+                    .thenReturn(new CacheInvalidationMessage("other", "UserDetails", companyName));
+
+            // when
+            userSearchIndex.onMessage(message, null);
+            userSearchIndex.search(companyName, "홍", 5);
+
+            // then
+            verify(userRepository, times(1)).findAllSearchEntriesByCompanyName(companyName);
+        }
+    }
+
+    @Nested
+    @DisplayName("warmUp 메서드는")
+    class WarmUpTestCase {
+        @Test
+        void 전체_회사를_적재한다() {
+            // given
+            when(companyRepository.findAll()).thenReturn(List.of(company));
+            when(userRepository.findAllSearchEntriesByCompanyName(companyName)).thenReturn(List.of(hong));
+
+            // when
+            userSearchIndex.warmUp();
+            List<UserDetailResponseDto> result = userSearchIndex.search(companyName, "길동", 5);
+
+            // then
+            assertThat(result).extracting(UserDetailResponseDto::getUserId).containsExactly(1L);
+            verify(userRepository, times(1)).findAllSearchEntriesByCompanyName(companyName);
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package com.example.chillisauce.users.repository;
 
 import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.schedules.entity.Schedule;
+import com.example.chillisauce.schedules.entity.ScheduleOutbox;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.QCompanies;
 import com.example.chillisauce.users.entity.QUser;
@@ -20,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -58,7 +67,6 @@ class UserRepositoryImplTest {
 //    private final User user10 = User_USER권한_생성_아이디_이메일_이름_지정(10L, company, "test10@test10.com", "홍길동");
     QUser qUser = QUser.user;
     QCompanies qcompany = QCompanies.companies;
-    public static final Long MAX_SEARCH_RESULTS = 5L;
 
     @Nested
     @DisplayName("성공 케이스")
@@ -90,21 +98,80 @@ class UserRepositoryImplTest {
         }
 
         @Test
-        void 회원_검색() {
+        void 회원_커서_조회() {
+            //given
+            List<User> userList = Stream.of(user2, user3, user4).toList();
+            companyRepository.save(company);
+            userRepository.saveAll(userList);
+            //when
+            List<User> first = userRepository.findAllByCompanyNameAfter(company.getCompanyName(), 0L, 2);
+            List<User> next = userRepository.findAllByCompanyNameAfter(company.getCompanyName(), first.get(1).getId(), 2);
+            //then
+            assertThat(first.size()).isEqualTo(2);
+            assertThat(next.size()).isEqualTo(1);
+            assertThat(next.get(0).getId()).isEqualTo(user4.getId());
+        }
+
+        @Test
+        void 회원_검색_인덱스_조회() {
             //given
-            String searchName = "차";
             List<User> userList = Stream.of(user1, user2, user3, user4, user5, user6).toList();
             companyRepository.save(company);
             userRepository.saveAll(userList);
             //when
-            List<User> result = userRepository.findAllByUsernameContainingAndCompanies(searchName, company.getCompanyName());
+            List<UserDetailResponseDto> result = userRepository.findAllSearchEntriesByCompanyName(company.getCompanyName());
             //then
-            assertThat(result).isNotNull();
-            assertThat(result.size()).isEqualTo(2);
-            for (User user : result) {
-                assertThat(user.getUsername()).contains(searchName);
-                assertThat(user.getCompanies().getCompanyName()).isEqualTo(company.getCompanyName());
-            }
+            assertThat(result.size()).isEqualTo(6);
+            UserDetailResponseDto first = result.stream()
+                    .filter(x -> x.getUserId().equals(user1.getId())).findFirst().orElseThrow();
+            assertThat(first.getUsername()).isEqualTo("차범근");
+            assertThat(first.getEmail()).isEqualTo("test1@test1.com");
+            assertThat(first.getRole()).isEqualTo(user1.getRole());
+        }
+
+        @Test
+        void 회원_활동_일괄_삭제() {
+            //given - user1 이 연 회의에 user2 가 참석, user2 가 연 회의에 user1 이 참석
+            companyRepository.save(company);
+            userRepository.saveAll(List.of(user1, user2));
+            Mr mr = Mr_생성();
+            em.persist(mr);
+            LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+            Reservation organized = Reservation_생성(user1, mr, start, start.plusMinutes(59));
+            Reservation attended = Reservation_생성(user2, mr, start.plusHours(1), start.plusHours(1).plusMinutes(59));
+            em.persist(organized);
+            em.persist(attended);
+            em.persist(new ReservationUser(user2, organized));
+            em.persist(new ReservationUser(user1, attended));
+            em.persist(new ReservationSlot(mr.getId(), start, organized));
+            em.persist(new ScheduleOutbox(organized.getId()));
+            em.persist(new Schedule(organized, user2));
+            em.persist(new Schedule(attended, user1));
+            em.persist(new Schedule(attended, user2));
+            em.persist(new UserLocation(mr, user1));
+            em.flush();
+
+            //when
+            List<Long> meetingRoomIds = userRepository.findReservedMeetingRoomIds(user1.getId());
+            userRepository.deleteAllActivitiesByUserId(user1.getId());
+            em.clear();
+
+            //then
+            assertThat(meetingRoomIds).isEqualTo(List.of(mr.getId()));
+            assertThat(count("select count(r) from Reservation r")).isEqualTo(1L);
+            assertThat(count("select count(ru) from ReservationUser ru")).isEqualTo(0L);
+            assertThat(count("select count(s) from ReservationSlot s")).isEqualTo(0L);
+            assertThat(count("select count(o) from ScheduleOutbox o")).isEqualTo(0L);
+            assertThat(count("select count(ul) from UserLocation ul")).isEqualTo(0L);
+            // user2 가 연 회의의 user2 스케줄만 남음
+            List<Schedule> schedules = em.createQuery("select s from Schedule s", Schedule.class).getResultList();
+            assertThat(schedules.size()).isEqualTo(1);
+            assertThat(schedules.get(0).getReservationId()).isEqualTo(attended.getId());
+            assertThat(schedules.get(0).getUser().getId()).isEqualTo(user2.getId());
+        }
+
+        private Long count(String jpql) {
+            return em.createQuery(jpql, Long.class).getSingleResult();
         }
     }
 
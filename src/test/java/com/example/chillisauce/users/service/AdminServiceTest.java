@@ -1,12 +1,14 @@
 package com.example.chillisauce.users.service;
 
-import com.example.chillisauce.reservations.entity.Reservation;
-import com.example.chillisauce.reservations.repository.ReservationRepository;
-import com.example.chillisauce.schedules.entity.Schedule;
-import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.paging.CursorRequest;
+import com.example.chillisauce.reservations.index.MeetingRoomReservationIndex;
 import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.entity.Box;
 import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.event.LocationChangedEvent;
 import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import com.example.chillisauce.spaces.service.OccupancyCounter;
+import com.example.chillisauce.spaces.service.SpaceCacheEvictor;
 import com.example.chillisauce.users.dto.request.RoleDeptUpdateRequestDto;
 import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.dto.response.UserListResponseDto;
@@ -14,16 +16,19 @@ import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.exception.UserException;
+import com.example.chillisauce.users.index.UserSearchIndex;
 import com.example.chillisauce.users.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -44,15 +49,21 @@ class AdminServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private ScheduleRepository scheduleRepository;
+    CacheManager cacheManager;
     @Mock
-    private ReservationRepository reservationRepository;
+    Cache userDetailsCache;
     @Mock
-    private UserLocationRepository userLocationRepository;
+    MeetingRoomReservationIndex reservationIndex;
     @Mock
-    CacheManager cacheManager;
+    UserSearchIndex userSearchIndex;
     @Mock
-    Cache userDetailsCache;
+    UserLocationRepository userLocationRepository;
+    @Mock
+    OccupancyCounter occupancyCounter;
+    @Mock
+    SpaceCacheEvictor spaceCacheEvictor;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     private Companies company = Company_생성();
     private User user = User_USER권한_생성(company);
@@ -88,10 +99,10 @@ class AdminServiceTest {
                     User.builder().id(1L).email("123@123").build(),
                     User.builder().id(1L).email("123@123").build(),
                     User.builder().id(1L).email("123@123").build());
-            when(userRepository.findAllByCompanies_CompanyName(admin.getCompanies().getCompanyName())).thenReturn(allUsers);
+            when(userRepository.findAllByCompanyNameAfter(admin.getCompanies().getCompanyName(), 0L, CursorRequest.DEFAULT_LIMIT + 1)).thenReturn(allUsers);
 
             //when
-            UserListResponseDto result = adminService.getAllUsers(details);
+            UserListResponseDto result = adminService.getAllUsers(CursorRequest.first(), details);
 
             //then
             assertThat(result).isNotNull();
@@ -120,6 +131,7 @@ class AdminServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getRole()).isEqualTo(UserRoleEnum.MANAGER);
             assertThat(user.getRole()).isEqualTo(UserRoleEnum.MANAGER);
+            verify(userSearchIndex).put(user);
 
             adminService.evictCacheByEmail(user.getEmail());
             verify(userDetailsCache, times(1)).evict(user.getEmail());
@@ -132,35 +144,46 @@ class AdminServiceTest {
             //given
             UserDetailsImpl details = new UserDetailsImpl(admin, admin.getUsername());
 
-
-            Schedule schedule = Schedule.builder()
-                    .user(user)
-                    .build();
-
-            Reservation reservation = Reservation.builder()
-                    .user(user)
-                    .build();
-
-            UserLocation location = UserLocation.builder()
-                    .userId(2L).
-                    build();
-
             //when
             when(userRepository.findById(any())).thenReturn(Optional.of(user));
-            when(scheduleRepository.findAllByUserId(any())).thenReturn(List.of(schedule));
-            when(reservationRepository.findAllByUserId(any())).thenReturn(List.of(reservation));
-            when(userLocationRepository.findByUserId(any())).thenReturn(Optional.of(location));
+            when(userRepository.findReservedMeetingRoomIds(any())).thenReturn(List.of(1L, 2L));
             when(cacheManager.getCache("UserDetails")).thenReturn(userDetailsCache);
             String result = adminService.deleteUser(2L, details);
 
             //then
             assertThat(result).isEqualTo("사원 삭제 성공");
 
-            verify(scheduleRepository).deleteAll(List.of(schedule));
-            verify(reservationRepository).deleteAll(List.of(reservation));
-            verify(userLocationRepository).delete(location);
+            verify(userRepository).deleteAllActivitiesByUserId(2L);
+            verify(reservationIndex).evictRoom(1L);
+            verify(reservationIndex).evictRoom(2L);
             verify(userRepository).delete(user);
+            verify(userSearchIndex).remove(user);
             verify(userDetailsCache, times(1)).evict(user.getEmail());
+            verify(occupancyCounter, never()).move(any(), any(), any());
+        }
+
+        @DisplayName("자리에 앉은 사원 삭제")
+        @Test
+        void success5() {
+            //given
+            UserDetailsImpl details = new UserDetailsImpl(admin, admin.getUsername());
+            Box box = Box_생성_아이디_지정(10L);
+            box.setSpace(Space_생성_아이디_지정(1L));
+            UserLocation userLocation = UserLocation_생성_Box(box, user2);
+
+            //when
+            when(userRepository.findById(any())).thenReturn(Optional.of(user2));
+            when(userLocationRepository.findByUserId(user2.getId())).thenReturn(Optional.of(userLocation));
+            when(cacheManager.getCache("UserDetails")).thenReturn(userDetailsCache);
+            adminService.deleteUser(user2.getId(), details);
+
+            //then
+            InOrder inOrder = inOrder(occupancyCounter, userRepository);
+            inOrder.verify(occupancyCounter).move(company.getCompanyName(), box, null);
+            inOrder.verify(userRepository).deleteAllActivitiesByUserId(user2.getId());
+            verify(spaceCacheEvictor).evictOccupancy(company.getCompanyName(), box);
+            verify(eventPublisher).publishEvent(argThat((LocationChangedEvent x) ->
+                    x.getFromLocationId().equals(10L) && x.getFromSpaceId().equals(1L) && x.getToLocationId() == null));
         }
 
     }
@@ -222,7 +245,7 @@ class AdminServiceTest {
 
             //when
             UserException exception = assertThrows(UserException.class, () -> {
-                adminService.getAllUsers(details);
+                adminService.getAllUsers(CursorRequest.first(), details);
             });
 
             //then
@@ -237,9 +260,9 @@ class AdminServiceTest {
             UserDetailsImpl details = new UserDetailsImpl(admin, admin.getUsername());
 
             //when
-            when(userRepository.findAllByCompanies_CompanyName(admin.getCompanies().getCompanyName())).thenReturn(Collections.emptyList());
+            when(userRepository.findAllByCompanyNameAfter(admin.getCompanies().getCompanyName(), 0L, CursorRequest.DEFAULT_LIMIT + 1)).thenReturn(Collections.emptyList());
 
-            UserListResponseDto result = adminService.getAllUsers(details);
+            UserListResponseDto result = adminService.getAllUsers(CursorRequest.first(), details);
 
             //then
             assertThat(result).isNotNull();
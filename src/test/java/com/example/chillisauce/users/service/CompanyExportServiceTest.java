@@ -0,0 +1,117 @@
+package com.example.chillisauce.users.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.dto.export.*;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.exception.UserException;
+import com.example.chillisauce.users.repository.CompanyExportRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyExportServiceTest {
+
+    private CompanyExportService companyExportService;
+
+    @Mock
+    private CompanyExportRepository companyExportRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final Companies company = Company_생성();
+
+    @BeforeEach
+    void init() {
+        companyExportService = new CompanyExportService(companyExportRepository, objectMapper);
+    }
+
+    @Nested
+    @DisplayName("성공 케이스")
+    class SuccessCase {
+        @Test
+        void 관리자는_내보내기_가능() {
+            //given
+            User admin = User_ADMIN권한_생성(company, "admin@test.com");
+            UserDetailsImpl details = new UserDetailsImpl(admin, admin.getUsername());
+
+            //when
+            String companyName = companyExportService.checkExportable(details);
+
+            //then
+            assertThat(companyName).isEqualTo(company.getCompanyName());
+        }
+
+        @Test
+        void 섹션_순서대로_한_줄씩_기록() throws Exception {
+            //given
+            String companyName = company.getCompanyName();
+            LocalDateTime start = LocalDateTime.of(2023, 4, 1, 10, 0);
+            AtomicBoolean closed = new AtomicBoolean(false);
+            when(companyExportRepository.streamFloors(companyName))
+                    .thenReturn(Stream.of(new FloorExportDto(1L, "1층")).onClose(() -> closed.set(true)));
+            when(companyExportRepository.streamSpaces(companyName))
+                    .thenReturn(Stream.of(new SpaceExportDto(2L, "공간", 1L)));
+            when(companyExportRepository.streamBoxes(companyName))
+                    .thenReturn(Stream.of(new LocationExportDto("box", 3L, "박스", "10", "20", 2L)));
+            when(companyExportRepository.streamMeetingRooms(companyName)).thenReturn(Stream.empty());
+            when(companyExportRepository.streamMultiBoxes(companyName)).thenReturn(Stream.empty());
+            when(companyExportRepository.streamUsers(companyName))
+                    .thenReturn(Stream.of(new UserExportDto(4L, "user@test.com", "유저", UserRoleEnum.USER)));
+            when(companyExportRepository.streamReservations(companyName))
+                    .thenReturn(Stream.of(new ReservationExportDto(5L, 4L, 6L, start, start.plusMinutes(59))));
+            when(companyExportRepository.streamSchedules(companyName))
+                    .thenReturn(Stream.of(new ScheduleExportDto(7L, 4L, 5L, "회의", "회의실", start, start.plusMinutes(59))));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            //when
+            companyExportService.export(companyName, out);
+
+            //then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(6);
+            assertThat(objectMapper.readTree(lines[0]).get("type").asText()).isEqualTo("floor");
+            JsonNode box = objectMapper.readTree(lines[2]);
+            assertThat(box.get("type").asText()).isEqualTo("location");
+            assertThat(box.get("locationType").asText()).isEqualTo("box");
+            JsonNode reservation = objectMapper.readTree(lines[4]);
+            assertThat(reservation.get("type").asText()).isEqualTo("reservation");
+            assertThat(reservation.get("start").asText()).isEqualTo("2023-04-01T10:00");
+            assertThat(objectMapper.readTree(lines[5]).get("type").asText()).isEqualTo("schedule");
+            assertThat(closed).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailCase {
+        @Test
+        void 일반_유저는_내보내기_불가() {
+            //given
+            User user = User_USER권한_생성(company);
+            UserDetailsImpl details = new UserDetailsImpl(user, user.getUsername());
+
+            //when, then
+            assertThrows(UserException.class, () -> companyExportService.checkExportable(details));
+        }
+    }
+}
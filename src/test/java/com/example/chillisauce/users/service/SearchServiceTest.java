@@ -4,8 +4,10 @@ import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.exception.UserException;
-import com.example.chillisauce.users.repository.UserRepository;
+import com.example.chillisauce.users.index.UserSearchIndex;
+import com.example.chillisauce.users.index.UserSearchMode;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +22,7 @@ import java.util.List;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,7 +32,7 @@ class SearchServiceTest {
     SearchService searchService;
 
     @Mock
-    UserRepository userRepository;
+    UserSearchIndex userSearchIndex;
 
     @Nested
     @DisplayName("searchUser 메서드는")
@@ -39,34 +42,60 @@ class SearchServiceTest {
         Companies company = Companies.builder().companyName("testCompany").build();
         User user = User.builder().email("tester@test.com").companies(company).username("test").build();
         UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
-        User findOne = User.builder().companies(company).username("홍길동").build();
-        User findTwo = User.builder().companies(company).username("안재홍").build();
+        UserDetailResponseDto findOne = new UserDetailResponseDto(1L, "one@test.com", "홍길동", UserRoleEnum.USER);
+        UserDetailResponseDto findTwo = new UserDetailResponseDto(2L, "two@test.com", "안재홍", UserRoleEnum.USER);
 
         @Test
         void 문자열에_포함된_유저를_반환한다() {
             // given
-            when(userRepository.findAllByUsernameContainingAndCompanies(eq(query), eq(company.getCompanyName())))
+            when(userSearchIndex.search(eq(company.getCompanyName()), eq(query), eq(SearchService.DEFAULT_LIMIT)))
                     .thenReturn(List.of(findOne, findTwo));
 
             // when
-            List<UserDetailResponseDto> result = searchService.searchUser(query, userDetails);
+            List<UserDetailResponseDto> result = searchService.searchUser(query, null, null, userDetails);
 
             // then
             Assertions.assertThat(result).filteredOn(x -> x.getUsername().contains(query)).hasSize(2);
         }
 
+        @Test
+        void 조회_개수는_최대값으로_제한한다() {
+            // given
+            when(userSearchIndex.search(eq(company.getCompanyName()), eq(query), eq(SearchService.MAX_LIMIT)))
+                    .thenReturn(List.of(findOne));
+
+            // when
+            searchService.searchUser(query, 1000, UserSearchMode.KEYWORD, userDetails);
+
+            // then
+            verify(userSearchIndex).search(company.getCompanyName(), query, SearchService.MAX_LIMIT);
+        }
+
+        @Test
+        void 초성_방식이면_초성_검색_결과를_반환한다() {
+            // given
+            when(userSearchIndex.searchInitials(eq(company.getCompanyName()), eq("ㅎㄱ"), eq(SearchService.DEFAULT_LIMIT)))
+                    .thenReturn(List.of(findOne));
+
+            // when
+            List<UserDetailResponseDto> result = searchService.searchUser("ㅎㄱ", null, UserSearchMode.INITIAL, userDetails);
+
+            // then
+            Assertions.assertThat(result).extracting(UserDetailResponseDto::getUsername).containsExactly("홍길동");
+        }
+
         @Test
         void 유저가_없으면_예외를_발생한다() {
             //given
-            when(userRepository.findAllByUsernameContainingAndCompanies(eq(query), eq(company.getCompanyName())))
+            when(userSearchIndex.search(eq(company.getCompanyName()), eq(query), eq(SearchService.DEFAULT_LIMIT)))
                     .thenReturn(List.of());
             //when
             UserException exception = assertThrows(UserException.class, () -> {
-                searchService.searchUser(query, userDetails);
+                searchService.searchUser(query, null, null, userDetails);
             });
             //then
             assertThat(exception).isNotNull();
             assertThat(exception.getErrorCode().getMessage()).isEqualTo("등록된 사용자가 없습니다");
         }
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import com.example.chillisauce.users.entity.User;
 import com.example.chillisauce.users.exception.UserException;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import com.example.chillisauce.users.repository.UserRepository;
+import com.example.chillisauce.users.index.UserSearchIndex;
 import com.example.chillisauce.users.util.BaseUserFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -40,6 +41,8 @@ class UserServiceTest {
     private BaseUserFactory baseUserFactory;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private UserSearchIndex userSearchIndex;
     @Spy
     private BCryptPasswordEncoder passwordEncoder;
 
@@ -74,6 +77,7 @@ class UserServiceTest {
             assertThat(result.getCertification()).isEqualTo(company.getCertification());
 
             verify(userRepository, times(1)).save(any(User.class));
+            verify(userSearchIndex).evictCompany(company.getCompanyName());
         }
 
         @DisplayName("사원 회원 가입")
@@ -95,6 +99,7 @@ class UserServiceTest {
             //then
             assertThat(result).isNotNull();
             assertThat("일반 회원 가입 성공").isEqualTo(result);
+            verify(userSearchIndex).put(any(User.class));
 
         }
 